@@ -0,0 +1,49 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * Deterministic benchmark geometries in WGS84 lon/lat.
+ */
+final class BenchmarkGeometries {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private static final double CENTER_X = 116.397;
+    private static final double CENTER_Y = 39.909;
+
+    private BenchmarkGeometries() {
+    }
+
+    /**
+     * Create a circular polygon with evenly spaced holes.
+     *
+     * @param vertices number of shell vertices (excluding the closing one)
+     * @param holes number of holes, each with a quarter of the shell's vertices (at least 4)
+     * @return the polygon
+     */
+    static Polygon polygon(int vertices, int holes) {
+        LinearRing shell = ring(CENTER_X, CENTER_Y, 0.1, vertices, false);
+        LinearRing[] interior = new LinearRing[holes];
+        for (int i = 0; i < holes; i++) {
+            double angle = 2 * Math.PI * i / holes;
+            interior[i] = ring(CENTER_X + 0.05 * Math.cos(angle), CENTER_Y + 0.05 * Math.sin(angle),
+                0.01, Math.max(4, vertices / 4), true);
+        }
+        return FACTORY.createPolygon(shell, interior);
+    }
+
+    private static LinearRing ring(double cx, double cy, double radius, int vertices, boolean clockwise) {
+        Coordinate[] coordinates = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices * (clockwise ? -1 : 1);
+            coordinates[i] = new Coordinate(cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+        }
+        coordinates[vertices] = coordinates[0].copy();
+        return FACTORY.createLinearRing(coordinates);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yoy0o.mybatis.geometry.jackson.GeometryJacksonModule;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeoJSON polygon serialization and deserialization through {@link GeometryJacksonModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoJsonBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int vertexCount;
+
+    @Param({"0", "4"})
+    public int holeCount;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new GeometryJacksonModule());
+
+    private Polygon polygon;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        polygon = BenchmarkGeometries.polygon(vertexCount, holeCount);
+        json = mapper.writeValueAsBytes(polygon);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(polygon);
+    }
+
+    @Benchmark
+    public Polygon deserialize() throws IOException {
+        return mapper.readValue(json, Polygon.class);
+    }
+}
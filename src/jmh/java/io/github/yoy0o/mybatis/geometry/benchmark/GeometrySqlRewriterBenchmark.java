@@ -0,0 +1,61 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import io.github.yoy0o.mybatis.geometry.interceptor.GeometrySqlRewriter;
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GeometrySqlRewriter#rewrite} on SELECT statements as generated by MyBatis-Plus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeometrySqlRewriterBenchmark {
+
+    private static final Set<String> GEOMETRY_COLUMNS = Set.of("location", "boundary");
+
+    private static final List<String> ALL_COLUMNS = List.of(
+        "id", "name", "code", "location", "boundary", "enabled", "deleted", "created_at", "updated_at");
+
+    /** selectList with a LambdaQueryWrapper */
+    private static final String EXPLICIT_SQL = "SELECT id,name,code,location,boundary,enabled,deleted,"
+        + "created_at,updated_at FROM doc_zone WHERE deleted=0 AND (enabled = ? AND code LIKE ?) "
+        + "ORDER BY updated_at DESC LIMIT ?";
+
+    /** Hand-written mapper statement */
+    private static final String STAR_SQL = "SELECT * FROM doc_zone WHERE deleted = 0 AND id IN (?, ?, ?)";
+
+    /** Joined statement with table aliases and functions */
+    private static final String JOIN_SQL = "SELECT z.id, z.name, z.location, COALESCE(z.code, r.code) AS code, "
+        + "r.boundary FROM doc_zone z LEFT JOIN doc_region r ON r.id = z.region_id WHERE z.enabled = ?";
+
+    @Param({"MYSQL", "POSTGRESQL"})
+    public DatabaseType databaseType;
+
+    private GeometrySqlRewriter rewriter;
+
+    @Setup
+    public void setUp() {
+        rewriter = new GeometrySqlRewriter(GeometryStrategyFactory.getStrategy(databaseType));
+    }
+
+    @Benchmark
+    public String explicitColumns() {
+        return rewriter.rewrite(EXPLICIT_SQL, GEOMETRY_COLUMNS, ALL_COLUMNS);
+    }
+
+    @Benchmark
+    public String selectStar() {
+        return rewriter.rewrite(STAR_SQL, GEOMETRY_COLUMNS, ALL_COLUMNS);
+    }
+
+    @Benchmark
+    public String joinWithAliases() {
+        return rewriter.rewrite(JOIN_SQL, GEOMETRY_COLUMNS, ALL_COLUMNS);
+    }
+}
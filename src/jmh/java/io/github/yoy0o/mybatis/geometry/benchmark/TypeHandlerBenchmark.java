@@ -0,0 +1,78 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import io.github.yoy0o.mybatis.geometry.handler.EncodedParameterCache;
+import io.github.yoy0o.mybatis.geometry.handler.PolygonTypeHandler;
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TypeHandler path every query goes through: {@code setNonNullParameter} (SRID defaulting,
+ * validation, encoded-parameter cache, strategy encoding) and {@code getNullableResult} (hex decode).
+ * JDBC objects are proxies that only record the bound value and return a fixed column value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeHandlerBenchmark {
+
+    private static final String COLUMN = "boundary";
+
+    @Param({"16", "256", "4096"})
+    public int vertexCount;
+
+    @Param({"MYSQL", "POSTGRESQL"})
+    public DatabaseType databaseType;
+
+    @Param({"false", "true"})
+    public boolean parameterCache;
+
+    private PolygonTypeHandler handler;
+    private Polygon polygon;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private Object bound;
+
+    @Setup
+    public void setUp() {
+        handler = new PolygonTypeHandler(WkbUtil.DEFAULT_SRID, GeometryStrategyFactory.getStrategy(databaseType));
+        polygon = BenchmarkGeometries.polygon(vertexCount, 0);
+        EncodedParameterCache.setDefault(parameterCache ? new EncodedParameterCache(64L << 20, 0) : null);
+
+        String selectHex = WkbUtil.toWkb(polygon);
+        statement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                // setBytes (MySQL) or setObject (PostGIS)
+                bound = args[1];
+                return null;
+            });
+        resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{ResultSet.class}, (proxy, method, args) -> selectHex);
+    }
+
+    @TearDown
+    public void tearDown() {
+        EncodedParameterCache.setDefault(null);
+    }
+
+    @Benchmark
+    public Object setParameter() throws SQLException {
+        // Unset SRID, as on geometries built without an SRID-aware factory
+        polygon.setSRID(0);
+        handler.setNonNullParameter(statement, 1, polygon, null);
+        return bound;
+    }
+
+    @Benchmark
+    public Polygon getResult() throws SQLException {
+        return handler.getNullableResult(resultSet, COLUMN);
+    }
+}
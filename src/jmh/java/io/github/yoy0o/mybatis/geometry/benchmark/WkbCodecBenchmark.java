@@ -0,0 +1,58 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import io.github.yoy0o.mybatis.geometry.codec.MySQLWkbCodec;
+import io.github.yoy0o.mybatis.geometry.codec.PostGISWkbCodec;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MySQLWkbCodec} and {@link PostGISWkbCodec} encode and decode of polygons.
+ * Decode input is the hex string the SELECT wrappers return (4-byte LE SRID + WKB) for both databases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WkbCodecBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int vertexCount;
+
+    @Param({"0", "4"})
+    public int holeCount;
+
+    private final MySQLWkbCodec mysql = new MySQLWkbCodec();
+    private final PostGISWkbCodec postgis = new PostGISWkbCodec();
+
+    private Polygon polygon;
+    private String selectHex;
+
+    @Setup
+    public void setUp() {
+        polygon = BenchmarkGeometries.polygon(vertexCount, holeCount);
+        selectHex = HexFormat.of().formatHex((byte[]) mysql.encode(polygon));
+    }
+
+    @Benchmark
+    public Object mysqlEncode() {
+        return mysql.encode(polygon);
+    }
+
+    @Benchmark
+    public Geometry mysqlDecode() {
+        return mysql.decode(selectHex);
+    }
+
+    @Benchmark
+    public Object postgisEncode() {
+        return postgis.encode(polygon);
+    }
+
+    @Benchmark
+    public Geometry postgisDecode() {
+        return postgis.decode(selectHex);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.yoy0o.mybatis.geometry.benchmark;
+
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WkbUtil} polygon encoding to hex and bytes, and decoding from hex.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WkbUtilBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int vertexCount;
+
+    @Param({"0", "4"})
+    public int holeCount;
+
+    private Polygon polygon;
+    private String hex;
+
+    @Setup
+    public void setUp() {
+        polygon = BenchmarkGeometries.polygon(vertexCount, holeCount);
+        hex = WkbUtil.toWkb(polygon);
+    }
+
+    @Benchmark
+    public String toWkb() {
+        return WkbUtil.toWkb(polygon);
+    }
+
+    @Benchmark
+    public byte[] toWkbBytes() {
+        return WkbUtil.toWkbBytes(polygon);
+    }
+
+    @Benchmark
+    public Geometry fromWkb() {
+        return WkbUtil.fromWkb(hex);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.yoy0o.mybatis.geometry.annotation;
+
+/**
+ * Spatial cell key encodings for auto-maintained key columns.
+ *
+ * <p>Both encodings are hierarchical strings: a key's prefixes are the keys of the enclosing
+ * cells, so a B-tree index on the key column answers "inside cell X" as a prefix range.</p>
+ *
+ * @see PointTableField#cellKey()
+ * @see PolygonTableField#cellKey()
+ */
+public enum CellKeyType {
+
+    /**
+     * Geohash in base32 ({@code 0-9b-z}); precision is the number of characters (1 to 12).
+     * 8 characters are cells of about 38 x 19 m.
+     */
+    GEOHASH(8, 12),
+
+    /**
+     * Bing Maps / Web Mercator tile quadkey ({@code 0-3}); precision is the zoom level (1 to 23).
+     * Level 18 tiles are about 150 m wide at the equator.
+     */
+    QUADKEY(18, 23);
+
+    private final int defaultPrecision;
+    private final int maxPrecision;
+
+    CellKeyType(int defaultPrecision, int maxPrecision) {
+        this.defaultPrecision = defaultPrecision;
+        this.maxPrecision = maxPrecision;
+    }
+
+    /**
+     * Get the precision used when the annotation does not set one.
+     *
+     * @return the default precision
+     */
+    public int getDefaultPrecision() {
+        return defaultPrecision;
+    }
+
+    /**
+     * Get the highest supported precision.
+     *
+     * @return the maximum precision
+     */
+    public int getMaxPrecision() {
+        return maxPrecision;
+    }
+}
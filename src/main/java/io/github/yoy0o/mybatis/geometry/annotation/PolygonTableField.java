@@ -20,10 +20,40 @@
  * 
  * <p>Note: The entity class must have {@code autoResultMap = true} in @TableName
  * for the TypeHandler to work correctly with SELECT queries.</p>
+ *
+ * <p><strong>Cell key column:</strong> {@link #cellKey()} names a sibling {@code String} property
+ * that holds the geohash or quadkey of the polygon centroid. It is filled on insert and update-by-entity
+ * by {@code CellKeyFillInterceptor}, and {@code SpatialLambdaQueryWrapper.cellKeyIntersects}
+ * turns bounding-box searches into prefix ranges on it. With a plain B-tree index on the key column
+ * this partitions rows spatially where a spatial index cannot be used (e.g. partitioned InnoDB tables).
+ * Coordinates must be WGS84 lon/lat.</p>
+ * <pre>{@code
+ * @TableName(value = "doc_zone", autoResultMap = true)
+ * public class Zone extends BaseEntity {
+ *     @PolygonTableField(cellKey = "cellKey", cellKeyType = CellKeyType.QUADKEY)
+ *     private Polygon boundary;
+ *     private String cellKey;
+ * }
+ * }</pre>
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
 @TableField(typeHandler = PolygonTypeHandler.class)
 public @interface PolygonTableField {
+
+    /**
+     * Entity property holding the cell key of the polygon centroid, or empty for none.
+     */
+    String cellKey() default "";
+
+    /**
+     * Encoding of the cell key.
+     */
+    CellKeyType cellKeyType() default CellKeyType.GEOHASH;
+
+    /**
+     * Precision of the cell key (geohash characters or quadkey zoom level), or 0 for the type's default.
+     */
+    int cellKeyPrecision() default 0;
 }
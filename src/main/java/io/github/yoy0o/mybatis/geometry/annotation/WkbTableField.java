@@ -0,0 +1,30 @@
+package io.github.yoy0o.mybatis.geometry.annotation;
+
+import com.baomidou.mybatisplus.annotation.TableField;
+import io.github.yoy0o.mybatis.geometry.handler.WkbGeometryTypeHandler;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation to mark a field as {@link io.github.yoy0o.mybatis.geometry.codec.WkbGeometry} type.
+ * Automatically binds the WkbGeometryTypeHandler, which passes geometry columns through
+ * in encoded WKB form without creating JTS objects.
+ * 
+ * <p>Usage:</p>
+ * <pre>{@code
+ * @TableName(value = "doc_zone", autoResultMap = true)
+ * public class ZoneView extends BaseEntity {
+ *     @WkbTableField
+ *     private WkbGeometry boundary;
+ * }
+ * }</pre>
+ * 
+ * <p>Note: The entity class must have {@code autoResultMap = true} in @TableName
+ * for the TypeHandler to work correctly with SELECT queries.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+@TableField(typeHandler = WkbGeometryTypeHandler.class)
+public @interface WkbTableField {
+}
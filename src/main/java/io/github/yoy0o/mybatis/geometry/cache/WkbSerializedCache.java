@@ -0,0 +1,165 @@
+package io.github.yoy0o.mybatis.geometry.cache;
+
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.io.SerialFilterChecker;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * MyBatis second-level cache decorator that serializes cached values like
+ * {@link org.apache.ibatis.cache.decorators.SerializedCache}, but writes every JTS geometry as
+ * compact SRID-prefixed WKB instead of Java-serializing its object graph.
+ *
+ * <p>Java serialization of a geometry writes class descriptors and one {@code Coordinate} object
+ * (three doubles plus headers) per vertex; WKB stores 16 bytes per 2D vertex. Geometries are
+ * decoded only when a cache hit is read, and every hit gets its own copy.</p>
+ *
+ * <p>Usage: replace MyBatis' own serialization with this decorator. Decorators apply in order,
+ * so keep an eviction decorator in front of it:</p>
+ * <pre>{@code
+ * @CacheNamespace(readWrite = false, decorators = {LruCache.class, WkbSerializedCache.class})
+ * public interface ZoneMapper extends BaseMapper<Zone> {
+ * }
+ * }</pre>
+ *
+ * <p>As with {@code SerializedCache}, cached values must be {@link Serializable}. Geometries are
+ * stored in 2D; Z and M ordinates are dropped.</p>
+ */
+public class WkbSerializedCache implements Cache {
+
+    private final Cache delegate;
+
+    /**
+     * Create the decorator.
+     *
+     * @param delegate the cache to store serialized values in
+     */
+    public WkbSerializedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public int getSize() {
+        return delegate.getSize();
+    }
+
+    @Override
+    public void putObject(Object key, Object object) {
+        if (object != null && !(object instanceof Serializable)) {
+            throw new CacheException("Shared cache objects must be serializable: " + object);
+        }
+        delegate.putObject(key, serialize((Serializable) object));
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Object object = delegate.getObject(key);
+        return object == null ? null : deserialize((byte[]) object);
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        return delegate.removeObject(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return delegate.equals(obj);
+    }
+
+    private byte[] serialize(Serializable value) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             ObjectOutputStream out = new GeometryObjectOutputStream(bytes)) {
+            out.writeObject(value);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new CacheException("Error serializing object: " + e, e);
+        }
+    }
+
+    private Serializable deserialize(byte[] value) {
+        SerialFilterChecker.check();
+        try (ObjectInputStream in = new GeometryObjectInputStream(new ByteArrayInputStream(value))) {
+            return (Serializable) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Error deserializing object: " + e, e);
+        }
+    }
+
+    /**
+     * Serialized form of a geometry: SRID-prefixed WKB.
+     *
+     * @param wkb 4-byte little-endian SRID followed by 2D WKB
+     */
+    private record SerializedGeometry(byte[] wkb) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class GeometryObjectOutputStream extends ObjectOutputStream {
+
+        GeometryObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof Geometry geometry) {
+                return new SerializedGeometry(WkbGeometry.fromGeometry(geometry).unsafeBytes());
+            }
+            return obj;
+        }
+    }
+
+    private static final class GeometryObjectInputStream extends ObjectInputStream {
+
+        GeometryObjectInputStream(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws ClassNotFoundException {
+            return Resources.classForName(desc.getName());
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            if (obj instanceof SerializedGeometry serialized) {
+                return WkbGeometry.wrap(serialized.wkb()).toGeometry();
+            }
+            return obj;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.yoy0o.mybatis.geometry.codec;
 
+import io.github.yoy0o.mybatis.geometry.jfr.GeometryCodecEvent;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ByteOrderValues;
 import org.locationtech.jts.io.ParseException;
@@ -22,12 +23,15 @@
 public class MySQLWkbCodec implements WkbCodec {
 
     private static final int SRID_PREFIX_LENGTH = 4;
+    private static final String CODEC_NAME = "MySQL";
 
     @Override
     public Object encode(Geometry geometry) {
         if (geometry == null) return null;
         int srid = geometry.getSRID() == 0 ? 4326 : geometry.getSRID();
         geometry.setSRID(srid);
+        GeometryCodecEvent event = new GeometryCodecEvent();
+        event.begin();
 
         WKBWriter writer = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
         byte[] wkb = writer.write(geometry);
@@ -38,6 +42,7 @@ public Object encode(Geometry geometry) {
                   .order(ByteOrder.LITTLE_ENDIAN)
                   .putInt(srid);
         System.arraycopy(wkb, 0, result, SRID_PREFIX_LENGTH, wkb.length);
+        event.end(CODEC_NAME, "encode", geometry, result.length);
         return result;
     }
 
@@ -50,6 +55,8 @@ public Geometry decode(Object dbValue) {
         }
         if (hexString.isEmpty()) return null;
 
+        GeometryCodecEvent event = new GeometryCodecEvent();
+        event.begin();
         try {
             byte[] bytes = HexFormat.of().parseHex(hexString);
             if (bytes.length < SRID_PREFIX_LENGTH + 5) {
@@ -66,6 +73,7 @@ public Geometry decode(Object dbValue) {
             WKBReader reader = new WKBReader();
             Geometry geom = reader.read(wkb);
             geom.setSRID(srid);
+            event.end(CODEC_NAME, "decode", geom, bytes.length);
             return geom;
         } catch (ParseException e) {
             String prefix = hexString.substring(0, Math.min(20, hexString.length()));
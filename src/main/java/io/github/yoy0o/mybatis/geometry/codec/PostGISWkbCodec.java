@@ -1,5 +1,6 @@
 package io.github.yoy0o.mybatis.geometry.codec;
 
+import io.github.yoy0o.mybatis.geometry.jfr.GeometryCodecEvent;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ByteOrderValues;
 import org.locationtech.jts.io.ParseException;
@@ -22,6 +23,7 @@
 public class PostGISWkbCodec implements WkbCodec {
 
     private static final int SRID_PREFIX_LENGTH = 4;
+    private static final String CODEC_NAME = "PostGIS";
     private static final int DEFAULT_SRID = 4326;
 
     @Override
@@ -31,9 +33,12 @@ public Object encode(Geometry geometry) {
         }
         int srid = geometry.getSRID() == 0 ? DEFAULT_SRID : geometry.getSRID();
         geometry.setSRID(srid);
+        GeometryCodecEvent event = new GeometryCodecEvent();
+        event.begin();
 
         WKBWriter writer = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN, true); // includeSRID=true
         byte[] ewkb = writer.write(geometry);
+        event.end(CODEC_NAME, "encode", geometry, ewkb.length);
         return HexFormat.of().formatHex(ewkb);
     }
 
@@ -50,6 +55,8 @@ public Geometry decode(Object dbValue) {
             return null;
         }
 
+        GeometryCodecEvent event = new GeometryCodecEvent();
+        event.begin();
         try {
             byte[] bytes = HexFormat.of().parseHex(hexString);
             if (bytes.length < SRID_PREFIX_LENGTH + 5) {
@@ -64,6 +71,7 @@ public Geometry decode(Object dbValue) {
             WKBReader reader = new WKBReader();
             Geometry geom = reader.read(wkb);
             geom.setSRID(srid);
+            event.end(CODEC_NAME, "decode", geom, bytes.length);
             return geom;
         } catch (ParseException e) {
             String prefix = hexString.substring(0, Math.min(20, hexString.length()));
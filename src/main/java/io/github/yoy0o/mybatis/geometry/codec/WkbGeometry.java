@@ -0,0 +1,258 @@
+package io.github.yoy0o.mybatis.geometry.codec;
+
+import io.github.yoy0o.mybatis.geometry.exception.WkbParseException;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Lightweight holder for a geometry kept in its encoded WKB form.
+ *
+ * <p>Stores the same layout the geometry columns are read in: a 4-byte little-endian SRID prefix
+ * followed by standard 2D WKB. No JTS objects are created unless {@link #toGeometry()} is called,
+ * which makes the holder suitable for read-only endpoints that only pass geometries through
+ * to JSON (see {@code WkbGeoJsonWriter}) and for write paths that never inspect them.</p>
+ *
+ * <p>Instances are immutable; accessors return copies, except {@link #unsafeBytes()} which
+ * shares the backing array with transcoders and parameter binding.</p>
+ */
+public final class WkbGeometry {
+
+    /** Length of the SRID prefix in bytes */
+    public static final int SRID_PREFIX_LENGTH = 4;
+
+    /** Minimum WKB length: byte order (1) + type (4) */
+    private static final int MIN_WKB_LENGTH = 5;
+
+    /** EWKB flag marking an embedded SRID in the type field */
+    private static final int EWKB_SRID_FLAG = 0x20000000;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    /** SRID prefix + standard WKB */
+    private final byte[] data;
+
+    private WkbGeometry(byte[] data) {
+        if (data.length < SRID_PREFIX_LENGTH + MIN_WKB_LENGTH) {
+            throw new WkbParseException("Input too short for SRID-prefixed WKB",
+                HEX.formatHex(data));
+        }
+        this.data = data;
+    }
+
+    /**
+     * Parse a hex string in the database read layout (4-byte LE SRID + standard WKB).
+     *
+     * @param hexString the hex string returned by the geometry SELECT wrapping
+     * @return the holder, or null if input is null/empty
+     * @throws WkbParseException if the input is not valid hex or too short
+     */
+    public static WkbGeometry fromHex(String hexString) {
+        if (hexString == null || hexString.isEmpty()) {
+            return null;
+        }
+        try {
+            return new WkbGeometry(HEX.parseHex(hexString));
+        } catch (IllegalArgumentException e) {
+            throw new WkbParseException("Invalid WKB hex string", hexString, e);
+        }
+    }
+
+    /**
+     * Wrap bytes in the database read layout (4-byte LE SRID + standard WKB) without copying.
+     * The caller must not modify the array afterwards.
+     *
+     * @param sridPrefixedWkb SRID prefix followed by standard WKB
+     * @return the holder
+     */
+    public static WkbGeometry wrap(byte[] sridPrefixedWkb) {
+        return new WkbGeometry(sridPrefixedWkb);
+    }
+
+    /**
+     * Create a holder from an SRID and standard WKB bytes.
+     *
+     * @param srid the SRID
+     * @param wkb standard (ISO/OGC) WKB without SRID
+     * @return the holder
+     */
+    public static WkbGeometry of(int srid, byte[] wkb) {
+        byte[] data = new byte[SRID_PREFIX_LENGTH + wkb.length];
+        writeIntLE(data, 0, srid);
+        System.arraycopy(wkb, 0, data, SRID_PREFIX_LENGTH, wkb.length);
+        return new WkbGeometry(data);
+    }
+
+    /**
+     * Encode a JTS geometry as little-endian 2D WKB, keeping its SRID.
+     *
+     * @param geometry the geometry (non-null)
+     * @return the holder
+     */
+    public static WkbGeometry fromGeometry(Geometry geometry) {
+        return of(geometry.getSRID(), new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN).write(geometry));
+    }
+
+    /**
+     * Get the SRID stored in the prefix.
+     *
+     * @return the SRID (0 if unset)
+     */
+    public int getSrid() {
+        return (data[0] & 0xFF) | (data[1] & 0xFF) << 8 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 24;
+    }
+
+    /**
+     * Get the WKB geometry type code (1=Point ... 7=GeometryCollection) of the top-level geometry.
+     *
+     * @return the base geometry type code, without dimension or EWKB flags
+     */
+    public int getGeometryTypeCode() {
+        return (readRawType() & 0x0FFFFFFF) % 1000;
+    }
+
+    /**
+     * Get the total encoded length (SRID prefix + WKB) in bytes.
+     *
+     * @return the encoded length
+     */
+    public int length() {
+        return data.length;
+    }
+
+    /**
+     * Copy the standard WKB bytes (without SRID prefix).
+     *
+     * @return a new array with standard WKB
+     */
+    public byte[] toWkb() {
+        return Arrays.copyOfRange(data, SRID_PREFIX_LENGTH, data.length);
+    }
+
+    /**
+     * Copy the bytes in the MySQL internal layout (4-byte LE SRID + standard WKB).
+     *
+     * @return a new array with SRID-prefixed WKB
+     */
+    public byte[] toSridPrefixedWkb() {
+        return data.clone();
+    }
+
+    /**
+     * Encode as hex EWKB (SRID flag in the type field), the format accepted by PostGIS.
+     *
+     * @return EWKB hex string
+     */
+    public String toEwkbHex() {
+        return toEwkbHex(getSrid());
+    }
+
+    /**
+     * Decode into a JTS geometry. Allocates the full object graph; avoid on pass-through paths.
+     *
+     * @return the decoded geometry with SRID set
+     * @throws WkbParseException if the WKB is malformed
+     */
+    public Geometry toGeometry() {
+        try {
+            Geometry geometry = new WKBReader().read(toWkb());
+            geometry.setSRID(getSrid());
+            return geometry;
+        } catch (ParseException e) {
+            throw new WkbParseException("Failed to decode WKB", toHex(), e);
+        }
+    }
+
+    /**
+     * Encode in the database read layout as hex (4-byte LE SRID + standard WKB).
+     *
+     * @return upper-case hex string
+     */
+    public String toHex() {
+        return HEX.withUpperCase().formatHex(data);
+    }
+
+    /**
+     * Backing array (SRID prefix + standard WKB), shared without copying.
+     * Intended for transcoders and parameter binding that only read the bytes.
+     *
+     * @return the backing array; must not be modified
+     */
+    public byte[] unsafeBytes() {
+        return data;
+    }
+
+    /**
+     * Encode as hex EWKB with the given SRID.
+     *
+     * @param srid the SRID to embed
+     * @return EWKB hex string
+     */
+    public String toEwkbHex(int srid) {
+        // EWKB: byteOrder(1) + type|SRID_FLAG (4) + srid(4) + body
+        int wkbLength = data.length - SRID_PREFIX_LENGTH;
+        byte[] ewkb = new byte[wkbLength + 4];
+        byte byteOrder = data[SRID_PREFIX_LENGTH];
+        boolean littleEndian = byteOrder == 1;
+        ewkb[0] = byteOrder;
+        writeInt(ewkb, 1, readRawType() | EWKB_SRID_FLAG, littleEndian);
+        writeInt(ewkb, 5, srid, littleEndian);
+        System.arraycopy(data, SRID_PREFIX_LENGTH + MIN_WKB_LENGTH, ewkb, 9, wkbLength - MIN_WKB_LENGTH);
+        return HEX.formatHex(ewkb);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof WkbGeometry other && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "WkbGeometry[srid=" + getSrid() + ", type=" + getGeometryTypeCode()
+            + ", bytes=" + data.length + "]";
+    }
+
+    /**
+     * Read the top-level WKB type field, honoring the WKB byte order marker.
+     */
+    private int readRawType() {
+        int offset = SRID_PREFIX_LENGTH + 1;
+        if (data[SRID_PREFIX_LENGTH] == 1) {
+            return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8
+                | (data[offset + 2] & 0xFF) << 16 | (data[offset + 3] & 0xFF) << 24;
+        }
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+            | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+
+    private static void writeIntLE(byte[] target, int offset, int value) {
+        writeInt(target, offset, value, true);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value, boolean littleEndian) {
+        if (littleEndian) {
+            target[offset] = (byte) value;
+            target[offset + 1] = (byte) (value >>> 8);
+            target[offset + 2] = (byte) (value >>> 16);
+            target[offset + 3] = (byte) (value >>> 24);
+        } else {
+            target[offset] = (byte) (value >>> 24);
+            target[offset + 1] = (byte) (value >>> 16);
+            target[offset + 2] = (byte) (value >>> 8);
+            target[offset + 3] = (byte) value;
+        }
+    }
+}
@@ -2,23 +2,38 @@
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yoy0o.mybatis.geometry.diagnostics.SpatialIndexAdvisor;
+import io.github.yoy0o.mybatis.geometry.handler.EncodedParameterCache;
 import io.github.yoy0o.mybatis.geometry.handler.LineStringTypeHandler;
 import io.github.yoy0o.mybatis.geometry.handler.PointTypeHandler;
 import io.github.yoy0o.mybatis.geometry.handler.PolygonTypeHandler;
+import io.github.yoy0o.mybatis.geometry.handler.WkbGeometryTypeHandler;
+import io.github.yoy0o.mybatis.geometry.interceptor.CellKeyFillInterceptor;
 import io.github.yoy0o.mybatis.geometry.interceptor.GeometryFieldInterceptor;
+import io.github.yoy0o.mybatis.geometry.interceptor.ParallelGeometryDecodeInterceptor;
+import io.github.yoy0o.mybatis.geometry.interceptor.SpatialInsertOrderInterceptor;
+import io.github.yoy0o.mybatis.geometry.jackson.CoordinateWriter;
 import io.github.yoy0o.mybatis.geometry.jackson.GeometryJacksonModule;
+import io.github.yoy0o.mybatis.geometry.metrics.GeometryMetrics;
+import io.github.yoy0o.mybatis.geometry.metrics.MicrometerGeometryMetrics;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
 import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.locationtech.jts.geom.Geometry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 import javax.sql.DataSource;
 
@@ -37,7 +52,14 @@
  *   <li><strong>PointTypeHandler</strong> - TypeHandler for Point geometry</li>
  *   <li><strong>PolygonTypeHandler</strong> - TypeHandler for Polygon geometry</li>
  *   <li><strong>LineStringTypeHandler</strong> - TypeHandler for LineString geometry</li>
+ *   <li><strong>WkbGeometryTypeHandler</strong> - TypeHandler for WkbGeometry pass-through values</li>
  *   <li><strong>GeometryFieldInterceptor</strong> - SQL interceptor for SELECT queries (wraps geometry columns)</li>
+ *   <li><strong>ParallelGeometryDecodeInterceptor</strong> - Bulk/parallel geometry decoding of SELECT results (opt-in)</li>
+ *   <li><strong>EncodedParameterCache</strong> - Cache of encoded geometry parameter values (opt-in)</li>
+ *   <li><strong>CellKeyFillInterceptor</strong> - Fills geohash/quadkey cell key properties on insert and update</li>
+ *   <li><strong>SpatialInsertOrderInterceptor</strong> - Hilbert/Z-order sorting of multi-row INSERT statements (opt-in)</li>
+ *   <li><strong>SpatialIndexAdvisor</strong> - Startup check of spatial indexes and column SRIDs (opt-in)</li>
+ *   <li><strong>MicrometerGeometryMetrics</strong> - Encode/decode/rewrite metrics (when a MeterRegistry is present)</li>
  * </ul>
  *
  * <p><strong>Database Support:</strong></p>
@@ -51,11 +73,17 @@
  *   <li>mybatis.geometry.database-type - Override auto-detection (MYSQL or POSTGRESQL)</li>
  *   <li>mybatis.geometry.default-srid - Default SRID for geometries (default: 4326)</li>
  *   <li>mybatis.geometry.interceptor-enabled - Enable/disable SQL interceptor (default: true)</li>
+ *   <li>mybatis.geometry.parallel-decode-enabled - Enable parallel result decoding (default: false)</li>
+ *   <li>mybatis.geometry.parameter-cache-enabled - Cache encoded geometry parameters (default: false)</li>
+ *   <li>mybatis.geometry.index-advisor-enabled - Check spatial indexes at startup (default: false)</li>
+ *   <li>mybatis.geometry.cell-key-fill-enabled - Fill cell key properties on insert and update (default: true)</li>
+ *   <li>mybatis.geometry.metrics-enabled - Record Micrometer metrics when a MeterRegistry is present (default: true)</li>
+ *   <li>mybatis.geometry.batch-insert-order - Sort multi-row INSERT statements (HILBERT or Z_ORDER, default: unset)</li>
  * </ul>
  *
  * <p>Compatible with Spring Boot 2.7+ and Spring Boot 3.x</p>
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnClass({BaseMapper.class, Geometry.class})
 @EnableConfigurationProperties(GeometryProperties.class)
 public class GeometryAutoConfiguration {
@@ -104,19 +132,124 @@ public GeometryFieldInterceptor geometryFieldInterceptor(GeometryHandlerStrategy
         return new GeometryFieldInterceptor(strategy);
     }
 
+    /**
+     * Create ParallelGeometryDecodeInterceptor bean for bulk decoding of SELECT results.
+     * Only created when parallel decoding is enabled (default: false).
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "parallel-decode-enabled",
+        havingValue = "true"
+    )
+    public ParallelGeometryDecodeInterceptor parallelGeometryDecodeInterceptor(GeometryProperties properties) {
+        log.info("Registering ParallelGeometryDecodeInterceptor (threshold={}, chunkSize={})",
+            properties.getParallelDecodeThreshold(), properties.getParallelDecodeChunkSize());
+        return new ParallelGeometryDecodeInterceptor(
+            properties.getParallelDecodeThreshold(), properties.getParallelDecodeChunkSize());
+    }
+
+    /**
+     * Create CellKeyFillInterceptor bean for INSERT and UPDATE statements.
+     * Only acts on entities whose geometry properties declare a cellKey (default: enabled).
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "cell-key-fill-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public CellKeyFillInterceptor cellKeyFillInterceptor() {
+        return new CellKeyFillInterceptor();
+    }
+
+    /**
+     * Create SpatialInsertOrderInterceptor bean for multi-row INSERT statements.
+     * Only created when batch-insert-order is set.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "mybatis.geometry", name = "batch-insert-order")
+    public SpatialInsertOrderInterceptor spatialInsertOrderInterceptor(GeometryProperties properties) {
+        log.info("Registering SpatialInsertOrderInterceptor (order={})", properties.getBatchInsertOrder());
+        return new SpatialInsertOrderInterceptor(properties.getBatchInsertOrder());
+    }
+
+    /**
+     * Create EncodedParameterCache bean for repeatedly bound query geometries.
+     * Only created when the parameter cache is enabled (default: false).
+     * Registered as the global default so that TypeHandlers created via reflection use it.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "parameter-cache-enabled",
+        havingValue = "true"
+    )
+    public EncodedParameterCache encodedParameterCache(GeometryProperties properties) {
+        log.info("Registering EncodedParameterCache (maxBytes={}, minPoints={})",
+            properties.getParameterCacheMaxBytes(), properties.getParameterCacheMinPoints());
+        EncodedParameterCache cache = new EncodedParameterCache(
+            properties.getParameterCacheMaxBytes(), properties.getParameterCacheMinPoints());
+        EncodedParameterCache.setDefault(cache);
+        return cache;
+    }
+
+    /**
+     * Create SpatialIndexAdvisor bean for checking spatial indexes and column SRIDs.
+     * Only created when the index advisor is enabled (default: false).
+     * Can also be injected and called on demand.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "index-advisor-enabled",
+        havingValue = "true"
+    )
+    public SpatialIndexAdvisor spatialIndexAdvisor(DataSource dataSource, GeometryHandlerStrategy strategy,
+                                                   GeometryProperties properties) {
+        return new SpatialIndexAdvisor(dataSource, strategy.getSupportedDatabaseType(),
+            properties.getDefaultSrid(), properties.isIndexAdvisorExplain());
+    }
+
+    /**
+     * Run the spatial index check once the application is ready, when all mappers and
+     * entity table metadata are registered.
+     */
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "index-advisor-enabled",
+        havingValue = "true"
+    )
+    public ApplicationListener<ApplicationReadyEvent> spatialIndexAdvisorRunner(SpatialIndexAdvisor advisor) {
+        return event -> advisor.report();
+    }
+
     /**
      * Create GeometryJacksonModule bean for automatic GeoJSON serialization support.
      * Only created when Jackson ObjectMapper is on the classpath.
      * Coordinate validation is automatically enabled when default SRID is 4326 (WGS84).
+     * Output coordinates are rounded when coordinate-precision is configured.
+     * LineStrings are written as encoded polylines when encoded-polyline-precision is configured.
      */
     @Bean
     @ConditionalOnClass(ObjectMapper.class)
     @ConditionalOnMissingBean(name = "geometryJacksonModule")
     public GeometryJacksonModule geometryJacksonModule(GeometryProperties properties) {
         boolean validate = properties.isCoordinateValidationEnabled();
-        log.info("Registering GeometryJacksonModule (SRID={}, coordinateValidation={})",
-            properties.getDefaultSrid(), validate);
-        return new GeometryJacksonModule(validate);
+        int precision = properties.getCoordinatePrecision() != null
+            ? properties.getCoordinatePrecision() : CoordinateWriter.FULL_PRECISION;
+        int polylinePrecision = properties.getEncodedPolylinePrecision() != null
+            ? properties.getEncodedPolylinePrecision() : -1;
+        log.info("Registering GeometryJacksonModule (SRID={}, coordinateValidation={}, precision={}, polylinePrecision={})",
+            properties.getDefaultSrid(), validate, precision, polylinePrecision);
+        return new GeometryJacksonModule(validate, precision, polylinePrecision);
     }
 
     /**
@@ -147,6 +280,46 @@ public LineStringTypeHandler lineStringTypeHandler(GeometryProperties properties
         return new LineStringTypeHandler(properties.getDefaultSrid(), strategy);
     }
 
+    /**
+     * Create WkbGeometryTypeHandler bean.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WkbGeometryTypeHandler wkbGeometryTypeHandler(GeometryProperties properties, GeometryHandlerStrategy strategy) {
+        return new WkbGeometryTypeHandler(properties.getDefaultSrid(), strategy);
+    }
+
+    /**
+     * Micrometer metrics, in a separate class so that nothing references Micrometer types
+     * unless Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(
+        prefix = "mybatis.geometry",
+        name = "metrics-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    static class GeometryMetricsConfiguration {
+
+        /**
+         * Create MicrometerGeometryMetrics bean and register it as the global recorder,
+         * binding the encoded parameter cache statistics if the cache is enabled.
+         */
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean
+        public MicrometerGeometryMetrics micrometerGeometryMetrics(MeterRegistry registry,
+                                                                   ObjectProvider<EncodedParameterCache> cache) {
+            log.info("Registering MicrometerGeometryMetrics");
+            MicrometerGeometryMetrics metrics = new MicrometerGeometryMetrics(registry);
+            cache.ifAvailable(metrics::bindCache);
+            GeometryMetrics.setDefault(metrics);
+            return metrics;
+        }
+    }
+
     private void configureGeometryFactory(GeometryProperties properties) {
         if (properties.getDefaultSrid() != GeometryProperties.DEFAULT_SRID) {
             log.info("Configuring GeometryFactory with SRID: {}", properties.getDefaultSrid());
@@ -1,6 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.config;
 
 import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import io.github.yoy0o.mybatis.geometry.util.SpatialOrder;
 import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -14,6 +15,10 @@
  *     default-srid: 4326
  *     interceptor-enabled: true
  *     database-type: MYSQL
+ *     parallel-decode-enabled: false
+ *     parallel-decode-threshold: 10000
+ *     parallel-decode-chunk-size: 1024
+ *     coordinate-precision: 7
  * }</pre>
  */
 @ConfigurationProperties(prefix = "mybatis.geometry")
@@ -43,6 +48,89 @@ public class GeometryProperties {
      */
     private DatabaseType databaseType;
 
+    /**
+     * Decode geometry columns of SELECT results in bulk after result mapping,
+     * splitting large result sets into parallel fork-join chunks.
+     * Default: false
+     */
+    private boolean parallelDecodeEnabled = false;
+
+    /**
+     * Minimum number of geometry values in one result set before decoding runs in parallel.
+     * Smaller result sets are decoded on the calling thread.
+     * Default: 10000
+     */
+    private int parallelDecodeThreshold = 10_000;
+
+    /**
+     * Number of geometry values decoded per fork-join task.
+     * Default: 1024
+     */
+    private int parallelDecodeChunkSize = 1024;
+
+    /**
+     * Number of decimal places written for GeoJSON coordinates (0-12).
+     * 6 decimals is roughly 0.1 m, 7 decimals roughly 1 cm in WGS84.
+     * Default: null (full double precision)
+     */
+    private Integer coordinatePrecision;
+
+    /**
+     * When set (0-10), all LineStrings are written as Google encoded polylines with this
+     * number of decimals (5 = Google format, 6 = polyline6). Deserializers then accept both
+     * encoded strings and GeoJSON. Individual fields can opt in with {@code @EncodedPolyline}.
+     * Default: null (GeoJSON)
+     */
+    private Integer encodedPolylinePrecision;
+
+    /**
+     * Cache encoded geometry parameter values so hot query geometries skip validation and encoding.
+     * Default: false
+     */
+    private boolean parameterCacheEnabled = false;
+
+    /**
+     * Upper bound of the estimated parameter cache size in bytes.
+     * Default: 16 MB
+     */
+    private long parameterCacheMaxBytes = 16L * 1024 * 1024;
+
+    /**
+     * Minimum number of coordinates for a geometry parameter to be cached.
+     * Default: 16
+     */
+    private int parameterCacheMinPoints = 16;
+
+    /**
+     * Check spatial indexes and SRIDs of all entity geometry columns when the application is ready.
+     * Default: false
+     */
+    private boolean indexAdvisorEnabled = false;
+
+    /**
+     * Also run EXPLAIN on a bounding-box probe per column and warn on full table scans.
+     * Default: false
+     */
+    private boolean indexAdvisorExplain = false;
+
+    /**
+     * Fill cell key properties declared with {@code cellKey} on insert and update.
+     * Default: true
+     */
+    private boolean cellKeyFillEnabled = true;
+
+    /**
+     * Sort the rows of multi-row INSERT statements along a space-filling curve.
+     * Supported values: HILBERT, Z_ORDER. Default: null (insert order unchanged)
+     */
+    private SpatialOrder batchInsertOrder;
+
+    /**
+     * Record encode, decode, validation and rewrite metrics when a Micrometer MeterRegistry is present.
+     * Default: true
+     */
+    private boolean metricsEnabled = true;
+
     public int getDefaultSrid() {
         return defaultSrid;
     }
@@ -67,6 +155,110 @@ public void setDatabaseType(DatabaseType databaseType) {
         this.databaseType = databaseType;
     }
 
+    public boolean isParallelDecodeEnabled() {
+        return parallelDecodeEnabled;
+    }
+
+    public void setParallelDecodeEnabled(boolean parallelDecodeEnabled) {
+        this.parallelDecodeEnabled = parallelDecodeEnabled;
+    }
+
+    public int getParallelDecodeThreshold() {
+        return parallelDecodeThreshold;
+    }
+
+    public void setParallelDecodeThreshold(int parallelDecodeThreshold) {
+        this.parallelDecodeThreshold = parallelDecodeThreshold;
+    }
+
+    public int getParallelDecodeChunkSize() {
+        return parallelDecodeChunkSize;
+    }
+
+    public void setParallelDecodeChunkSize(int parallelDecodeChunkSize) {
+        this.parallelDecodeChunkSize = parallelDecodeChunkSize;
+    }
+
+    public Integer getCoordinatePrecision() {
+        return coordinatePrecision;
+    }
+
+    public void setCoordinatePrecision(Integer coordinatePrecision) {
+        this.coordinatePrecision = coordinatePrecision;
+    }
+
+    public Integer getEncodedPolylinePrecision() {
+        return encodedPolylinePrecision;
+    }
+
+    public void setEncodedPolylinePrecision(Integer encodedPolylinePrecision) {
+        this.encodedPolylinePrecision = encodedPolylinePrecision;
+    }
+
+    public boolean isParameterCacheEnabled() {
+        return parameterCacheEnabled;
+    }
+
+    public void setParameterCacheEnabled(boolean parameterCacheEnabled) {
+        this.parameterCacheEnabled = parameterCacheEnabled;
+    }
+
+    public long getParameterCacheMaxBytes() {
+        return parameterCacheMaxBytes;
+    }
+
+    public void setParameterCacheMaxBytes(long parameterCacheMaxBytes) {
+        this.parameterCacheMaxBytes = parameterCacheMaxBytes;
+    }
+
+    public int getParameterCacheMinPoints() {
+        return parameterCacheMinPoints;
+    }
+
+    public void setParameterCacheMinPoints(int parameterCacheMinPoints) {
+        this.parameterCacheMinPoints = parameterCacheMinPoints;
+    }
+
+    public boolean isIndexAdvisorEnabled() {
+        return indexAdvisorEnabled;
+    }
+
+    public void setIndexAdvisorEnabled(boolean indexAdvisorEnabled) {
+        this.indexAdvisorEnabled = indexAdvisorEnabled;
+    }
+
+    public boolean isIndexAdvisorExplain() {
+        return indexAdvisorExplain;
+    }
+
+    public void setIndexAdvisorExplain(boolean indexAdvisorExplain) {
+        this.indexAdvisorExplain = indexAdvisorExplain;
+    }
+
+    public boolean isCellKeyFillEnabled() {
+        return cellKeyFillEnabled;
+    }
+
+    public void setCellKeyFillEnabled(boolean cellKeyFillEnabled) {
+        this.cellKeyFillEnabled = cellKeyFillEnabled;
+    }
+
+    public SpatialOrder getBatchInsertOrder() {
+        return batchInsertOrder;
+    }
+
+    public void setBatchInsertOrder(SpatialOrder batchInsertOrder) {
+        this.batchInsertOrder = batchInsertOrder;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
     /**
      * Whether coordinate range validation should be enabled.
      * Automatically determined by defaultSrid: enabled only when SRID is 4326 (WGS84).
@@ -0,0 +1,213 @@
+package io.github.yoy0o.mybatis.geometry.diagnostics;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.yoy0o.mybatis.geometry.interceptor.GeometryFieldResolver;
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the database catalog for every geometry column of the registered MyBatis-Plus entities.
+ *
+ * <p>Columns are discovered from {@link TableInfoHelper} and {@link GeometryFieldResolver}.
+ * For each column the advisor reports:</p>
+ * <ul>
+ *   <li>a missing SPATIAL index (MySQL) or GiST/SP-GiST index (PostGIS)</li>
+ *   <li>a column without SRID constraint; MySQL does not use the spatial index for such columns</li>
+ *   <li>a column SRID different from the configured default SRID</li>
+ *   <li>optionally, a full table scan in the EXPLAIN plan of a bounding-box probe query;
+ *       small tables may legitimately be scanned, so treat this as a hint</li>
+ * </ul>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * SpatialIndexAdvisor advisor = new SpatialIndexAdvisor(dataSource, DatabaseType.MYSQL, 4326, true);
+ * advisor.inspect().forEach(issue -> log.warn("{}", issue));
+ * }</pre>
+ *
+ * <p>Catalog queries are read-only. Failures are logged and do not propagate.</p>
+ */
+public class SpatialIndexAdvisor {
+
+    private static final Logger log = LoggerFactory.getLogger(SpatialIndexAdvisor.class);
+
+    private static final String MYSQL_COLUMN_SRID =
+        "SELECT SRS_ID FROM INFORMATION_SCHEMA.ST_GEOMETRY_COLUMNS"
+            + " WHERE TABLE_SCHEMA = COALESCE(?, DATABASE()) AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+
+    private static final String MYSQL_SPATIAL_INDEX =
+        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS"
+            + " WHERE TABLE_SCHEMA = COALESCE(?, DATABASE()) AND TABLE_NAME = ? AND COLUMN_NAME = ?"
+            + " AND INDEX_TYPE = 'SPATIAL'";
+
+    private static final String POSTGIS_COLUMN_SRID =
+        "SELECT srid FROM geometry_columns"
+            + " WHERE f_table_schema = COALESCE(?, current_schema()) AND f_table_name = ? AND f_geometry_column = ?";
+
+    private static final String POSTGIS_SPATIAL_INDEX =
+        "SELECT COUNT(*) FROM pg_index i"
+            + " JOIN pg_class ic ON ic.oid = i.indexrelid"
+            + " JOIN pg_am am ON am.oid = ic.relam"
+            + " JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]"
+            + " WHERE i.indrelid = to_regclass(?) AND a.attname = ? AND am.amname IN ('gist', 'spgist')";
+
+    private final DataSource dataSource;
+    private final DatabaseType databaseType;
+    private final int expectedSrid;
+    private final boolean explain;
+    private final GeometryFieldResolver fieldResolver = new GeometryFieldResolver();
+
+    /**
+     * Create an advisor.
+     *
+     * @param dataSource the data source to inspect
+     * @param databaseType the database type
+     * @param expectedSrid the SRID geometry columns are expected to have (the configured default SRID)
+     * @param explain whether to also run EXPLAIN on a bounding-box probe per column
+     */
+    public SpatialIndexAdvisor(DataSource dataSource, DatabaseType databaseType, int expectedSrid, boolean explain) {
+        this.dataSource = dataSource;
+        this.databaseType = databaseType;
+        this.expectedSrid = expectedSrid;
+        this.explain = explain;
+    }
+
+    /**
+     * Inspect all geometry columns of the entities registered with MyBatis-Plus.
+     *
+     * @return the issues found, empty if every column is indexed and consistent
+     */
+    public List<SpatialIndexIssue> inspect() {
+        List<SpatialIndexIssue> issues = new ArrayList<>();
+        for (TableInfo tableInfo : TableInfoHelper.getTableInfos()) {
+            for (String column : fieldResolver.getGeometryFields(tableInfo.getEntityType())) {
+                issues.addAll(inspect(tableInfo.getTableName(), column));
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Inspect a single geometry column.
+     *
+     * @param table the table name, optionally schema-qualified
+     * @param column the geometry column name
+     * @return the issues found for this column
+     */
+    public List<SpatialIndexIssue> inspect(String table, String column) {
+        List<SpatialIndexIssue> issues = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection()) {
+            Integer srid = queryColumnSrid(conn, table, column);
+            if (srid == null) {
+                issues.add(new SpatialIndexIssue(SpatialIndexIssue.Kind.UNKNOWN_COLUMN, table, column,
+                    "not found as a geometry column in the catalog"));
+                return issues;
+            }
+            if (srid == 0) {
+                issues.add(new SpatialIndexIssue(SpatialIndexIssue.Kind.SRID_UNSET, table, column,
+                    databaseType == DatabaseType.MYSQL
+                        ? "column has no SRID attribute, so the spatial index is not used;"
+                            + " redefine it as " + column + " GEOMETRY NOT NULL SRID " + expectedSrid
+                        : "column has no SRID type modifier; alter it to geometry(Geometry, " + expectedSrid + ")"));
+            } else if (srid != expectedSrid) {
+                issues.add(new SpatialIndexIssue(SpatialIndexIssue.Kind.SRID_MISMATCH, table, column,
+                    "column SRID " + srid + " differs from default SRID " + expectedSrid));
+            }
+            if (!hasSpatialIndex(conn, table, column)) {
+                issues.add(new SpatialIndexIssue(SpatialIndexIssue.Kind.MISSING_INDEX, table, column,
+                    databaseType == DatabaseType.MYSQL
+                        ? "no SPATIAL index; add one with ALTER TABLE " + table + " ADD SPATIAL INDEX (" + column + ")"
+                        : "no GiST index; add one with CREATE INDEX ON " + table + " USING GIST (" + column + ")"));
+            } else if (explain && isFullScan(conn, table, column, srid == 0 ? expectedSrid : srid)) {
+                issues.add(new SpatialIndexIssue(SpatialIndexIssue.Kind.FULL_SCAN, table, column,
+                    "EXPLAIN of a bounding-box query shows a full table scan"));
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to inspect spatial index of {}.{}: {}", table, column, e.getMessage());
+        }
+        return issues;
+    }
+
+    /**
+     * Inspect all geometry columns and log the issues as warnings.
+     *
+     * @return the number of issues found
+     */
+    public int report() {
+        List<SpatialIndexIssue> issues = inspect();
+        for (SpatialIndexIssue issue : issues) {
+            log.warn("Spatial index check: {}", issue);
+        }
+        if (issues.isEmpty()) {
+            log.info("Spatial index check passed for all geometry columns");
+        }
+        return issues.size();
+    }
+
+    private Integer queryColumnSrid(Connection conn, String table, String column) throws SQLException {
+        String sql = databaseType == DatabaseType.MYSQL ? MYSQL_COLUMN_SRID : POSTGIS_COLUMN_SRID;
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            bindTable(ps, table, column);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                // MySQL reports NULL for columns without SRID attribute, PostGIS reports 0
+                int srid = rs.getInt(1);
+                return rs.wasNull() ? 0 : srid;
+            }
+        }
+    }
+
+    private boolean hasSpatialIndex(Connection conn, String table, String column) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                databaseType == DatabaseType.MYSQL ? MYSQL_SPATIAL_INDEX : POSTGIS_SPATIAL_INDEX)) {
+            if (databaseType == DatabaseType.MYSQL) {
+                bindTable(ps, table, column);
+            } else {
+                ps.setString(1, table);
+                ps.setString(2, column);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private boolean isFullScan(Connection conn, String table, String column, int srid) throws SQLException {
+        // Identifiers come from entity metadata, not user input
+        String probe = databaseType == DatabaseType.MYSQL
+            ? "EXPLAIN SELECT 1 FROM " + table + " WHERE MBRIntersects(" + column
+                + ", ST_GeomFromText('POLYGON((0 0,0 1,1 1,1 0,0 0))', " + srid + "))"
+            : "EXPLAIN SELECT 1 FROM " + table + " WHERE " + column + " && ST_MakeEnvelope(0, 0, 1, 1, " + srid + ")";
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(probe)) {
+            while (rs.next()) {
+                if (databaseType == DatabaseType.MYSQL) {
+                    if ("ALL".equalsIgnoreCase(rs.getString("type"))) {
+                        return true;
+                    }
+                } else if (rs.getString(1).contains("Seq Scan")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void bindTable(PreparedStatement ps, String table, String column) throws SQLException {
+        int dot = table.lastIndexOf('.');
+        ps.setString(1, dot < 0 ? null : table.substring(0, dot));
+        ps.setString(2, dot < 0 ? table : table.substring(dot + 1));
+        ps.setString(3, column);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.yoy0o.mybatis.geometry.diagnostics;
+
+/**
+ * A problem found by {@link SpatialIndexAdvisor} for one geometry column.
+ *
+ * @param kind the kind of problem
+ * @param table the table name
+ * @param column the geometry column name
+ * @param message human-readable description with the suggested fix
+ */
+public record SpatialIndexIssue(Kind kind, String table, String column, String message) {
+
+    /**
+     * Kinds of spatial index problems.
+     */
+    public enum Kind {
+
+        /** The column was not found in the catalog, or is not a geometry column */
+        UNKNOWN_COLUMN,
+
+        /** No SPATIAL (MySQL) or GiST/SP-GiST (PostGIS) index covers the column */
+        MISSING_INDEX,
+
+        /** The column has no SRID constraint; MySQL ignores the spatial index for such columns */
+        SRID_UNSET,
+
+        /** The column SRID differs from the configured default SRID */
+        SRID_MISMATCH,
+
+        /** EXPLAIN of a bounding-box probe shows a full table scan */
+        FULL_SCAN
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + table + "." + column + ": " + message;
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.handler;
 
+import io.github.yoy0o.mybatis.geometry.jfr.GeometryHandlerEvent;
+import io.github.yoy0o.mybatis.geometry.metrics.GeometryMetrics;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
 import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
@@ -26,9 +28,9 @@
  *
  * <p><strong>Write Operations (INSERT/UPDATE):</strong></p>
  * <ol>
- *   <li>Validate geometry object</li>
  *   <li>Ensure SRID is set (default: 4326)</li>
- *   <li>Convert using database-specific strategy</li>
+ *   <li>Look up the encoded value in the {@link EncodedParameterCache}, if one is registered</li>
+ *   <li>On a miss: validate geometry object and convert using database-specific strategy</li>
  *   <li>Set parameter based on database type</li>
  * </ol>
  *
@@ -37,8 +39,14 @@
  *   <li>Reads hex WKB string from ResultSet</li>
  *   <li>Parses using WkbUtil</li>
  *   <li>Returns typed JTS Geometry object</li>
+ *   <li>When a {@link DeferredGeometryDecoder} is active, records the hex string and returns an empty
+ *       placeholder geometry (null for a null column); the value is decoded later in bulk and replaces
+ *       the placeholder</li>
  * </ul>
  *
+ * <p>Encode, decode and validation costs are reported to {@link GeometryMetrics#getDefault()}
+ * when a recorder is enabled, and as {@link GeometryHandlerEvent} JFR events when that event is enabled.</p>
+ *
  * @param <T> the specific geometry type (Point, Polygon, LineString)
  */
 public abstract class AbstractGeometryTypeHandler<T extends Geometry> extends BaseTypeHandler<T> {
@@ -86,15 +94,37 @@ public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcTy
             throw new SQLException("Parameter cannot be null");
         }
 
+        GeometryMetrics metrics = GeometryMetrics.getDefault();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        GeometryHandlerEvent event = new GeometryHandlerEvent();
+        event.begin();
         try {
-            // Validate geometry
-            validateGeometry(parameter);
-
             // Ensure SRID is set
             ensureSrid(parameter);
 
-            // Convert using database-specific strategy
-            Object dbValue = strategy.convertForDatabase(parameter);
+            // Hot parameters are served from the encoded-value cache, skipping validation and encoding
+            EncodedParameterCache cache = EncodedParameterCache.getDefault();
+            boolean cacheable = cache != null && cache.isCacheable(parameter);
+            Object dbValue = cacheable ? cache.get(strategy.getSupportedDatabaseType(), parameter) : null;
+            boolean cached = dbValue != null;
+
+            if (dbValue == null) {
+                // Validate geometry
+                if (metrics.isEnabled()) {
+                    long validationStart = System.nanoTime();
+                    validateGeometry(parameter);
+                    metrics.recordValidation(getGeometryTypeName(), System.nanoTime() - validationStart);
+                } else {
+                    validateGeometry(parameter);
+                }
+
+                // Convert using database-specific strategy
+                dbValue = strategy.convertForDatabase(parameter);
+
+                if (cacheable) {
+                    cache.put(strategy.getSupportedDatabaseType(), parameter, dbValue);
+                }
+            }
 
             if (log.isDebugEnabled()) {
                 log.debug("{} converted to database format: {}", getGeometryTypeName(),
@@ -114,6 +144,13 @@ public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcTy
                 throw new SQLException("Unsupported database value type: " + dbValue.getClass().getName());
             }
 
+            int bytes = dbValue instanceof byte[] binary ? binary.length : ((String) dbValue).length() / 2;
+            if (metrics.isEnabled()) {
+                metrics.recordEncode(getGeometryTypeName(), System.nanoTime() - start, bytes,
+                    parameter.getNumPoints(), cached);
+            }
+            event.end("encode", parameter, bytes, cached);
+
         } catch (SQLException e) {
             throw e;
         } catch (Exception e) {
@@ -127,7 +164,17 @@ public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcTy
     public T getNullableResult(ResultSet rs, String columnName) throws SQLException {
         try {
             String hexString = rs.getString(columnName);
-            return parseGeometry(hexString);
+            DeferredGeometryDecoder deferred = DeferredGeometryDecoder.current();
+            if (deferred != null) {
+                T placeholder = deferredPlaceholder();
+                if (placeholder != null) {
+                    // Decoded in bulk once the whole result set has been mapped. A non-null placeholder
+                    // keeps MyBatis from treating a row whose only value is the geometry as empty.
+                    deferred.defer(this, columnName, hexString);
+                    return hexString == null ? null : placeholder;
+                }
+            }
+            return decode(hexString);
         } catch (Exception e) {
             log.error("Error reading {} from WKB: {}", getGeometryTypeName(), e.getMessage());
             throw new SQLException("Failed to read " + getGeometryTypeName() + " from WKB data", e);
@@ -138,7 +185,7 @@ public T getNullableResult(ResultSet rs, String columnName) throws SQLException
     public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
         try {
             String hexString = rs.getString(columnIndex);
-            return parseGeometry(hexString);
+            return decode(hexString);
         } catch (Exception e) {
             log.error("Error reading {} from WKB: {}", getGeometryTypeName(), e.getMessage());
             throw new SQLException("Failed to read " + getGeometryTypeName() + " from WKB data", e);
@@ -149,13 +196,32 @@ public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
     public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
         try {
             String hexString = cs.getString(columnIndex);
-            return parseGeometry(hexString);
+            return decode(hexString);
         } catch (Exception e) {
             log.error("Error reading {} from WKB: {}", getGeometryTypeName(), e.getMessage());
             throw new SQLException("Failed to read " + getGeometryTypeName() + " from WKB data", e);
         }
     }
 
+    /**
+     * Parse a WKB hex string, reporting the decode to the metrics recorder and JFR if enabled.
+     */
+    T decode(String hexString) {
+        GeometryMetrics metrics = GeometryMetrics.getDefault();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        GeometryHandlerEvent event = new GeometryHandlerEvent();
+        event.begin();
+        T geometry = parseGeometry(hexString);
+        if (geometry != null) {
+            if (metrics.isEnabled()) {
+                metrics.recordDecode(getGeometryTypeName(), System.nanoTime() - start, hexString.length() / 2,
+                    geometry.getNumPoints());
+            }
+            event.end("decode", geometry, hexString.length() / 2, false);
+        }
+        return geometry;
+    }
+
     /**
      * Parse WKB hex string to geometry object.
      *
@@ -179,6 +245,21 @@ public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLExce
      */
     protected abstract String getGeometryTypeName();
 
+    /**
+     * Get the value returned for a non-null column while decoding is deferred.
+     * It is replaced with the decoded geometry once the result set has been mapped.
+     * Return a new instance on every call: entity setters may mutate it (SRID, user data) while
+     * the row is being mapped.
+     *
+     * <p>The default returns null, which disables deferral for this handler; values are then
+     * decoded immediately.</p>
+     *
+     * @return an empty geometry assignable to the mapped property, or null to decode immediately
+     */
+    protected T deferredPlaceholder() {
+        return null;
+    }
+
     /**
      * Ensure the geometry has a valid SRID.
      * If SRID is 0, set it to the default SRID.
@@ -0,0 +1,166 @@
+package io.github.yoy0o.mybatis.geometry.handler;
+
+import org.locationtech.jts.geom.Geometry;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Collects raw WKB hex values during result mapping so they can be decoded in bulk afterwards.
+ *
+ * <p>While a decoder is bound to the current thread, {@link AbstractGeometryTypeHandler}
+ * records each geometry column value here and returns an empty placeholder geometry instead of
+ * parsing it, so that the row is still mapped to an entity.
+ * Once the result set has been fully mapped, {@link #decode()} parses all recorded values,
+ * splitting the work into fork-join chunks when the number of values reaches the
+ * configured threshold.</p>
+ *
+ * <p>Slots are kept in the order the type handlers were invoked, which is row order
+ * followed by column order within a row.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * try (DeferredGeometryDecoder decoder = DeferredGeometryDecoder.begin(10_000, 1024)) {
+ *     List<Object> rows = resultSetHandler.handleResultSets(statement);
+ *     Geometry[] geometries = decoder.decode();
+ *     // assign geometries[i] to the property mapped from decoder.getColumn(i)
+ * }
+ * }</pre>
+ */
+public final class DeferredGeometryDecoder implements AutoCloseable {
+
+    private static final ThreadLocal<DeferredGeometryDecoder> CURRENT = new ThreadLocal<>();
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    private AbstractGeometryTypeHandler<?>[] handlers = new AbstractGeometryTypeHandler<?>[INITIAL_CAPACITY];
+    private String[] columns = new String[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    private DeferredGeometryDecoder(int parallelThreshold, int chunkSize) {
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Bind a new decoder to the current thread.
+     *
+     * @param parallelThreshold minimum number of recorded values before decoding runs in parallel
+     * @param chunkSize number of values decoded per fork-join task
+     * @return the bound decoder; close it to unbind
+     * @throws IllegalStateException if a decoder is already bound to the current thread
+     */
+    public static DeferredGeometryDecoder begin(int parallelThreshold, int chunkSize) {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("A DeferredGeometryDecoder is already active on this thread");
+        }
+        DeferredGeometryDecoder decoder = new DeferredGeometryDecoder(parallelThreshold, chunkSize);
+        CURRENT.set(decoder);
+        return decoder;
+    }
+
+    /**
+     * Check whether a decoder is bound to the current thread.
+     *
+     * @return true if geometry decoding is currently deferred
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static DeferredGeometryDecoder current() {
+        return CURRENT.get();
+    }
+
+    void defer(AbstractGeometryTypeHandler<?> handler, String column, String hexString) {
+        if (size == values.length) {
+            int newCapacity = size << 1;
+            handlers = Arrays.copyOf(handlers, newCapacity);
+            columns = Arrays.copyOf(columns, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        handlers[size] = handler;
+        columns[size] = column;
+        values[size] = hexString;
+        size++;
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return the number of deferred geometry values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the column label a recorded value was read from.
+     *
+     * @param index the slot index
+     * @return the column label passed to the type handler
+     */
+    public String getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Decode all recorded values, in parallel when the threshold is reached.
+     *
+     * @return decoded geometries indexed by slot; null where the column was null
+     * @throws SQLException if any value fails to decode
+     */
+    public Geometry[] decode() throws SQLException {
+        Geometry[] decoded = new Geometry[size];
+        try {
+            if (size >= parallelThreshold && size > chunkSize) {
+                ForkJoinPool.commonPool().invoke(new DecodeTask(decoded, 0, size));
+            } else {
+                decodeRange(decoded, 0, size);
+            }
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to decode deferred geometry values: " + e.getMessage(), e);
+        }
+        return decoded;
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+
+    private void decodeRange(Geometry[] target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            target[i] = handlers[i].decode(values[i]);
+        }
+    }
+
+    private final class DecodeTask extends RecursiveAction {
+
+        private final Geometry[] target;
+        private final int from;
+        private final int to;
+
+        DecodeTask(Geometry[] target, int from, int to) {
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                decodeRange(target, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DecodeTask(target, from, mid), new DecodeTask(target, mid, to));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.yoy0o.mybatis.geometry.handler;
+
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of encoded geometry parameter values ({@code byte[]} for MySQL,
+ * hex EWKB {@code String} for PostGIS).
+ *
+ * <p>Geometries bound repeatedly as query parameters (e.g. geofence polygons) skip validation
+ * and re-encoding on a hit. Entries are keyed by a content hash of SRID, type and coordinates
+ * rather than by object identity, because JTS geometries are mutable. Each entry keeps a private
+ * copy of its geometry and a hit is only served after an exact comparison with it, so a hash
+ * collision or a mutated geometry is a miss, never a wrong value.</p>
+ *
+ * <p>The cache is bounded by an estimated retained size in bytes (encoded value plus the
+ * comparison copy). Geometries with fewer than {@code minPoints} coordinates are not cached;
+ * encoding them is cheaper than hashing and comparing.</p>
+ *
+ * <p>Type handlers use the instance registered with {@link #setDefault(EncodedParameterCache)};
+ * there is none by default. Instances are thread-safe.</p>
+ */
+public final class EncodedParameterCache {
+
+    /** Rough per-entry overhead: map node, key, entry and geometry object headers */
+    private static final int ENTRY_OVERHEAD = 160;
+
+    private static volatile EncodedParameterCache defaultCache;
+
+    private final long maxBytes;
+    private final int minPoints;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long retainedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache.
+     *
+     * @param maxBytes upper bound of the estimated retained size in bytes
+     * @param minPoints minimum number of coordinates for a geometry to be cached
+     */
+    public EncodedParameterCache(long maxBytes, int minPoints) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive, got: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.minPoints = Math.max(0, minPoints);
+    }
+
+    /**
+     * Get the cache used by type handlers.
+     *
+     * @return the cache, or null if parameter caching is disabled
+     */
+    public static EncodedParameterCache getDefault() {
+        return defaultCache;
+    }
+
+    /**
+     * Set the cache used by type handlers.
+     *
+     * @param cache the cache, or null to disable parameter caching
+     */
+    public static void setDefault(EncodedParameterCache cache) {
+        defaultCache = cache;
+    }
+
+    /**
+     * Test whether a geometry is large enough to be worth caching.
+     *
+     * @param geometry the geometry
+     * @return true if the geometry may be cached
+     */
+    public boolean isCacheable(Geometry geometry) {
+        return geometry.getNumPoints() >= minPoints;
+    }
+
+    /**
+     * Look up the encoded value of a geometry.
+     *
+     * @param databaseType the target database
+     * @param geometry the geometry, with its final SRID set
+     * @return the encoded value, or null on a miss
+     */
+    public Object get(DatabaseType databaseType, Geometry geometry) {
+        Key key = Key.of(databaseType, geometry);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.geometry.equalsExact(geometry)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Store the encoded value of a geometry, evicting least recently used entries as needed.
+     * Values larger than the whole cache are ignored.
+     *
+     * @param databaseType the target database
+     * @param geometry the geometry, with its final SRID set
+     * @param value the encoded value ({@code byte[]} or {@code String}); must not be modified afterwards
+     */
+    public void put(DatabaseType databaseType, Geometry geometry, Object value) {
+        long weight = weigh(geometry, value);
+        if (weight > maxBytes) {
+            return;
+        }
+        Key key = Key.of(databaseType, geometry);
+        Entry entry = new Entry(geometry.copy(), value, weight);
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                retainedBytes -= previous.weight;
+            }
+            retainedBytes += weight;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (retainedBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                retainedBytes -= evicted.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries. Statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            retainedBytes = 0;
+        }
+    }
+
+    /**
+     * Get a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), retainedBytes, maxBytes);
+        }
+    }
+
+    private static long weigh(Geometry geometry, Object value) {
+        long encoded = value instanceof byte[] bytes ? bytes.length
+            : value instanceof String hex ? hex.length() : 0;
+        // Comparison copy: packed XY doubles per coordinate
+        return ENTRY_OVERHEAD + encoded + geometry.getNumPoints() * 16L;
+    }
+
+    /**
+     * Cache statistics snapshot.
+     *
+     * @param hits number of lookups served from the cache
+     * @param misses number of lookups not found (or rejected by the exact comparison)
+     * @param evictions number of entries evicted to stay within the size bound
+     * @param size current number of entries
+     * @param retainedBytes estimated retained size in bytes
+     * @param maxBytes configured upper bound in bytes
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long retainedBytes, long maxBytes) {
+
+        /**
+         * Get the hit ratio.
+         *
+         * @return hits / (hits + misses), or 0 if there were no lookups
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(Geometry geometry, Object value, long weight) {
+    }
+
+    private record Key(DatabaseType databaseType, int srid, String type, int points, long hash) {
+
+        static Key of(DatabaseType databaseType, Geometry geometry) {
+            ContentHash hash = new ContentHash();
+            geometry.apply(hash);
+            return new Key(databaseType, geometry.getSRID(), geometry.getGeometryType(),
+                geometry.getNumPoints(), hash.value);
+        }
+    }
+
+    /**
+     * 64-bit hash over all XY ordinates, read straight from the coordinate sequences.
+     */
+    private static final class ContentHash implements CoordinateSequenceFilter {
+
+        private long value = 1125899906842597L;
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            value = 31 * value + Double.doubleToLongBits(sequence.getX(i));
+            value = 31 * value + Double.doubleToLongBits(sequence.getY(i));
+            if (i == sequence.size() - 1) {
+                // Separate sequences so ring boundaries affect the hash
+                value = 31 * value + sequence.size();
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.handler;
 
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
 import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
 import org.apache.ibatis.type.MappedTypes;
 import org.locationtech.jts.geom.LineString;
@@ -81,4 +82,9 @@ protected void validateGeometry(LineString lineString) throws SQLException {
     protected String getGeometryTypeName() {
         return "LineString";
     }
+
+    @Override
+    protected LineString deferredPlaceholder() {
+        return GeometryFactoryProvider.getFactory(WkbUtil.DEFAULT_SRID).createLineString();
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.handler;
 
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
 import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
 import org.apache.ibatis.type.MappedTypes;
 import org.locationtech.jts.geom.Point;
@@ -78,4 +79,9 @@ protected void validateGeometry(Point point) throws SQLException {
     protected String getGeometryTypeName() {
         return "Point";
     }
+
+    @Override
+    protected Point deferredPlaceholder() {
+        return GeometryFactoryProvider.getFactory(WkbUtil.DEFAULT_SRID).createPoint();
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.handler;
 
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
 import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
 import org.apache.ibatis.type.MappedTypes;
 import org.locationtech.jts.geom.Polygon;
@@ -78,6 +79,11 @@ protected String getGeometryTypeName() {
         return "Polygon";
     }
 
+    @Override
+    protected Polygon deferredPlaceholder() {
+        return GeometryFactoryProvider.getFactory(WkbUtil.DEFAULT_SRID).createPolygon();
+    }
+
     private String getValidationError(Polygon polygon) {
         if (polygon.getExteriorRing().getNumPoints() < 4) {
             return "exterior ring must have at least 4 points";
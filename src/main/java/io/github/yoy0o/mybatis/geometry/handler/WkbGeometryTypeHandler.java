@@ -0,0 +1,114 @@
+package io.github.yoy0o.mybatis.geometry.handler;
+
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MyBatis TypeHandler for {@link WkbGeometry}, a geometry kept in encoded WKB form.
+ * Reads and binds geometry columns without creating JTS objects.
+ *
+ * <p><strong>Write Operations:</strong></p>
+ * <ul>
+ *   <li><strong>MySQL:</strong> ps.setBytes() with the SRID-prefixed WKB as stored</li>
+ *   <li><strong>PostgreSQL:</strong> ps.setObject() with hex EWKB</li>
+ * </ul>
+ *
+ * <p><strong>Read Operations:</strong> parses the hex string produced by the SELECT wrapping
+ * into a {@link WkbGeometry}; no WKB decoding takes place.</p>
+ *
+ * <p>Usage in entity:</p>
+ * <pre>{@code
+ * @WkbTableField
+ * private WkbGeometry boundary;
+ * }</pre>
+ */
+@MappedTypes(WkbGeometry.class)
+public class WkbGeometryTypeHandler extends BaseTypeHandler<WkbGeometry> {
+
+    private static final Logger log = LoggerFactory.getLogger(WkbGeometryTypeHandler.class);
+
+    /** Default SRID to use when the holder has no SRID set */
+    protected final int defaultSrid;
+
+    /** Geometry handler strategy for database-specific operations */
+    protected final GeometryHandlerStrategy strategy;
+
+    /**
+     * Create a new WkbGeometryTypeHandler with default SRID (4326).
+     */
+    public WkbGeometryTypeHandler() {
+        this(WkbUtil.DEFAULT_SRID, GeometryStrategyFactory.getDefaultStrategy());
+    }
+
+    /**
+     * Create a new WkbGeometryTypeHandler with specified default SRID.
+     *
+     * @param defaultSrid the default SRID to use
+     */
+    public WkbGeometryTypeHandler(int defaultSrid) {
+        this(defaultSrid, GeometryStrategyFactory.getDefaultStrategy());
+    }
+
+    /**
+     * Create a new WkbGeometryTypeHandler with specified default SRID and strategy.
+     *
+     * @param defaultSrid the default SRID to use
+     * @param strategy the database-specific geometry handler strategy
+     */
+    public WkbGeometryTypeHandler(int defaultSrid, GeometryHandlerStrategy strategy) {
+        this.defaultSrid = defaultSrid;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, WkbGeometry parameter, JdbcType jdbcType)
+            throws SQLException {
+        int srid = parameter.getSrid() == 0 ? defaultSrid : parameter.getSrid();
+
+        if (strategy.getSupportedDatabaseType() == DatabaseType.POSTGRESQL) {
+            // Must use Types.OTHER so PostGIS parses the hex EWKB literal as geometry
+            ps.setObject(i, parameter.toEwkbHex(srid), java.sql.Types.OTHER);
+        } else {
+            // MySQL internal format is exactly the stored layout: 4-byte LE SRID + WKB
+            WkbGeometry value = srid == parameter.getSrid() ? parameter : WkbGeometry.of(srid, parameter.toWkb());
+            ps.setBytes(i, value.unsafeBytes());
+        }
+    }
+
+    @Override
+    public WkbGeometry getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return parse(rs.getString(columnName));
+    }
+
+    @Override
+    public WkbGeometry getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return parse(rs.getString(columnIndex));
+    }
+
+    @Override
+    public WkbGeometry getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return parse(cs.getString(columnIndex));
+    }
+
+    private WkbGeometry parse(String hexString) throws SQLException {
+        try {
+            return WkbGeometry.fromHex(hexString);
+        } catch (Exception e) {
+            log.error("Error reading WkbGeometry from WKB: {}", e.getMessage());
+            throw new SQLException("Failed to read WkbGeometry from WKB data", e);
+        }
+    }
+}
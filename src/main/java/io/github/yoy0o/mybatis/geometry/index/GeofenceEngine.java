@@ -0,0 +1,291 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable point-in-polygon engine over a set of polygonal fences.
+ *
+ * <p>Each fence is prepared once: an {@link IndexedPointInAreaLocator} answers point queries in
+ * O(log n) per polygon, and a {@link PreparedGeometry} answers geometry predicates. Fences are
+ * found through a packed {@link STRtree}, so a query only tests the polygons whose bounding box
+ * contains the point. Plain {@code Polygon.contains} would rebuild its edge index on every call.</p>
+ *
+ * <p>Point locators are built eagerly and read lock-free afterwards (the point locator of
+ * {@code PreparedPolygon} is guarded by a monitor, which serializes threads testing the same fence).
+ * Batches of at least {@code parallelThreshold} points are split across the common fork-join pool.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * GeofenceEngine<Zone> engine = GeofenceEngine.load(zoneMapper, Zone::getBoundary);
+ * List<Zone> zones = engine.locate(lon, lat);
+ * List<List<Zone>> batch = engine.locateAll(xs, ys);
+ * }</pre>
+ *
+ * <p>Points on a fence boundary are inside. Instances are thread-safe.</p>
+ *
+ * @param <T> the fence row type
+ */
+public class GeofenceEngine<T> {
+
+    /** Default minimum batch size for parallel evaluation */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    private final STRtree tree = new STRtree();
+    private final int size;
+    private final int parallelThreshold;
+
+    /**
+     * Build an engine with the default parallel threshold.
+     *
+     * @param fences the fence rows
+     * @param geometryOf extracts the fence geometry (Polygon or MultiPolygon); rows with null or empty geometry are skipped
+     */
+    public GeofenceEngine(Collection<? extends T> fences, Function<? super T, ? extends Geometry> geometryOf) {
+        this(fences, geometryOf, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Build an engine.
+     *
+     * @param fences the fence rows
+     * @param geometryOf extracts the fence geometry (Polygon or MultiPolygon); rows with null or empty geometry are skipped
+     * @param parallelThreshold minimum batch size evaluated in parallel
+     * @throws IllegalArgumentException if a fence geometry is not polygonal
+     */
+    public GeofenceEngine(Collection<? extends T> fences, Function<? super T, ? extends Geometry> geometryOf,
+                          int parallelThreshold) {
+        List<Fence<T>> prepared = new ArrayList<>(fences.size());
+        for (T row : fences) {
+            Geometry geometry = geometryOf.apply(row);
+            if (geometry == null || geometry.isEmpty()) {
+                continue;
+            }
+            if (!(geometry instanceof Polygonal)) {
+                throw new IllegalArgumentException("Fence geometry must be a Polygon or MultiPolygon, got: "
+                    + geometry.getGeometryType());
+            }
+            prepared.add(new Fence<>(row, PreparedGeometryFactory.prepare(geometry),
+                new IndexedPointInAreaLocator(geometry)));
+        }
+        // Build the per-fence edge indexes up front, in parallel for large layers
+        IntStream.range(0, prepared.size()).parallel()
+            .forEach(i -> prepared.get(i).locator().locate(prepared.get(i).geometry().getCoordinate()));
+        for (Fence<T> fence : prepared) {
+            tree.insert(fence.geometry().getEnvelopeInternal(), fence);
+        }
+        tree.build();
+        this.size = prepared.size();
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+    }
+
+    /**
+     * Load all rows of a mapped table, decoded by their TypeHandlers, and build an engine.
+     *
+     * @param mapper the fence mapper
+     * @param geometryOf the fence geometry getter, e.g. {@code Zone::getBoundary}
+     * @param <T> the fence row type
+     * @return the engine
+     */
+    public static <T> GeofenceEngine<T> load(BaseMapper<T> mapper, Function<? super T, ? extends Geometry> geometryOf) {
+        return new GeofenceEngine<>(mapper.selectList(null), geometryOf);
+    }
+
+    /**
+     * Get the number of fences.
+     *
+     * @return the fence count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find the fences containing a point.
+     *
+     * @param x the x coordinate (longitude)
+     * @param y the y coordinate (latitude)
+     * @return the containing fences, in no particular order
+     */
+    public List<T> locate(double x, double y) {
+        Coordinate coordinate = new Coordinate(x, y);
+        ContainingFences<T> visitor = new ContainingFences<>(coordinate);
+        tree.query(new Envelope(coordinate), visitor);
+        return visitor.rows == null ? Collections.emptyList() : visitor.rows;
+    }
+
+    /**
+     * Find the fences containing a point.
+     *
+     * @param point the point
+     * @return the containing fences, in no particular order
+     */
+    public List<T> locate(Point point) {
+        return locate(point.getX(), point.getY());
+    }
+
+    /**
+     * Find the fences containing each point of a batch.
+     *
+     * @param points the points
+     * @return one list of containing fences per point, in input order
+     */
+    public List<List<T>> locateAll(List<? extends Point> points) {
+        return evaluate(points.size(), i -> locate(points.get(i)));
+    }
+
+    /**
+     * Find the fences containing each point of a batch given as coordinate arrays.
+     *
+     * @param xs the x coordinates
+     * @param ys the y coordinates, same length as {@code xs}
+     * @return one list of containing fences per point, in input order
+     */
+    public List<List<T>> locateAll(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays differ in length: " + xs.length + " != " + ys.length);
+        }
+        return evaluate(xs.length, i -> locate(xs[i], ys[i]));
+    }
+
+    /**
+     * Find the fences intersecting a geometry, using the prepared fence geometries.
+     *
+     * @param geometry the query geometry
+     * @return the intersecting fences, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> intersecting(Geometry geometry) {
+        List<T> result = new ArrayList<>();
+        tree.query(geometry.getEnvelopeInternal(), item -> {
+            Fence<T> fence = (Fence<T>) item;
+            if (fence.prepared().intersects(geometry)) {
+                result.add(fence.row());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Measure point lookup throughput on this engine.
+     *
+     * <p>Runs {@code rounds} passes over the batch after one warm-up pass and reports the best pass,
+     * once sequentially and once with the parallel batch path.</p>
+     *
+     * @param xs the x coordinates of the sample points
+     * @param ys the y coordinates of the sample points
+     * @param rounds number of measured passes
+     * @return the sequential and parallel throughput
+     */
+    public Benchmark benchmark(double[] xs, double[] ys, int rounds) {
+        if (xs.length != ys.length || xs.length == 0) {
+            throw new IllegalArgumentException("Sample coordinate arrays must be non-empty and of equal length");
+        }
+        long sequential = Long.MAX_VALUE;
+        long parallel = Long.MAX_VALUE;
+        long matches = 0;
+        for (int round = -1; round < Math.max(1, rounds); round++) {
+            long start = System.nanoTime();
+            long hits = 0;
+            for (int i = 0; i < xs.length; i++) {
+                hits += locate(xs[i], ys[i]).size();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            IntStream.range(0, xs.length).parallel().forEach(i -> locate(xs[i], ys[i]));
+            long parallelElapsed = System.nanoTime() - start;
+
+            if (round >= 0) {
+                sequential = Math.min(sequential, elapsed);
+                parallel = Math.min(parallel, parallelElapsed);
+                matches = hits;
+            }
+        }
+        return new Benchmark(size, xs.length, matches, toRate(xs.length, sequential), toRate(xs.length, parallel),
+            Runtime.getRuntime().availableProcessors());
+    }
+
+    private List<List<T>> evaluate(int count, IntFunction<List<T>> lookup) {
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= parallelThreshold) {
+            indexes = indexes.parallel();
+        }
+        // Encounter order is kept on the parallel path too
+        return indexes.mapToObj(lookup).toList();
+    }
+
+    private static double toRate(int points, long nanos) {
+        return nanos <= 0 ? Double.POSITIVE_INFINITY : points * 1e9 / nanos;
+    }
+
+    /**
+     * Result of {@link #benchmark(double[], double[], int)}.
+     *
+     * @param fences number of fences in the engine
+     * @param points number of sample points per pass
+     * @param matches number of (point, fence) matches per pass
+     * @param sequentialPointsPerSecond best single-threaded throughput
+     * @param parallelPointsPerSecond best parallel throughput
+     * @param processors available processors
+     */
+    public record Benchmark(int fences, int points, long matches, double sequentialPointsPerSecond,
+                            double parallelPointsPerSecond, int processors) {
+
+        @Override
+        public String toString() {
+            return String.format("%d fences, %d points, %d matches: %.0f points/s sequential, %.0f points/s parallel (%d cores)",
+                fences, points, matches, sequentialPointsPerSecond, parallelPointsPerSecond, processors);
+        }
+    }
+
+    /**
+     * Collects the rows of fences containing a coordinate; the list is only allocated on the first hit.
+     */
+    private static final class ContainingFences<T> implements ItemVisitor {
+
+        private final Coordinate coordinate;
+        private List<T> rows;
+
+        ContainingFences(Coordinate coordinate) {
+            this.coordinate = coordinate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void visitItem(Object item) {
+            Fence<T> fence = (Fence<T>) item;
+            if (fence.locator().locate(coordinate) != Location.EXTERIOR) {
+                if (rows == null) {
+                    rows = new ArrayList<>(2);
+                }
+                rows.add(fence.row());
+            }
+        }
+    }
+
+    private record Fence<T>(T row, PreparedGeometry prepared, IndexedPointInAreaLocator locator) {
+
+        Geometry geometry() {
+            return prepared.getGeometry();
+        }
+    }
+}
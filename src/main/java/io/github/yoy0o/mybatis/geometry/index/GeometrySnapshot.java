@@ -0,0 +1,639 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import io.github.yoy0o.mybatis.geometry.util.SpatialOrder;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only layer of decoded geometries persisted in a memory-mapped file, for fast warm starts.
+ *
+ * <p>A snapshot holds packed XY coordinates, a {@code long} id per geometry and a packed Hilbert
+ * R-tree over the geometry envelopes. {@link #open(Path)} maps the file and validates its header;
+ * it does not read or decode the geometries, so opening takes milliseconds regardless of size.
+ * {@link #getGeometry(int)} returns JTS geometries whose coordinate sequences read directly from the
+ * mapped region without copying; they are read-only ({@code copy()} them to modify).</p>
+ *
+ * <p>Each snapshot carries a caller-defined version stamp, e.g. derived from the row count and the
+ * latest {@code updated_at} of the source table. {@link #openIfCurrent(Path, long)} returns null when the
+ * file is missing, invalid or stale, so the caller can fall back to loading from the database:</p>
+ * <pre>{@code
+ * GeometrySnapshot snapshot = GeometrySnapshot.openIfCurrent(file, stamp);
+ * if (snapshot == null) {
+ *     List<Zone> zones = zoneMapper.selectList(null);
+ *     GeometrySnapshot.write(file, stamp, zones, Zone::getBoundary, Zone::getId);
+ *     snapshot = GeometrySnapshot.open(file);
+ * }
+ * int[] hits = snapshot.query(envelope);
+ * }</pre>
+ *
+ * <p>Supported types: Point, LineString, Polygon, MultiPoint, MultiLineString, MultiPolygon; 2D only.
+ * Files are limited to 2 GB. Files are written to a temporary sibling and moved into place, so readers
+ * never map a partial file. Instances are thread-safe.</p>
+ */
+public final class GeometrySnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(GeometrySnapshot.class);
+
+    /** File magic: "MPGS" */
+    private static final int MAGIC = 0x5347504D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 64;
+    private static final int NODE_SIZE = 16;
+
+    private static final int POINT = 1;
+    private static final int LINE_STRING = 2;
+    private static final int POLYGON = 3;
+    private static final int MULTI_POINT = 4;
+    private static final int MULTI_LINE_STRING = 5;
+    private static final int MULTI_POLYGON = 6;
+
+    private final ByteBuffer buffer;
+    private final long stamp;
+    private final int count;
+    private final int treeOffset;
+    private final int indicesOffset;
+    private final int directoryOffset;
+    private final int[] levelEnds;
+    private final GeometryFactory factory;
+
+    private GeometrySnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_LENGTH || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a geometry snapshot file");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version: " + buffer.getInt(4));
+        }
+        if (buffer.getLong(56) != buffer.capacity()) {
+            throw new IOException("Truncated snapshot file: expected " + buffer.getLong(56)
+                + " bytes, found " + buffer.capacity());
+        }
+        this.stamp = buffer.getLong(8);
+        this.count = buffer.getInt(16);
+        this.factory = new GeometryFactory(new PrecisionModel(), buffer.getInt(20));
+        // Each geometry takes at least a 16-byte directory entry
+        if (count < 0 || count > buffer.capacity() / 16) {
+            throw new IOException("Corrupt snapshot header: geometry count " + count);
+        }
+        this.levelEnds = levelEnds(count);
+        int nodes = levelEnds.length == 0 ? 0 : levelEnds[levelEnds.length - 1];
+        if (buffer.getInt(24) != NODE_SIZE || buffer.getInt(28) != nodes) {
+            throw new IOException("Corrupt snapshot header: " + buffer.getInt(28) + " tree nodes of size "
+                + buffer.getInt(24) + " for " + count + " geometries");
+        }
+        long tree = checkOffset(buffer, 32, "tree");
+        long directory = checkOffset(buffer, 40, "directory");
+        long data = checkOffset(buffer, 48, "data");
+        if (tree + nodes * 36L > directory || directory + count * 16L > data) {
+            throw new IOException("Corrupt snapshot header: overlapping sections (tree " + tree
+                + ", directory " + directory + ", data " + data + ")");
+        }
+        this.treeOffset = (int) tree;
+        this.indicesOffset = treeOffset + nodes * 32;
+        this.directoryOffset = (int) directory;
+    }
+
+    /**
+     * Read a section offset from the header and check it lies within the file, after the header.
+     */
+    private static long checkOffset(ByteBuffer buffer, int field, String section) throws IOException {
+        long offset = buffer.getLong(field);
+        if (offset < HEADER_LENGTH || offset > buffer.capacity()) {
+            throw new IOException("Corrupt snapshot header: " + section + " offset " + offset
+                + " outside [" + HEADER_LENGTH + ", " + buffer.capacity() + "]");
+        }
+        return offset;
+    }
+
+    /**
+     * Map a snapshot file.
+     *
+     * @param file the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static GeometrySnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file too large: " + channel.size());
+            }
+            // The mapping stays valid after the channel is closed
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+            return new GeometrySnapshot(mapped);
+        }
+    }
+
+    /**
+     * Map a snapshot file if it exists, is valid and carries the expected stamp.
+     *
+     * @param file the snapshot file
+     * @param expectedStamp the current version stamp of the source data
+     * @return the snapshot, or null if missing, invalid or stale
+     */
+    public static GeometrySnapshot openIfCurrent(Path file, long expectedStamp) {
+        try {
+            GeometrySnapshot snapshot = open(file);
+            if (snapshot.getStamp() == expectedStamp) {
+                return snapshot;
+            }
+            log.debug("Snapshot {} is stale (stamp {}, expected {})", file, snapshot.getStamp(), expectedStamp);
+        } catch (NoSuchFileException e) {
+            log.debug("Snapshot {} does not exist", file);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable snapshot {}: {}", file, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Write the geometries of entity rows to a snapshot file. Rows with null or empty geometry are skipped.
+     *
+     * @param file the target file (replaced atomically)
+     * @param stamp the version stamp of the source data
+     * @param rows the rows
+     * @param geometryOf the geometry getter, e.g. {@code Zone::getBoundary}
+     * @param idOf the id getter, e.g. {@code Zone::getId}
+     * @param <T> the row type
+     * @throws IOException if the file cannot be written
+     */
+    public static <T> void write(Path file, long stamp, Collection<? extends T> rows,
+                                 Function<? super T, ? extends Geometry> geometryOf,
+                                 ToLongFunction<? super T> idOf) throws IOException {
+        List<Geometry> geometries = new ArrayList<>(rows.size());
+        long[] ids = new long[rows.size()];
+        for (T row : rows) {
+            Geometry geometry = geometryOf.apply(row);
+            if (geometry != null && !geometry.isEmpty()) {
+                ids[geometries.size()] = idOf.applyAsLong(row);
+                geometries.add(geometry);
+            }
+        }
+        write(file, stamp, geometries, Arrays.copyOf(ids, geometries.size()));
+    }
+
+    /**
+     * Write geometries to a snapshot file.
+     *
+     * @param file the target file (replaced atomically)
+     * @param stamp the version stamp of the source data
+     * @param geometries the geometries, non-empty and all with the same SRID
+     * @param ids one id per geometry
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException for unsupported, empty or mixed-SRID geometries
+     */
+    public static void write(Path file, long stamp, List<? extends Geometry> geometries, long[] ids) throws IOException {
+        int count = geometries.size();
+        if (ids.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " ids, got " + ids.length);
+        }
+        int srid = count == 0 ? 0 : geometries.get(0).getSRID();
+
+        // Leaves in Hilbert order of the envelope centers
+        Envelope extent = new Envelope();
+        for (Geometry geometry : geometries) {
+            if (geometry.isEmpty()) {
+                throw new IllegalArgumentException("Empty geometries cannot be stored in a snapshot");
+            }
+            if (geometry.getSRID() != srid) {
+                throw new IllegalArgumentException("Mixed SRIDs in snapshot: " + srid + " and " + geometry.getSRID());
+            }
+            extent.expandToInclude(geometry.getEnvelopeInternal());
+        }
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = SpatialOrder.HILBERT.index(geometries.get(i).getEnvelopeInternal(), extent);
+        }
+        Integer[] order = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingLong(i -> keys[i]));
+
+        int[] levelEnds = levelEnds(count);
+        int nodes = levelEnds.length == 0 ? 0 : levelEnds[levelEnds.length - 1];
+        long treeOffset = HEADER_LENGTH;
+        long directoryOffset = align(treeOffset + nodes * 32L + nodes * 4L);
+        long dataOffset = directoryOffset + count * 16L;
+        long length = dataOffset;
+        for (Geometry geometry : geometries) {
+            length += recordLength(geometry);
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot would exceed 2 GB: " + length + " bytes");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putLong(8, stamp).putInt(16, count).putInt(20, srid)
+            .putInt(24, NODE_SIZE).putInt(28, nodes).putLong(32, treeOffset).putLong(40, directoryOffset)
+            .putLong(48, dataOffset).putLong(56, length);
+
+        double[] boxes = new double[nodes * 4];
+        int[] indices = new int[nodes];
+        int position = (int) dataOffset;
+        for (int leaf = 0; leaf < count; leaf++) {
+            Geometry geometry = geometries.get(order[leaf]);
+            Envelope env = geometry.getEnvelopeInternal();
+            boxes[leaf * 4] = env.getMinX();
+            boxes[leaf * 4 + 1] = env.getMinY();
+            boxes[leaf * 4 + 2] = env.getMaxX();
+            boxes[leaf * 4 + 3] = env.getMaxY();
+            indices[leaf] = leaf;
+            out.putLong((int) directoryOffset + leaf * 16, ids[order[leaf]]);
+            out.putLong((int) directoryOffset + leaf * 16 + 8, position);
+            position = writeRecord(out, position, geometry);
+        }
+        buildTree(boxes, indices, levelEnds);
+        for (int i = 0; i < boxes.length; i++) {
+            out.putDouble((int) treeOffset + i * 8, boxes[i]);
+        }
+        for (int i = 0; i < nodes; i++) {
+            out.putInt((int) treeOffset + nodes * 32 + i * 4, indices[i]);
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Get the version stamp the snapshot was written with.
+     *
+     * @return the stamp
+     */
+    public long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Get the number of geometries.
+     *
+     * @return the geometry count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the SRID of the geometries.
+     *
+     * @return the SRID
+     */
+    public int getSrid() {
+        return factory.getSRID();
+    }
+
+    /**
+     * Get the id of a geometry.
+     *
+     * @param index the geometry index, 0 to {@link #size()} - 1 (Hilbert order, not input order)
+     * @return the id
+     */
+    public long getId(int index) {
+        return buffer.getLong(directoryOffset + checkIndex(index) * 16);
+    }
+
+    /**
+     * Get the envelope of a geometry from the index, without reading its coordinates.
+     *
+     * @param index the geometry index
+     * @return a new envelope
+     */
+    public Envelope getEnvelope(int index) {
+        int box = treeOffset + checkIndex(index) * 32;
+        return new Envelope(buffer.getDouble(box), buffer.getDouble(box + 16),
+            buffer.getDouble(box + 8), buffer.getDouble(box + 24));
+    }
+
+    /**
+     * Get a geometry. Its coordinates are read from the mapped file on access, not copied.
+     *
+     * @param index the geometry index
+     * @return a read-only geometry
+     */
+    public Geometry getGeometry(int index) {
+        int position = (int) buffer.getLong(directoryOffset + checkIndex(index) * 16 + 8);
+        int type = buffer.getInt(position);
+        int structure = position + 8;
+        int coordinates = (int) align(structure + buffer.getInt(position + 4) * 4L);
+        return readGeometry(type, structure, coordinates);
+    }
+
+    /**
+     * Find the geometries whose envelope intersects a search envelope.
+     *
+     * @param envelope the search envelope
+     * @param visitor receives the index of each match
+     */
+    public void query(Envelope envelope, IntConsumer visitor) {
+        if (count == 0) {
+            return;
+        }
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = levelEnds[levelEnds.length - 1] - 1;
+        stack[top++] = levelEnds.length - 1;
+        while (top > 0) {
+            int level = stack[--top];
+            int node = stack[--top];
+            int first = buffer.getInt(indicesOffset + node * 4);
+            int last = Math.min(first + NODE_SIZE, levelEnds[level - 1]);
+            for (int child = first; child < last; child++) {
+                if (!intersects(child, envelope)) {
+                    continue;
+                }
+                if (level == 1) {
+                    visitor.accept(child);
+                } else {
+                    if (top + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = child;
+                    stack[top++] = level - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the geometries whose envelope intersects a search envelope.
+     *
+     * @param envelope the search envelope
+     * @return the indexes of the matches, ascending
+     */
+    public int[] query(Envelope envelope) {
+        IntStream.Builder matches = IntStream.builder();
+        query(envelope, matches::add);
+        return matches.build().sorted().toArray();
+    }
+
+    private boolean intersects(int node, Envelope envelope) {
+        int box = treeOffset + node * 32;
+        return buffer.getDouble(box) <= envelope.getMaxX() && buffer.getDouble(box + 8) <= envelope.getMaxY()
+            && buffer.getDouble(box + 16) >= envelope.getMinX() && buffer.getDouble(box + 24) >= envelope.getMinY();
+    }
+
+    private Geometry readGeometry(int type, int structure, int coordinates) {
+        switch (type) {
+            case POINT:
+                return factory.createPoint(new MappedCoordinateSequence(buffer, coordinates, 1));
+            case LINE_STRING:
+                return factory.createLineString(sequence(coordinates, buffer.getInt(structure)));
+            case POLYGON:
+                return readPolygon(structure, new int[]{coordinates});
+            case MULTI_POINT: {
+                Point[] points = new Point[buffer.getInt(structure)];
+                for (int i = 0; i < points.length; i++) {
+                    points[i] = factory.createPoint(sequence(coordinates + i * 16, 1));
+                }
+                return factory.createMultiPoint(points);
+            }
+            case MULTI_LINE_STRING: {
+                LineString[] lines = new LineString[buffer.getInt(structure)];
+                for (int i = 0; i < lines.length; i++) {
+                    int size = buffer.getInt(structure + 4 + i * 4);
+                    lines[i] = factory.createLineString(sequence(coordinates, size));
+                    coordinates += size * 16;
+                }
+                return factory.createMultiLineString(lines);
+            }
+            case MULTI_POLYGON: {
+                Polygon[] polygons = new Polygon[buffer.getInt(structure)];
+                int[] cursor = {coordinates};
+                structure += 4;
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = readPolygon(structure, cursor);
+                    structure += 4 + buffer.getInt(structure) * 4;
+                }
+                return factory.createMultiPolygon(polygons);
+            }
+            default:
+                throw new IllegalStateException("Corrupt snapshot: unknown geometry type " + type);
+        }
+    }
+
+    /**
+     * Read a polygon whose structure is {@code [rings, size1, ..., sizeN]}; advances the coordinate cursor.
+     */
+    private Polygon readPolygon(int structure, int[] cursor) {
+        int rings = buffer.getInt(structure);
+        LinearRing[] holes = new LinearRing[rings - 1];
+        LinearRing shell = null;
+        for (int r = 0; r < rings; r++) {
+            int size = buffer.getInt(structure + 4 + r * 4);
+            LinearRing ring = factory.createLinearRing(sequence(cursor[0], size));
+            cursor[0] += size * 16;
+            if (r == 0) {
+                shell = ring;
+            } else {
+                holes[r - 1] = ring;
+            }
+        }
+        return factory.createPolygon(shell, holes);
+    }
+
+    private CoordinateSequence sequence(int offset, int size) {
+        return new MappedCoordinateSequence(buffer, offset, size);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Geometry index " + index + " out of range [0, " + count + ")");
+        }
+        return index;
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Record layout: int type, int structure length k, k ints, padding to 8, packed XY doubles.
+     */
+    private static int writeRecord(ByteBuffer out, int position, Geometry geometry) {
+        int[] structure = structure(geometry);
+        out.putInt(position, typeOf(geometry)).putInt(position + 4, structure.length);
+        for (int i = 0; i < structure.length; i++) {
+            out.putInt(position + 8 + i * 4, structure[i]);
+        }
+        int[] cursor = {(int) align(position + 8 + structure.length * 4L)};
+        writeCoordinates(out, cursor, geometry);
+        return cursor[0];
+    }
+
+    private static void writeCoordinates(ByteBuffer out, int[] cursor, Geometry geometry) {
+        if (geometry instanceof Polygon polygon) {
+            writeSequence(out, cursor, polygon.getExteriorRing().getCoordinateSequence());
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                writeSequence(out, cursor, polygon.getInteriorRingN(i).getCoordinateSequence());
+            }
+        } else if (geometry instanceof Point || geometry instanceof LineString) {
+            writeSequence(out, cursor, ((geometry instanceof Point point)
+                ? point.getCoordinateSequence() : ((LineString) geometry).getCoordinateSequence()));
+        } else {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeCoordinates(out, cursor, geometry.getGeometryN(i));
+            }
+        }
+    }
+
+    private static void writeSequence(ByteBuffer out, int[] cursor, CoordinateSequence sequence) {
+        for (int i = 0; i < sequence.size(); i++) {
+            out.putDouble(cursor[0], sequence.getX(i));
+            out.putDouble(cursor[0] + 8, sequence.getY(i));
+            cursor[0] += 16;
+        }
+    }
+
+    private static long recordLength(Geometry geometry) {
+        return align(8 + structure(geometry).length * 4L) + geometry.getNumPoints() * 16L;
+    }
+
+    private static int typeOf(Geometry geometry) {
+        if (geometry instanceof Point) {
+            return POINT;
+        } else if (geometry instanceof LineString) {
+            return LINE_STRING;
+        } else if (geometry instanceof Polygon) {
+            return POLYGON;
+        } else if (geometry instanceof MultiPoint) {
+            return MULTI_POINT;
+        } else if (geometry instanceof MultiLineString) {
+            return MULTI_LINE_STRING;
+        } else if (geometry instanceof MultiPolygon) {
+            return MULTI_POLYGON;
+        }
+        throw new IllegalArgumentException("Unsupported geometry type for snapshot: " + geometry.getGeometryType());
+    }
+
+    private static int[] structure(Geometry geometry) {
+        return switch (typeOf(geometry)) {
+            case POINT -> new int[0];
+            case LINE_STRING, MULTI_POINT -> new int[]{geometry.getNumPoints()};
+            case POLYGON -> rings((Polygon) geometry);
+            case MULTI_LINE_STRING -> {
+                int[] sizes = new int[1 + geometry.getNumGeometries()];
+                sizes[0] = geometry.getNumGeometries();
+                for (int i = 0; i < sizes[0]; i++) {
+                    sizes[i + 1] = geometry.getGeometryN(i).getNumPoints();
+                }
+                yield sizes;
+            }
+            default -> {
+                List<int[]> polygons = new ArrayList<>();
+                int length = 1;
+                for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                    int[] rings = rings((Polygon) geometry.getGeometryN(i));
+                    polygons.add(rings);
+                    length += rings.length;
+                }
+                int[] sizes = new int[length];
+                sizes[0] = polygons.size();
+                int position = 1;
+                for (int[] rings : polygons) {
+                    System.arraycopy(rings, 0, sizes, position, rings.length);
+                    position += rings.length;
+                }
+                yield sizes;
+            }
+        };
+    }
+
+    private static int[] rings(Polygon polygon) {
+        int[] sizes = new int[2 + polygon.getNumInteriorRing()];
+        sizes[0] = 1 + polygon.getNumInteriorRing();
+        sizes[1] = polygon.getExteriorRing().getNumPoints();
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            sizes[i + 2] = polygon.getInteriorRingN(i).getNumPoints();
+        }
+        return sizes;
+    }
+
+    // ==================== Packed R-tree ====================
+
+    /**
+     * Node count at the end of each tree level, leaves first; the last level holds only the root.
+     */
+    private static int[] levelEnds(int count) {
+        if (count == 0) {
+            return new int[0];
+        }
+        List<Integer> ends = new ArrayList<>();
+        int nodes = count;
+        int levelSize = count;
+        ends.add(nodes);
+        do {
+            levelSize = (levelSize + NODE_SIZE - 1) / NODE_SIZE;
+            nodes += levelSize;
+            ends.add(nodes);
+        } while (levelSize != 1);
+        return ends.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Fill the parent levels: each parent covers up to {@link #NODE_SIZE} consecutive children and
+     * stores the index of its first child.
+     */
+    private static void buildTree(double[] boxes, int[] indices, int[] levelEnds) {
+        int parent = levelEnds.length == 0 ? 0 : levelEnds[0];
+        int levelStart = 0;
+        for (int level = 0; level < levelEnds.length - 1; level++) {
+            int levelEnd = levelEnds[level];
+            for (int first = levelStart; first < levelEnd; first += NODE_SIZE) {
+                double minX = Double.POSITIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                for (int child = first; child < Math.min(first + NODE_SIZE, levelEnd); child++) {
+                    minX = Math.min(minX, boxes[child * 4]);
+                    minY = Math.min(minY, boxes[child * 4 + 1]);
+                    maxX = Math.max(maxX, boxes[child * 4 + 2]);
+                    maxY = Math.max(maxY, boxes[child * 4 + 3]);
+                }
+                boxes[parent * 4] = minX;
+                boxes[parent * 4 + 1] = minY;
+                boxes[parent * 4 + 2] = maxX;
+                boxes[parent * 4 + 3] = maxY;
+                indices[parent] = first;
+                parent++;
+            }
+            levelStart = levelEnd;
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+}
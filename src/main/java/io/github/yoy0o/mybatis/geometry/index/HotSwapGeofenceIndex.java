@@ -0,0 +1,303 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Versioned, copy-on-write holder of a {@link GeofenceEngine} that is rebuilt off-thread as fence rows change.
+ *
+ * <p>Readers call {@link #current()} (or {@link #locate}) and get the latest published engine with a single
+ * volatile read; they never block and never see a partially built index. Rebuilds run on a dedicated
+ * background thread: changed rows are read through the mapper (and so through the geometry TypeHandlers)
+ * using the {@code updated_at} column, merged into a copy of the previous row set, prepared into a new
+ * engine and published atomically with an incremented version. A failed rebuild keeps the previous version.
+ * Rows whose geometry is not a Polygon or MultiPolygon are left out with a warning (see
+ * {@link Stats#skippedRows()}) rather than failing the rebuild.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * HotSwapGeofenceIndex<Zone> fences = new HotSwapGeofenceIndex<>(
+ *     zoneMapper, Zone::getBoundary, Zone::getId, Zone::getUpdatedAt);
+ * fences.reload();
+ * fences.scheduleRefresh(Duration.ofSeconds(5));
+ * List<Zone> zones = fences.locate(lon, lat);
+ * }</pre>
+ *
+ * <p>Refresh requests issued while one is pending share its result. Hard deletes need {@link #reload()}.
+ * Close the index to stop the background thread.</p>
+ *
+ * @param <T> the fence row type
+ */
+public class HotSwapGeofenceIndex<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HotSwapGeofenceIndex.class);
+
+    private final BaseMapper<T> mapper;
+    private final Function<? super T, ? extends Geometry> geometryOf;
+    private final Function<? super T, ?> idOf;
+    private final SFunction<T, ?> updatedAtColumn;
+    private final int parallelThreshold;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<CompletableFuture<Stats>> pendingRefresh = new AtomicReference<>();
+
+    private volatile Version<T> version = new Version<>(0, new GeofenceEngine<>(Collections.emptyList(), r -> null),
+        Collections.emptyMap(), Collections.emptySet(), new UpdatedAtWatermark(), null);
+
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastRebuildNanos;
+    private volatile int lastChangedRows;
+
+    /**
+     * Create an index with the default parallel threshold.
+     *
+     * @param mapper the fence mapper
+     * @param geometryOf the fence geometry getter, e.g. {@code Zone::getBoundary}
+     * @param idOf the primary key getter
+     * @param updatedAtColumn the last-modified column, or null to always rebuild from all rows
+     */
+    public HotSwapGeofenceIndex(BaseMapper<T> mapper, Function<? super T, ? extends Geometry> geometryOf,
+                                Function<? super T, ?> idOf, SFunction<T, ?> updatedAtColumn) {
+        this(mapper, geometryOf, idOf, updatedAtColumn, GeofenceEngine.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Create an index.
+     *
+     * @param mapper the fence mapper
+     * @param geometryOf the fence geometry getter, e.g. {@code Zone::getBoundary}
+     * @param idOf the primary key getter
+     * @param updatedAtColumn the last-modified column, or null to always rebuild from all rows
+     * @param parallelThreshold minimum batch size evaluated in parallel by the engines
+     */
+    public HotSwapGeofenceIndex(BaseMapper<T> mapper, Function<? super T, ? extends Geometry> geometryOf,
+                                Function<? super T, ?> idOf, SFunction<T, ?> updatedAtColumn, int parallelThreshold) {
+        this.mapper = mapper;
+        this.geometryOf = geometryOf;
+        this.idOf = idOf;
+        this.updatedAtColumn = updatedAtColumn;
+        this.parallelThreshold = parallelThreshold;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "geofence-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the current engine. Lock-free; the result is immutable and stays valid after later swaps.
+     *
+     * @return the engine of the latest published version
+     */
+    public GeofenceEngine<T> current() {
+        return version.engine();
+    }
+
+    /**
+     * Find the fences containing a point in the current version.
+     *
+     * @param x the x coordinate (longitude)
+     * @param y the y coordinate (latitude)
+     * @return the containing fences, in no particular order
+     */
+    public List<T> locate(double x, double y) {
+        return version.engine().locate(x, y);
+    }
+
+    /**
+     * Get the current version number; 0 until the first load, then incremented by every swap.
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+        return version.number();
+    }
+
+    /**
+     * Load all rows and swap in a new version, waiting for completion.
+     *
+     * @return statistics after the swap
+     * @throws RuntimeException if loading or building fails; the previous version stays in use
+     */
+    public Stats reload() {
+        try {
+            return CompletableFuture.supplyAsync(() -> rebuild(true), executor).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Re-read changed rows in the background and swap in a new version if any changed.
+     * Calls made while a refresh is pending return the same future.
+     *
+     * @return future completed with statistics after the refresh; completed exceptionally with
+     *         {@link RejectedExecutionException} once the index is closed
+     */
+    public CompletableFuture<Stats> refreshAsync() {
+        CompletableFuture<Stats> created = new CompletableFuture<>();
+        CompletableFuture<Stats> pending = pendingRefresh.compareAndExchange(null, created);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            executor.execute(() -> {
+                pendingRefresh.set(null);
+                try {
+                    created.complete(rebuild(false));
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Closed: release the slot so later calls do not get a future that never completes
+            pendingRefresh.compareAndSet(created, null);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * Refresh periodically in the background. Failures are logged; the previous version stays in use.
+     *
+     * @param interval the delay between the end of one refresh and the start of the next
+     * @return handle to cancel the schedule
+     */
+    public ScheduledFuture<?> scheduleRefresh(Duration interval) {
+        long millis = interval.toMillis();
+        return executor.scheduleWithFixedDelay(() -> {
+            try {
+                rebuild(false);
+            } catch (RuntimeException e) {
+                // Already counted and logged; keep the schedule alive
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get a snapshot of the rebuild statistics.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        Version<T> current = version;
+        return new Stats(current.number(), current.engine().size(), current.builtAt(), rebuilds.sum(),
+            failures.sum(), lastRebuildNanos, lastChangedRows, current.skipped().size());
+    }
+
+    /**
+     * Stop the background thread. The current version remains readable.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs on the rebuild thread only, so versions are built and published one at a time.
+     */
+    private Stats rebuild(boolean full) {
+        long start = System.nanoTime();
+        try {
+            Version<T> current = version;
+            boolean incremental = !full && updatedAtColumn != null && !current.watermark().isEmpty();
+            Map<Object, T> rows = incremental ? new HashMap<>(current.rows()) : new HashMap<>();
+            Set<Object> skipped = incremental ? new HashSet<>(current.skipped()) : new HashSet<>();
+            UpdatedAtWatermark watermark = incremental ? current.watermark().copy() : new UpdatedAtWatermark();
+
+            List<T> loaded = incremental
+                ? mapper.selectList(new LambdaQueryWrapper<T>().ge(updatedAtColumn, current.watermark().value()))
+                : mapper.selectList(null);
+            int changed = 0;
+            for (T row : loaded) {
+                Object id = idOf.apply(row);
+                Comparable<Object> updatedAt = updatedAt(row);
+                if (incremental && current.watermark().isSeen(updatedAt, id)) {
+                    continue;
+                }
+                watermark.advance(updatedAt, id);
+                Geometry geometry = geometryOf.apply(row);
+                if (geometry == null || geometry.isEmpty()) {
+                    rows.remove(id);
+                    skipped.remove(id);
+                } else if (!(geometry instanceof Polygonal)) {
+                    // One bad row must not hold every later rebuild on a stale version
+                    log.warn("Skipping geofence row {}: geometry must be a Polygon or MultiPolygon, got {}",
+                        id, geometry.getGeometryType());
+                    rows.remove(id);
+                    skipped.add(id);
+                } else {
+                    rows.put(id, row);
+                    skipped.remove(id);
+                }
+                changed++;
+            }
+            if (incremental && changed == 0) {
+                return getStats();
+            }
+
+            GeofenceEngine<T> engine = new GeofenceEngine<>(rows.values(), geometryOf, parallelThreshold);
+            version = new Version<>(current.number() + 1, engine, rows, skipped, watermark, Instant.now());
+            lastRebuildNanos = System.nanoTime() - start;
+            lastChangedRows = changed;
+            rebuilds.increment();
+            log.debug("Published geofence index version {} ({} fences, {} changed rows) in {} ms",
+                current.number() + 1, engine.size(), changed, lastRebuildNanos / 1_000_000);
+            return getStats();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Geofence index rebuild failed, keeping version {}: {}", version.number(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> updatedAt(T row) {
+        return updatedAtColumn == null ? null : (Comparable<Object>) updatedAtColumn.apply(row);
+    }
+
+    /**
+     * Rebuild statistics snapshot.
+     *
+     * @param version the current version number
+     * @param fences number of fences in the current version
+     * @param builtAt when the current version was published, or null before the first load
+     * @param rebuilds number of published rebuilds
+     * @param failures number of failed rebuilds
+     * @param lastRebuildNanos duration of the last published rebuild (query, prepare and index)
+     * @param lastChangedRows number of changed rows applied by the last published rebuild
+     * @param skippedRows number of rows left out of the current version because their geometry is not polygonal
+     */
+    public record Stats(long version, int fences, Instant builtAt, long rebuilds, long failures,
+                        long lastRebuildNanos, int lastChangedRows, int skippedRows) {
+    }
+
+    private record Version<T>(long number, GeofenceEngine<T> engine, Map<Object, T> rows, Set<Object> skipped,
+                              UpdatedAtWatermark watermark, Instant builtAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only 2D coordinate sequence backed by packed little-endian XY doubles in a (mapped) buffer.
+ * Ordinates are read with absolute gets, so instances can be shared between threads.
+ */
+final class MappedCoordinateSequence implements CoordinateSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int size;
+
+    /**
+     * @param buffer the little-endian buffer holding the ordinates
+     * @param offset byte offset of the first X ordinate
+     * @param size number of coordinates
+     */
+    MappedCoordinateSequence(ByteBuffer buffer, int offset, int size) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int getDimension() {
+        return 2;
+    }
+
+    @Override
+    public Coordinate getCoordinate(int i) {
+        return new Coordinate(getX(i), getY(i));
+    }
+
+    @Override
+    public Coordinate getCoordinateCopy(int i) {
+        return getCoordinate(i);
+    }
+
+    @Override
+    public void getCoordinate(int i, Coordinate coord) {
+        coord.x = getX(i);
+        coord.y = getY(i);
+    }
+
+    @Override
+    public double getX(int i) {
+        return buffer.getDouble(offset + i * 16);
+    }
+
+    @Override
+    public double getY(int i) {
+        return buffer.getDouble(offset + i * 16 + 8);
+    }
+
+    @Override
+    public double getOrdinate(int i, int ordinateIndex) {
+        return switch (ordinateIndex) {
+            case X -> getX(i);
+            case Y -> getY(i);
+            default -> Double.NaN;
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void setOrdinate(int i, int ordinateIndex, double value) {
+        throw new UnsupportedOperationException("Snapshot geometries are read-only; use copy()");
+    }
+
+    @Override
+    public Coordinate[] toCoordinateArray() {
+        Coordinate[] coordinates = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            coordinates[i] = getCoordinate(i);
+        }
+        return coordinates;
+    }
+
+    @Override
+    public Envelope expandEnvelope(Envelope env) {
+        for (int i = 0; i < size; i++) {
+            env.expandToInclude(getX(i), getY(i));
+        }
+        return env;
+    }
+
+    @Override
+    @Deprecated
+    public Object clone() {
+        return copy();
+    }
+
+    /**
+     * Copy the ordinates to a writable heap sequence.
+     */
+    @Override
+    public CoordinateSequence copy() {
+        double[] ordinates = new double[size * 2];
+        buffer.slice(offset, size * 16).order(buffer.order()).asDoubleBuffer().get(ordinates);
+        return new PackedCoordinateSequence.Double(ordinates, 2, 0);
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link STRtree} over the rows of a mapped table, for read-mostly layers such as
+ * geofences or administrative boundaries.
+ *
+ * <p>{@link #load()} reads all rows through the mapper (so geometries are decoded by the usual
+ * TypeHandlers) and bulk-loads them into a packed STRtree. {@link #refresh()} re-reads only rows whose
+ * {@code updated_at} column is at or after the latest value seen, replaces them by id, and rebuilds
+ * the tree in memory. Hard deletes are not visible to {@code refresh()}; call {@link #load()} for them.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * SpatialIndexCache<Zone> zones = new SpatialIndexCache<>(
+ *     zoneMapper, Zone::getBoundary, Zone::getId, Zone::getUpdatedAt);
+ * zones.load();
+ * List<Zone> hits = zones.containing(point);
+ * }</pre>
+ *
+ * <p>Lookups work on an immutable snapshot and never block; {@code load()} and {@code refresh()}
+ * build a new snapshot and publish it atomically. Distances for {@link #nearest} are planar,
+ * in SRID units.</p>
+ *
+ * @param <T> the entity type
+ */
+public class SpatialIndexCache<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(SpatialIndexCache.class);
+
+    private static final ItemDistance GEOMETRY_DISTANCE = (a, b) ->
+        ((Entry<?>) a.getItem()).geometry().distance(((Entry<?>) b.getItem()).geometry());
+
+    private final BaseMapper<T> mapper;
+    private final SFunction<T, ?> geometryColumn;
+    private final SFunction<T, ?> idColumn;
+    private final SFunction<T, ?> updatedAtColumn;
+
+    private volatile Snapshot<T> snapshot = Snapshot.empty();
+
+    /**
+     * Create a cache without incremental refresh.
+     *
+     * @param mapper the entity mapper
+     * @param geometryColumn the geometry column (JTS geometry or {@link WkbGeometry} property)
+     * @param idColumn the primary key column
+     */
+    public SpatialIndexCache(BaseMapper<T> mapper, SFunction<T, ?> geometryColumn, SFunction<T, ?> idColumn) {
+        this(mapper, geometryColumn, idColumn, null);
+    }
+
+    /**
+     * Create a cache with incremental refresh.
+     *
+     * @param mapper the entity mapper
+     * @param geometryColumn the geometry column (JTS geometry or {@link WkbGeometry} property)
+     * @param idColumn the primary key column
+     * @param updatedAtColumn the last-modified column (any {@link Comparable} type, e.g. {@code LocalDateTime}),
+     *                        or null to disable incremental refresh
+     */
+    public SpatialIndexCache(BaseMapper<T> mapper, SFunction<T, ?> geometryColumn, SFunction<T, ?> idColumn,
+                             SFunction<T, ?> updatedAtColumn) {
+        this.mapper = mapper;
+        this.geometryColumn = geometryColumn;
+        this.idColumn = idColumn;
+        this.updatedAtColumn = updatedAtColumn;
+    }
+
+    /**
+     * Load all rows and replace the index.
+     *
+     * @return the number of indexed rows
+     */
+    public synchronized int load() {
+        long start = System.nanoTime();
+        Map<Object, Entry<T>> entries = new HashMap<>();
+        UpdatedAtWatermark watermark = new UpdatedAtWatermark();
+        for (T row : mapper.selectList(new LambdaQueryWrapper<>())) {
+            Object id = idColumn.apply(row);
+            watermark.advance(updatedAt(row), id);
+            Entry<T> entry = toEntry(row);
+            if (entry != null) {
+                entries.put(id, entry);
+            }
+        }
+        snapshot = Snapshot.of(entries, watermark);
+        log.debug("Loaded {} rows into spatial index in {} ms", entries.size(), (System.nanoTime() - start) / 1_000_000);
+        return entries.size();
+    }
+
+    /**
+     * Re-read rows changed since the last load or refresh and rebuild the index if any changed.
+     * Falls back to {@link #load()} if nothing was loaded yet or no {@code updated_at} column is configured.
+     *
+     * @return the number of changed rows applied
+     */
+    public synchronized int refresh() {
+        Snapshot<T> current = snapshot;
+        if (updatedAtColumn == null || current.watermark().isEmpty()) {
+            return load();
+        }
+        // >= rather than >: rows committed later with the same timestamp must not be missed
+        List<T> rows = mapper.selectList(new LambdaQueryWrapper<T>().ge(updatedAtColumn, current.watermark().value()));
+        Map<Object, Entry<T>> entries = null;
+        UpdatedAtWatermark watermark = current.watermark().copy();
+        int changed = 0;
+        for (T row : rows) {
+            Object id = idColumn.apply(row);
+            Comparable<Object> updatedAt = updatedAt(row);
+            if (current.watermark().isSeen(updatedAt, id)) {
+                continue;
+            }
+            if (entries == null) {
+                entries = new HashMap<>(current.entries());
+            }
+            watermark.advance(updatedAt, id);
+            Entry<T> entry = toEntry(row);
+            if (entry != null) {
+                entries.put(id, entry);
+            } else {
+                entries.remove(id);
+            }
+            changed++;
+        }
+        if (entries != null) {
+            snapshot = Snapshot.of(entries, watermark);
+            log.debug("Refreshed {} changed rows, spatial index now holds {}", changed, entries.size());
+        }
+        return changed;
+    }
+
+    /**
+     * Get the number of indexed rows.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    /**
+     * Find rows whose geometry's bounding box intersects an envelope. No exact geometry check.
+     *
+     * @param envelope the search envelope
+     * @return matching rows, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> query(Envelope envelope) {
+        List<T> result = new ArrayList<>();
+        snapshot.tree().query(envelope, item -> result.add(((Entry<T>) item).row()));
+        return result;
+    }
+
+    /**
+     * Find rows whose geometry contains a point (boundary included).
+     *
+     * @param point the point
+     * @return matching rows, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> containing(Point point) {
+        List<T> result = new ArrayList<>();
+        snapshot.tree().query(point.getEnvelopeInternal(), item -> {
+            Entry<T> entry = (Entry<T>) item;
+            if (entry.geometry().covers(point)) {
+                result.add(entry.row());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Find rows whose geometry intersects a geometry.
+     *
+     * @param geometry the query geometry
+     * @return matching rows, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> intersecting(Geometry geometry) {
+        List<T> result = new ArrayList<>();
+        snapshot.tree().query(geometry.getEnvelopeInternal(), item -> {
+            Entry<T> entry = (Entry<T>) item;
+            if (entry.geometry().intersects(geometry)) {
+                result.add(entry.row());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Find the {@code k} rows nearest to a geometry (planar distance).
+     *
+     * @param geometry the query geometry
+     * @param k the maximum number of rows
+     * @return up to {@code k} rows, nearest first
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> nearest(Geometry geometry, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive, got: " + k);
+        }
+        Snapshot<T> current = snapshot;
+        if (current.entries().isEmpty()) {
+            return Collections.emptyList();
+        }
+        Entry<T> probe = new Entry<>(null, geometry);
+        Object[] items = current.tree().nearestNeighbour(geometry.getEnvelopeInternal(), probe, GEOMETRY_DISTANCE,
+            Math.min(k, current.entries().size()));
+        // The tree returns the k nearest unordered
+        List<Entry<T>> nearest = new ArrayList<>(items.length);
+        for (Object item : items) {
+            nearest.add((Entry<T>) item);
+        }
+        nearest.sort(Comparator.comparingDouble(entry -> entry.geometry().distance(geometry)));
+        List<T> result = new ArrayList<>(nearest.size());
+        for (Entry<T> entry : nearest) {
+            result.add(entry.row());
+        }
+        return result;
+    }
+
+    private Entry<T> toEntry(T row) {
+        Geometry geometry = geometryOf(row);
+        return geometry == null || geometry.isEmpty() ? null : new Entry<>(row, geometry);
+    }
+
+    private Geometry geometryOf(T row) {
+        Object value = geometryColumn.apply(row);
+        if (value instanceof WkbGeometry wkb) {
+            return wkb.toGeometry();
+        }
+        if (value != null && !(value instanceof Geometry)) {
+            throw new IllegalStateException("Column value is not a geometry: " + value.getClass().getName());
+        }
+        return (Geometry) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> updatedAt(T row) {
+        return updatedAtColumn == null ? null : (Comparable<Object>) updatedAtColumn.apply(row);
+    }
+
+    private record Entry<T>(T row, Geometry geometry) {
+    }
+
+    private record Snapshot<T>(STRtree tree, Map<Object, Entry<T>> entries, UpdatedAtWatermark watermark) {
+
+        static <T> Snapshot<T> empty() {
+            return of(Collections.emptyMap(), new UpdatedAtWatermark());
+        }
+
+        static <T> Snapshot<T> of(Map<Object, Entry<T>> entries, UpdatedAtWatermark watermark) {
+            STRtree tree = new STRtree();
+            for (Entry<T> entry : entries.values()) {
+                tree.insert(entry.geometry().getEnvelopeInternal(), entry);
+            }
+            // Build eagerly so concurrent readers only ever see a packed, read-only tree
+            tree.build();
+            return new Snapshot<>(tree, Collections.unmodifiableMap(entries), watermark);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Latest {@code updated_at} value seen, plus the ids of the rows carrying it, so rows re-read by an
+ * inclusive ({@code >=}) refresh query are not counted as changes again.
+ *
+ * <p>Not thread-safe; published instances are treated as read-only and {@link #copy() copied} before advancing.</p>
+ */
+final class UpdatedAtWatermark {
+
+    private Comparable<Object> value;
+    private final Set<Object> ids = new HashSet<>();
+
+    /**
+     * Get the latest value seen.
+     *
+     * @return the value, or null if no row carried one
+     */
+    Comparable<Object> value() {
+        return value;
+    }
+
+    boolean isEmpty() {
+        return value == null;
+    }
+
+    /**
+     * Record a row.
+     *
+     * @param updatedAt the row's last-modified value (ignored if null)
+     * @param id the row id
+     */
+    void advance(Comparable<Object> updatedAt, Object id) {
+        if (updatedAt == null) {
+            return;
+        }
+        int cmp = value == null ? 1 : updatedAt.compareTo(value);
+        if (cmp > 0) {
+            value = updatedAt;
+            ids.clear();
+        }
+        if (cmp >= 0) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Test whether a row was already seen at the watermark value.
+     *
+     * @param updatedAt the row's last-modified value
+     * @param id the row id
+     * @return true if the row is unchanged since it was recorded
+     */
+    boolean isSeen(Comparable<Object> updatedAt, Object id) {
+        return updatedAt != null && value != null && updatedAt.compareTo(value) == 0 && ids.contains(id);
+    }
+
+    UpdatedAtWatermark copy() {
+        UpdatedAtWatermark copy = new UpdatedAtWatermark();
+        copy.value = value;
+        copy.ids.addAll(ids);
+        return copy;
+    }
+}
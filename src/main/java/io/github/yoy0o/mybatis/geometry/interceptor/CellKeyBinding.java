@@ -0,0 +1,38 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import io.github.yoy0o.mybatis.geometry.annotation.CellKeyType;
+import io.github.yoy0o.mybatis.geometry.util.CellKeys;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+
+import java.lang.reflect.Field;
+
+/**
+ * A geometry property with an auto-maintained cell key property, as declared by
+ * {@code cellKey} on {@code @PointTableField} or {@code @PolygonTableField}.
+ *
+ * @param geometryField the geometry property
+ * @param keyField the {@code String} cell key property
+ * @param keyColumn the cell key column name
+ * @param type the key encoding
+ * @param precision the key precision (geohash characters or quadkey zoom level)
+ */
+public record CellKeyBinding(Field geometryField, Field keyField, String keyColumn, CellKeyType type, int precision) {
+
+    /**
+     * Compute the cell key of a geometry: its own position for points, the centroid otherwise.
+     *
+     * @param geometry the geometry, may be null
+     * @return the cell key, or null for a null or empty geometry
+     */
+    public String keyOf(Geometry geometry) {
+        if (geometry == null || geometry.isEmpty()) {
+            return null;
+        }
+        Point point = geometry instanceof Point p ? p : geometry.getCentroid();
+        if (point.isEmpty()) {
+            return null;
+        }
+        return CellKeys.encode(type, point.getX(), point.getY(), precision);
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.*;
+import org.locationtech.jts.geom.Geometry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * MyBatis interceptor that fills cell key properties before INSERT and UPDATE statements.
+ *
+ * <p>For every entity parameter whose geometry property declares a {@code cellKey}
+ * (on {@code @PointTableField} or {@code @PolygonTableField}), the key property is set to the
+ * geohash or quadkey of the geometry before the statement binds its parameters. Handles entities
+ * passed directly ({@code insert}), as {@code et} ({@code updateById}, {@code update(entity, wrapper)})
+ * and inside collection parameters (batch methods).</p>
+ *
+ * <p>Rows whose geometry is null keep their key unchanged. Updates that only use wrapper
+ * {@code set()} clauses carry no entity and are not filled.</p>
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class CellKeyFillInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(CellKeyFillInterceptor.class);
+
+    private final GeometryFieldResolver fieldResolver;
+
+    /**
+     * Create interceptor with its own field resolver.
+     */
+    public CellKeyFillInterceptor() {
+        this(new GeometryFieldResolver());
+    }
+
+    /**
+     * Create interceptor with an injected field resolver.
+     *
+     * @param fieldResolver the field resolver for scanning entity metadata
+     */
+    public CellKeyFillInterceptor(GeometryFieldResolver fieldResolver) {
+        this.fieldResolver = fieldResolver;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        SqlCommandType commandType = mappedStatement.getSqlCommandType();
+        if (commandType == SqlCommandType.INSERT || commandType == SqlCommandType.UPDATE) {
+            Object parameter = invocation.getArgs()[1];
+            if (parameter != null) {
+                fill(parameter, Collections.newSetFromMap(new IdentityHashMap<>()));
+            }
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // No properties needed
+    }
+
+    private void fill(Object parameter, Set<Object> visited) throws IllegalAccessException {
+        if (!visited.add(parameter)) {
+            return;
+        }
+        if (parameter instanceof Map<?, ?> map) {
+            for (Object value : map.values()) {
+                if (value != null) {
+                    fill(value, visited);
+                }
+            }
+        } else if (parameter instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                if (element != null && !(element instanceof Collection || element instanceof Map)) {
+                    fill(element, visited);
+                }
+            }
+        } else if (!parameter.getClass().getName().startsWith("java.")) {
+            fillEntity(parameter);
+        }
+    }
+
+    private void fillEntity(Object entity) throws IllegalAccessException {
+        for (CellKeyBinding binding : fieldResolver.getCellKeyBindings(entity.getClass())) {
+            Object geometry = binding.geometryField().get(entity);
+            if (geometry instanceof Geometry g) {
+                String key = binding.keyOf(g);
+                binding.keyField().set(entity, key);
+                log.trace("Filled {}.{} = {}", entity.getClass().getSimpleName(), binding.keyField().getName(), key);
+            }
+        }
+    }
+}
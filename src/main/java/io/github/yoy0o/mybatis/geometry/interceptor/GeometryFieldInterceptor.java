@@ -1,6 +1,8 @@
 package io.github.yoy0o.mybatis.geometry.interceptor;
 
 import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import io.github.yoy0o.mybatis.geometry.jfr.GeometrySqlRewriteEvent;
+import io.github.yoy0o.mybatis.geometry.metrics.GeometryMetrics;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
 import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
 import org.apache.ibatis.executor.statement.StatementHandler;
@@ -20,7 +22,7 @@
  * MyBatis interceptor to automatically wrap geometry fields in SELECT queries.
  *
  * <p>This interceptor detects geometry fields (annotated with @PointTableField, @PolygonTableField,
- * or @LineStringTableField) and wraps them with the appropriate database function for reading.</p>
+ * @LineStringTableField or @WkbTableField) and wraps them with the appropriate database function for reading.</p>
  *
  * <p>Delegates to {@link GeometryFieldResolver} for field scanning and
  * {@link GeometrySqlRewriter} for SQL rewriting.</p>
@@ -77,9 +79,19 @@ public Object intercept(Invocation invocation) throws Throwable {
         BoundSql boundSql = statementHandler.getBoundSql();
         String originalSql = boundSql.getSql();
 
+        GeometryMetrics metrics = GeometryMetrics.getDefault();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        GeometrySqlRewriteEvent event = new GeometrySqlRewriteEvent();
+        boolean metadataCached = event.isEnabled() && isMetadataCached(mappedStatement);
+        event.begin();
         String processedSql = processGeometryFields(originalSql, mappedStatement);
+        boolean rewritten = !originalSql.equals(processedSql);
+        if (metrics.isEnabled()) {
+            metrics.recordRewrite(System.nanoTime() - start, rewritten);
+        }
+        event.end(mappedStatement.getId(), rewritten, metadataCached, originalSql.length());
 
-        if (!originalSql.equals(processedSql)) {
+        if (rewritten) {
             log.debug("Original SQL: {}", originalSql);
             log.debug("Processed SQL: {}", processedSql);
             metaObject.setValue("delegate.boundSql.sql", processedSql);
@@ -119,6 +131,11 @@ private String processGeometryFields(String sql, MappedStatement mappedStatement
         }
     }
 
+    private boolean isMetadataCached(MappedStatement mappedStatement) {
+        Class<?> entityClass = getEntityClass(mappedStatement);
+        return entityClass != null && fieldResolver.isResolved(entityClass);
+    }
+
     private Class<?> getEntityClass(MappedStatement mappedStatement) {
         String id = mappedStatement.getId();
 
@@ -1,9 +1,11 @@
 package io.github.yoy0o.mybatis.geometry.interceptor;
 
 import com.baomidou.mybatisplus.annotation.TableField;
+import io.github.yoy0o.mybatis.geometry.annotation.CellKeyType;
 import io.github.yoy0o.mybatis.geometry.annotation.LineStringTableField;
 import io.github.yoy0o.mybatis.geometry.annotation.PointTableField;
 import io.github.yoy0o.mybatis.geometry.annotation.PolygonTableField;
+import io.github.yoy0o.mybatis.geometry.annotation.WkbTableField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +27,8 @@ public class GeometryFieldResolver {
 
     private final Map<Class<?>, Set<String>> geometryFieldsCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<String>> allFieldsCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<CellKeyBinding>> cellKeyCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Field>> geometryPropertyCache = new ConcurrentHashMap<>();
 
     /**
      * Get geometry column names for an entity class.
@@ -36,6 +40,16 @@ public Set<String> getGeometryFields(Class<?> entityClass) {
         return geometryFieldsCache.computeIfAbsent(entityClass, this::scanGeometryFields);
     }
 
+    /**
+     * Test whether the geometry columns of an entity class have already been scanned and cached.
+     *
+     * @param entityClass the entity class
+     * @return true if {@link #getGeometryFields(Class)} will be served from the cache
+     */
+    public boolean isResolved(Class<?> entityClass) {
+        return geometryFieldsCache.containsKey(entityClass);
+    }
+
     /**
      * Get all column names for an entity class, preserving declaration order.
      *
@@ -46,12 +60,52 @@ public List<String> getAllFields(Class<?> entityClass) {
         return allFieldsCache.computeIfAbsent(entityClass, this::scanAllFields);
     }
 
+    /**
+     * Get the first JTS geometry property (@PointTableField, @PolygonTableField or
+     * @LineStringTableField) of an entity class, made accessible.
+     *
+     * @param entityClass the entity class to scan
+     * @return the geometry field, or null if the class has none
+     */
+    public Field getGeometryProperty(Class<?> entityClass) {
+        return geometryPropertyCache.computeIfAbsent(entityClass, this::scanGeometryProperty).orElse(null);
+    }
+
+    /**
+     * Get the geometry properties with an auto-maintained cell key for an entity class.
+     *
+     * @param entityClass the entity class to scan
+     * @return unmodifiable list of cell key bindings, empty if none are declared
+     * @throws IllegalStateException if a declared cell key property is missing or not a String
+     */
+    public List<CellKeyBinding> getCellKeyBindings(Class<?> entityClass) {
+        return cellKeyCache.computeIfAbsent(entityClass, this::scanCellKeyBindings);
+    }
+
+    /**
+     * Get the cell key binding of one geometry property.
+     *
+     * @param entityClass the entity class
+     * @param property the geometry property name
+     * @return the binding, or null if the property declares no cell key
+     */
+    public CellKeyBinding getCellKeyBinding(Class<?> entityClass, String property) {
+        for (CellKeyBinding binding : getCellKeyBindings(entityClass)) {
+            if (binding.geometryField().getName().equals(property)) {
+                return binding;
+            }
+        }
+        return null;
+    }
+
     /**
      * Clear caches. Useful for testing or reconfiguration.
      */
     public void clearCache() {
         geometryFieldsCache.clear();
         allFieldsCache.clear();
+        cellKeyCache.clear();
+        geometryPropertyCache.clear();
     }
 
     private Set<String> scanGeometryFields(Class<?> clazz) {
@@ -93,10 +147,76 @@ private List<String> scanAllFields(Class<?> clazz) {
         return Collections.unmodifiableList(fields);
     }
 
+    private Optional<Field> scanGeometryProperty(Class<?> clazz) {
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(PointTableField.class)
+                    || field.isAnnotationPresent(PolygonTableField.class)
+                    || field.isAnnotationPresent(LineStringTableField.class)) {
+                    field.setAccessible(true);
+                    return Optional.of(field);
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return Optional.empty();
+    }
+
+    private List<CellKeyBinding> scanCellKeyBindings(Class<?> clazz) {
+        List<CellKeyBinding> bindings = new ArrayList<>();
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                PointTableField point = field.getAnnotation(PointTableField.class);
+                PolygonTableField polygon = field.getAnnotation(PolygonTableField.class);
+                if (point != null && !point.cellKey().isEmpty()) {
+                    bindings.add(bindCellKey(clazz, field, point.cellKey(), point.cellKeyType(), point.cellKeyPrecision()));
+                } else if (polygon != null && !polygon.cellKey().isEmpty()) {
+                    bindings.add(bindCellKey(clazz, field, polygon.cellKey(), polygon.cellKeyType(),
+                        polygon.cellKeyPrecision()));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        log.debug("Scanned cell key bindings for {}: {}", clazz.getSimpleName(), bindings.size());
+        return Collections.unmodifiableList(bindings);
+    }
+
+    private CellKeyBinding bindCellKey(Class<?> clazz, Field geometryField, String keyProperty,
+                                       CellKeyType type, int precision) {
+        Field keyField = findField(clazz, keyProperty);
+        if (keyField == null || keyField.getType() != String.class) {
+            throw new IllegalStateException("Cell key property '" + keyProperty + "' of "
+                + clazz.getSimpleName() + "." + geometryField.getName() + " must be a String field");
+        }
+        int effective = precision == 0 ? type.getDefaultPrecision() : precision;
+        if (effective < 1 || effective > type.getMaxPrecision()) {
+            throw new IllegalStateException("Cell key precision of " + clazz.getSimpleName() + "."
+                + geometryField.getName() + " must be between 1 and " + type.getMaxPrecision() + ", got: " + precision);
+        }
+        geometryField.setAccessible(true);
+        keyField.setAccessible(true);
+        return new CellKeyBinding(geometryField, keyField, resolveColumnName(keyField), type, effective);
+    }
+
+    private Field findField(Class<?> clazz, String name) {
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                current = current.getSuperclass();
+            }
+        }
+        return null;
+    }
+
     private boolean isGeometryField(Field field) {
         return field.isAnnotationPresent(PointTableField.class)
             || field.isAnnotationPresent(PolygonTableField.class)
-            || field.isAnnotationPresent(LineStringTableField.class);
+            || field.isAnnotationPresent(LineStringTableField.class)
+            || field.isAnnotationPresent(WkbTableField.class);
     }
 
     private String resolveColumnName(Field field) {
@@ -0,0 +1,189 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import io.github.yoy0o.mybatis.geometry.handler.AbstractGeometryTypeHandler;
+import io.github.yoy0o.mybatis.geometry.handler.DeferredGeometryDecoder;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.*;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.locationtech.jts.geom.Geometry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * MyBatis interceptor that decodes geometry columns of large result sets in parallel.
+ *
+ * <p>During result mapping the geometry TypeHandlers only record the raw WKB hex string
+ * (see {@link DeferredGeometryDecoder}). After the result list has been built, all recorded
+ * values are decoded in fork-join chunks and written back into the mapped entities.
+ * Result order and entity instances are left untouched; only the geometry properties are set.</p>
+ *
+ * <p>Only simple statements are handled: a single result map that maps at least one geometry
+ * TypeHandler (entities with {@code autoResultMap = true}), without nested result maps,
+ * nested queries or multiple result sets, and without a caller-supplied {@code ResultHandler}
+ * (whose rows are handed out before they could be completed). Other statements are passed
+ * through unchanged.</p>
+ */
+@Intercepts({
+    @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class})
+})
+public class ParallelGeometryDecodeInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelGeometryDecodeInterceptor.class);
+
+    /** Default minimum number of geometry values before decoding runs in parallel */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /** Default number of geometry values decoded per fork-join task */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    /**
+     * Create interceptor with default threshold and chunk size.
+     */
+    public ParallelGeometryDecodeInterceptor() {
+        this(DEFAULT_PARALLEL_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create interceptor with specified threshold and chunk size.
+     *
+     * @param parallelThreshold minimum number of geometry values before decoding runs in parallel
+     * @param chunkSize number of geometry values decoded per fork-join task
+     */
+    public ParallelGeometryDecodeInterceptor(int parallelThreshold, int chunkSize) {
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object intercept(Invocation invocation) throws Throwable {
+        ResultSetHandler resultSetHandler = PluginUtils.realTarget(invocation.getTarget());
+        MetaObject metaObject = SystemMetaObject.forObject(resultSetHandler);
+        MappedStatement mappedStatement = (MappedStatement) metaObject.getValue("mappedStatement");
+
+        ResultHandler<?> resultHandler = (ResultHandler<?>) metaObject.getValue("resultHandler");
+
+        if (!isEligible(mappedStatement, resultHandler) || DeferredGeometryDecoder.isActive()) {
+            return invocation.proceed();
+        }
+
+        try (DeferredGeometryDecoder decoder = DeferredGeometryDecoder.begin(parallelThreshold, chunkSize)) {
+            List<Object> results = (List<Object>) invocation.proceed();
+            if (decoder.size() == 0) {
+                return results;
+            }
+            Geometry[] geometries = decoder.decode();
+            assignGeometries(mappedStatement, results, decoder, geometries);
+            return results;
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // No properties needed
+    }
+
+    private boolean isEligible(MappedStatement mappedStatement, ResultHandler<?> resultHandler) {
+        if (mappedStatement == null || mappedStatement.getSqlCommandType() != SqlCommandType.SELECT) {
+            return false;
+        }
+        if (resultHandler != null) {
+            // Rows reach the caller's handler one by one, before their geometries could be assigned
+            return false;
+        }
+        if (mappedStatement.getResultSets() != null) {
+            return false;
+        }
+        List<ResultMap> resultMaps = mappedStatement.getResultMaps();
+        if (resultMaps.size() != 1) {
+            return false;
+        }
+        ResultMap resultMap = resultMaps.get(0);
+        if (resultMap.hasNestedResultMaps() || resultMap.hasNestedQueries()) {
+            return false;
+        }
+        for (ResultMapping mapping : resultMap.getPropertyResultMappings()) {
+            if (mapping.getTypeHandler() instanceof AbstractGeometryTypeHandler) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void assignGeometries(MappedStatement mappedStatement, List<Object> results,
+            DeferredGeometryDecoder decoder, Geometry[] geometries) throws SQLException {
+        int rows = results.size();
+        int slots = decoder.size();
+        if (rows == 0 || slots % rows != 0) {
+            throw new SQLException("Deferred geometry values (" + slots + ") do not align with "
+                + rows + " mapped rows for " + mappedStatement.getId());
+        }
+        int perRow = slots / rows;
+
+        Configuration configuration = mappedStatement.getConfiguration();
+        Map<String, String> columnToProperty = mapColumns(mappedStatement.getResultMaps().get(0));
+        String[] properties = new String[perRow];
+
+        for (int row = 0; row < rows; row++) {
+            Object entity = results.get(row);
+            if (entity == null) {
+                // Only an all-null row maps to null; its geometry columns were null too
+                continue;
+            }
+            MetaObject target = configuration.newMetaObject(entity);
+            int base = row * perRow;
+            for (int col = 0; col < perRow; col++) {
+                if (properties[col] == null) {
+                    properties[col] = resolveProperty(decoder.getColumn(base + col), columnToProperty,
+                        target, configuration);
+                }
+                target.setValue(properties[col], geometries[base + col]);
+            }
+        }
+
+        log.debug("Decoded {} deferred geometry values across {} rows for {}", slots, rows,
+            mappedStatement.getId());
+    }
+
+    private Map<String, String> mapColumns(ResultMap resultMap) {
+        Map<String, String> columnToProperty = new HashMap<>();
+        for (ResultMapping mapping : resultMap.getPropertyResultMappings()) {
+            if (mapping.getColumn() != null && mapping.getProperty() != null) {
+                columnToProperty.put(mapping.getColumn().toUpperCase(Locale.ENGLISH), mapping.getProperty());
+            }
+        }
+        return columnToProperty;
+    }
+
+    private String resolveProperty(String column, Map<String, String> columnToProperty,
+            MetaObject target, Configuration configuration) throws SQLException {
+        String property = columnToProperty.get(column.toUpperCase(Locale.ENGLISH));
+        if (property == null) {
+            property = target.findProperty(column, configuration.isMapUnderscoreToCamelCase());
+        }
+        if (property == null) {
+            throw new SQLException("Cannot resolve property for deferred geometry column: " + column);
+        }
+        return property;
+    }
+}
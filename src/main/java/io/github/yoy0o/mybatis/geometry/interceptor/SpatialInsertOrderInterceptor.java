@@ -0,0 +1,133 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import io.github.yoy0o.mybatis.geometry.util.SpatialOrder;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.*;
+import org.locationtech.jts.geom.Geometry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * MyBatis interceptor that sorts the rows of multi-row INSERT statements along a space-filling curve.
+ *
+ * <p>Applies to INSERT statements taking a list of entities, such as MyBatis-Plus
+ * {@code insertBatchSomeColumn} or a custom {@code <foreach>} insert. The list is sorted by the
+ * {@link SpatialOrder} index of each entity's first geometry property (envelope center) before the
+ * SQL is built, so rows reach the database spatially clustered. The caller's list is left untouched:
+ * a sorted copy replaces it in the statement parameters.</p>
+ *
+ * <p>Single-row batches ({@code saveBatch}, {@code ExecutorType.BATCH}) execute one statement per
+ * entity and cannot be reordered here; sort the list with {@link SpatialOrder#sort} before saving.</p>
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class SpatialInsertOrderInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SpatialInsertOrderInterceptor.class);
+
+    private final SpatialOrder order;
+    private final GeometryFieldResolver fieldResolver;
+
+    /**
+     * Create interceptor sorting in Hilbert order.
+     */
+    public SpatialInsertOrderInterceptor() {
+        this(SpatialOrder.HILBERT);
+    }
+
+    /**
+     * Create interceptor with the given curve order.
+     *
+     * @param order the curve order
+     */
+    public SpatialInsertOrderInterceptor(SpatialOrder order) {
+        this(order, new GeometryFieldResolver());
+    }
+
+    /**
+     * Create interceptor with the given curve order and an injected field resolver.
+     *
+     * @param order the curve order
+     * @param fieldResolver the field resolver for scanning entity metadata
+     */
+    public SpatialInsertOrderInterceptor(SpatialOrder order, GeometryFieldResolver fieldResolver) {
+        this.order = order;
+        this.fieldResolver = fieldResolver;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if (mappedStatement.getSqlCommandType() == SqlCommandType.INSERT
+                && invocation.getArgs()[1] instanceof Map<?, ?> parameter) {
+            sortLists(mappedStatement, parameter);
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // No properties needed
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortLists(MappedStatement mappedStatement, Map<?, ?> parameter) {
+        Set<Object> sorted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<?, ?> entry : parameter.entrySet()) {
+            if (!(entry.getValue() instanceof List<?> list) || list.size() < 2 || sorted.contains(list)) {
+                continue;
+            }
+            Field geometryField = geometryFieldOf(list);
+            if (geometryField == null) {
+                continue;
+            }
+            List<Object> copy = new ArrayList<>(list);
+            order.sort(copy, row -> readGeometry(geometryField, row));
+            replaceAll((Map<Object, Object>) parameter, list, copy);
+            sorted.add(copy);
+            log.debug("Sorted {} rows of {} in {} order", list.size(), mappedStatement.getId(), order);
+        }
+    }
+
+    private Field geometryFieldOf(List<?> list) {
+        for (Object row : list) {
+            if (row != null) {
+                return row.getClass().getName().startsWith("java.") ? null : fieldResolver.getGeometryProperty(row.getClass());
+            }
+        }
+        return null;
+    }
+
+    private static Geometry readGeometry(Field field, Object row) {
+        if (row == null || !field.getDeclaringClass().isInstance(row)) {
+            return null;
+        }
+        try {
+            return (Geometry) field.get(row);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Replace every alias of the list ("list", "coll", "collection", "param1", ...) with the sorted copy.
+     */
+    private static void replaceAll(Map<Object, Object> parameter, Object original, Object replacement) {
+        for (Map.Entry<Object, Object> entry : parameter.entrySet()) {
+            if (entry.getValue() == original) {
+                entry.setValue(replacement);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.exception.InvalidCoordinateException;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+
+/**
+ * Base class for token-streaming GeoJSON geometry deserializers.
+ *
+ * <p>Reads the GeoJSON object field by field straight from the {@link JsonParser},
+ * without materializing a {@code JsonNode} tree. {@code type} and {@code coordinates}
+ * may appear in any order; other members (e.g. {@code bbox}) are skipped.</p>
+ *
+ * <p>On binary formats (Smile, CBOR, Ion) an embedded WKB value is accepted as well and
+ * goes through the same validation; see {@link BinaryGeometryFormat}.</p>
+ *
+ * <p>Validation rules:</p>
+ * <ul>
+ *   <li>Missing {@code type} or a type other than {@link #getGeoJsonType()} → {@link GeoJsonParseException}</li>
+ *   <li>Missing or non-array {@code coordinates} → {@link GeoJsonParseException}</li>
+ *   <li>WGS84 range check when coordinate validation is enabled, otherwise finite check only
+ *       → {@link InvalidCoordinateException}</li>
+ * </ul>
+ *
+ * @param <T> the JTS geometry type produced
+ * @param <C> the intermediate coordinate holder read from the {@code coordinates} member
+ */
+public abstract class AbstractGeoJsonDeserializer<T extends Geometry, C> extends JsonDeserializer<T> {
+
+    protected final boolean coordinateValidationEnabled;
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    protected AbstractGeoJsonDeserializer(boolean coordinateValidationEnabled) {
+        this.coordinateValidationEnabled = coordinateValidationEnabled;
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return readBinary(parser);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            throw new GeoJsonParseException("Expected a GeoJSON object, got " + token, "type");
+        }
+        return readMembers(parser, token, false);
+    }
+
+    /**
+     * Read the members of a GeoJSON object and build the geometry.
+     * Used directly by {@link GeometryDeserializer} once it has consumed the {@code type} member.
+     *
+     * @param parser the parser
+     * @param token the current token: the first {@code FIELD_NAME}, or {@code END_OBJECT}
+     * @param typeSeen whether the {@code type} member has already been read and matched
+     * @return the geometry
+     * @throws IOException if the GeoJSON is malformed
+     */
+    T readMembers(JsonParser parser, JsonToken token, boolean typeSeen) throws IOException {
+        String member = getMemberName();
+        C coordinates = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("type".equals(field)) {
+                typeSeen = true;
+                String type = readText(parser, value);
+                if (!getGeoJsonType().equals(type)) {
+                    throw GeoJsonParseException.forTypeMismatch(getGeoJsonType(), type);
+                }
+            } else if (member.equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new GeoJsonParseException("Missing or invalid '" + member + "' field", member);
+                }
+                coordinates = readCoordinates(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!typeSeen) {
+            throw new GeoJsonParseException("Missing 'type' field", "type");
+        }
+        if (coordinates == null) {
+            throw new GeoJsonParseException("Missing or invalid '" + member + "' field", member);
+        }
+        return build(coordinates);
+    }
+
+    /**
+     * Read a geometry written as embedded WKB by a binary format (see {@link BinaryGeometryFormat}).
+     * The WKB is transcoded to GeoJSON tokens and read by {@link #readMembers}, so the same
+     * checks apply as for GeoJSON input. A non-zero SRID in the WKB is kept.
+     */
+    T readBinary(JsonParser parser) throws IOException {
+        WkbGeometry wkb = BinaryGeometryFormat.readWkb(parser);
+        JsonParser geoJson = BinaryGeometryFormat.toGeoJson(parser, wkb);
+        return BinaryGeometryFormat.withSrid(readMembers(geoJson, geoJson.currentToken(), false), wkb);
+    }
+
+    /**
+     * Get the GeoJSON {@code type} value this deserializer accepts.
+     *
+     * @return the GeoJSON type name
+     */
+    protected abstract String getGeoJsonType();
+
+    /**
+     * Get the name of the member holding the geometry data.
+     *
+     * @return {@code "coordinates"}, or {@code "geometries"} for a GeometryCollection
+     */
+    protected String getMemberName() {
+        return "coordinates";
+    }
+
+    /**
+     * Read the {@code coordinates} member (or the member named by {@link #getMemberName()}).
+     * The parser is positioned on its {@code START_ARRAY} and must be left on the matching {@code END_ARRAY}.
+     *
+     * @param parser the parser
+     * @return the intermediate coordinate holder
+     * @throws IOException if the coordinates are malformed or out of range
+     */
+    protected abstract C readCoordinates(JsonParser parser) throws IOException;
+
+    /**
+     * Build the geometry once the whole GeoJSON object has been read.
+     *
+     * @param coordinates the coordinates returned by {@link #readCoordinates(JsonParser)}
+     * @return the geometry
+     * @throws IOException if the resulting geometry is invalid
+     */
+    protected abstract T build(C coordinates) throws IOException;
+
+    /**
+     * Read one GeoJSON position into {@code out[0]} (longitude) and {@code out[1]} (latitude).
+     * The parser is positioned on the position's {@code START_ARRAY} and is left on its {@code END_ARRAY}.
+     * Elements beyond the second (altitude) are skipped.
+     *
+     * @param parser the parser
+     * @param out two-element target array
+     * @return the number of elements in the position array
+     * @throws IOException on parser failure
+     */
+    protected static int readPosition(JsonParser parser, double[] out) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new GeoJsonParseException("Unexpected end of input in coordinates", "coordinates");
+            }
+            double value = token.isScalarValue() ? parser.getValueAsDouble() : 0.0;
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            }
+            if (count < 2) {
+                out[count] = value;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Read an array of positions into a coordinate buffer.
+     * The parser is positioned on the array's {@code START_ARRAY} and is left on its {@code END_ARRAY}.
+     *
+     * @param parser the parser
+     * @return the buffered coordinates
+     * @throws IOException if a position is malformed or out of range
+     */
+    CoordinateBuffer readPositions(JsonParser parser) throws IOException {
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        double[] position = new double[2];
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY || readPosition(parser, position) < 2) {
+                throw new GeoJsonParseException("Invalid coordinate pair at index " + index, "coordinates");
+            }
+            validateCoordinate(position[0], position[1]);
+            buffer.add(position[0], position[1]);
+            index++;
+        }
+        return buffer;
+    }
+
+    /**
+     * Validate a single coordinate pair.
+     *
+     * @param longitude the longitude (x)
+     * @param latitude the latitude (y)
+     * @throws InvalidCoordinateException if the coordinate is out of range or not finite
+     */
+    protected void validateCoordinate(double longitude, double latitude) throws IOException {
+        validateCoordinate(coordinateValidationEnabled, longitude, latitude);
+    }
+
+    /**
+     * Validate a single coordinate pair.
+     *
+     * @param rangeCheck when true, validates WGS84 range; when false, only validates Double.isFinite()
+     * @param longitude the longitude (x)
+     * @param latitude the latitude (y)
+     * @throws InvalidCoordinateException if the coordinate is out of range or not finite
+     */
+    static void validateCoordinate(boolean rangeCheck, double longitude, double latitude) throws IOException {
+        if (rangeCheck) {
+            // WGS84 range validation
+            if (longitude < -180 || longitude > 180) {
+                throw InvalidCoordinateException.forLongitude(longitude);
+            }
+            if (latitude < -90 || latitude > 90) {
+                throw InvalidCoordinateException.forLatitude(latitude);
+            }
+        } else {
+            // Only validate that coordinates are finite (not NaN or Infinity)
+            if (!Double.isFinite(longitude)) {
+                throw new InvalidCoordinateException("longitude", longitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            }
+            if (!Double.isFinite(latitude)) {
+                throw new InvalidCoordinateException("latitude", latitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            }
+        }
+    }
+
+    private static String readText(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getValueAsString();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.exception.WkbParseException;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+
+/**
+ * Binary form of geometries for binary Jackson formats (Smile, CBOR, Ion).
+ *
+ * <p>Generators that write binary natively receive the geometry as a single embedded binary
+ * value in the {@link WkbGeometry} layout (4-byte little-endian SRID + standard WKB) instead of
+ * GeoJSON. Deserializers accept this form wherever a GeoJSON object is expected, so the
+ * same DTOs work over JSON and binary transports.</p>
+ *
+ * <p>{@link TokenBuffer} is excluded even though it accepts binary, so that
+ * {@code ObjectMapper.convertValue()} / {@code valueToTree()} keep producing GeoJSON.</p>
+ *
+ * <p>Embedded WKB is untrusted input like any other wire encoding. It is transcoded back to
+ * GeoJSON tokens with {@link WkbGeoJsonWriter} and read by the regular streaming deserializers,
+ * so coordinate, ring and validity checks are the same as for GeoJSON.</p>
+ */
+final class BinaryGeometryFormat {
+
+    private static final WkbGeoJsonWriter TRANSCODER = new WkbGeoJsonWriter();
+
+    private BinaryGeometryFormat() {
+    }
+
+    /**
+     * Test whether geometries should be written as embedded WKB on this generator.
+     *
+     * @param gen the generator
+     * @return true for binary formats
+     */
+    static boolean isBinary(JsonGenerator gen) {
+        return gen.canWriteBinaryNatively() && !(gen instanceof TokenBuffer);
+    }
+
+    /**
+     * Write a geometry as an embedded WKB binary value, keeping its SRID.
+     *
+     * @param gen the generator
+     * @param geometry the geometry (non-null)
+     * @throws IOException on generator failure
+     */
+    static void write(JsonGenerator gen, Geometry geometry) throws IOException {
+        gen.writeBinary(WkbGeometry.fromGeometry(geometry).unsafeBytes());
+    }
+
+    /**
+     * Read the current {@code VALUE_EMBEDDED_OBJECT} token as a WKB holder.
+     * The bytes are only checked for the SRID-prefixed layout; see {@link #toGeoJson}.
+     *
+     * @param parser the parser, positioned on the embedded value
+     * @return the holder
+     * @throws GeoJsonParseException if the value is not SRID-prefixed WKB
+     */
+    static WkbGeometry readWkb(JsonParser parser) throws IOException {
+        Object embedded = parser.getEmbeddedObject();
+        if (embedded instanceof WkbGeometry wkb) {
+            return wkb;
+        }
+        if (embedded instanceof Geometry geometry) {
+            return WkbGeometry.fromGeometry(geometry);
+        }
+        if (embedded instanceof byte[] bytes) {
+            try {
+                return WkbGeometry.wrap(bytes);
+            } catch (WkbParseException e) {
+                throw new GeoJsonParseException("Invalid embedded WKB geometry", "geometry", e);
+            }
+        }
+        throw new GeoJsonParseException("Expected embedded WKB binary, got "
+            + (embedded == null ? "null" : embedded.getClass().getName()), "geometry");
+    }
+
+    /**
+     * Transcode a WKB holder to GeoJSON tokens for the streaming deserializers.
+     *
+     * @param parser the parser the embedded value was read from
+     * @param wkb the holder
+     * @return a parser positioned on the GeoJSON object's first {@code FIELD_NAME}
+     * @throws GeoJsonParseException if the WKB is malformed
+     */
+    static JsonParser toGeoJson(JsonParser parser, WkbGeometry wkb) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        try {
+            TRANSCODER.write(buffer, wkb);
+        } catch (WkbParseException e) {
+            throw new GeoJsonParseException("Invalid embedded WKB geometry", "geometry", e);
+        }
+        JsonParser geoJson = buffer.asParser(parser);
+        // START_OBJECT, then the first member
+        geoJson.nextToken();
+        geoJson.nextToken();
+        return geoJson;
+    }
+
+    /**
+     * Apply the SRID carried by the WKB holder. SRID 0 keeps the configured SRID set by the factory.
+     *
+     * @param geometry the geometry read from {@link #toGeoJson}
+     * @param wkb the holder it was read from
+     * @return the geometry
+     */
+    static <G extends Geometry> G withSrid(G geometry, WkbGeometry wkb) {
+        if (wkb.getSrid() != 0) {
+            geometry.setSRID(wkb.getSrid());
+        }
+        return geometry;
+    }
+}
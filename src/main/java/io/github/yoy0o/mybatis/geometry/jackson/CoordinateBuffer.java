@@ -0,0 +1,93 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of packed 2D coordinates ({@code x0, y0, x1, y1, ...}).
+ * Used by the streaming deserializers to collect coordinates without
+ * allocating a {@code Coordinate} per position.
+ */
+final class CoordinateBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] xy;
+    private int size;
+
+    CoordinateBuffer() {
+        this.xy = new double[DEFAULT_CAPACITY * 2];
+    }
+
+    void add(double x, double y) {
+        int offset = size << 1;
+        if (offset + 2 > xy.length) {
+            xy = Arrays.copyOf(xy, xy.length << 1);
+        }
+        xy[offset] = x;
+        xy[offset + 1] = y;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double getX(int index) {
+        return xy[index << 1];
+    }
+
+    double getY(int index) {
+        return xy[(index << 1) + 1];
+    }
+
+    /**
+     * Test whether the buffered ring is oriented counter-clockwise, using its signed (shoelace) area.
+     * The buffer is expected to hold a closed ring.
+     *
+     * @return true if the ring is counter-clockwise
+     */
+    boolean isCCW() {
+        // Translate to the first point to keep the products small and precise
+        double x0 = xy[0];
+        double y0 = xy[1];
+        double sum = 0;
+        for (int i = 1, n = size - 1; i < n; i++) {
+            int offset = i << 1;
+            double x1 = xy[offset] - x0;
+            double y1 = xy[offset + 1] - y0;
+            double x2 = xy[offset + 2] - x0;
+            double y2 = xy[offset + 3] - y0;
+            sum += x1 * y2 - x2 * y1;
+        }
+        return sum > 0;
+    }
+
+    /**
+     * Reverse the order of the buffered coordinates in place.
+     */
+    void reverse() {
+        for (int i = 0, j = (size - 1) << 1; i < j; i += 2, j -= 2) {
+            double x = xy[i];
+            double y = xy[i + 1];
+            xy[i] = xy[j];
+            xy[i + 1] = xy[j + 1];
+            xy[j] = x;
+            xy[j + 1] = y;
+        }
+    }
+
+    /**
+     * Wrap the buffered coordinates in a packed XY coordinate sequence.
+     * The backing array is trimmed only if it has unused capacity.
+     *
+     * @return a packed coordinate sequence with dimension 2
+     */
+    CoordinateSequence toSequence() {
+        int length = size << 1;
+        double[] packed = xy.length == length ? xy : Arrays.copyOf(xy, length);
+        return new PackedCoordinateSequence.Double(packed, 2, 0);
+    }
+}
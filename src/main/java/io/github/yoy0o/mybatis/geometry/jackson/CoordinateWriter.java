@@ -0,0 +1,202 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.locationtech.jts.geom.CoordinateSequence;
+
+import java.io.IOException;
+
+/**
+ * Writes GeoJSON positions to a {@link JsonGenerator}, optionally rounded to a fixed
+ * number of decimal places.
+ *
+ * <p>Positions are read straight from a {@link CoordinateSequence}, so no {@code Coordinate[]}
+ * copy is made. With a precision set, numbers are formatted by a fixed-point formatter into a
+ * per-thread char buffer and handed to {@link JsonGenerator#writeNumber(char[], int, int)};
+ * trailing zeros are dropped ({@code 121.500000} is written as {@code 121.5}).
+ * Values too large for exact fixed-point formatting fall back to the full double representation.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class CoordinateWriter {
+
+    /** Precision value meaning "write full double precision" */
+    public static final int FULL_PRECISION = -1;
+
+    /** Maximum supported number of decimal places */
+    public static final int MAX_PRECISION = 12;
+
+    private static final CoordinateWriter FULL = new CoordinateWriter(FULL_PRECISION);
+
+    /** Scaled values must stay below 2^53 to be represented exactly as long */
+    private static final double MAX_SCALED = 9.0E15;
+
+    /** Sign + 16 digits + decimal point, with headroom */
+    private static final int BUFFER_SIZE = 24;
+
+    /** Per-thread scratch buffer; a formatted number is copied by the generator before the next one is written */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+
+    static {
+        long p = 1;
+        for (int i = 0; i <= MAX_PRECISION; i++) {
+            POWERS_OF_TEN[i] = p;
+            p *= 10;
+        }
+    }
+
+    private final int precision;
+    private final long scale;
+
+    private CoordinateWriter(int precision) {
+        this.precision = precision;
+        this.scale = precision < 0 ? 0 : POWERS_OF_TEN[precision];
+    }
+
+    /**
+     * Get a writer for the given number of decimal places.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     * @return the coordinate writer
+     * @throws IllegalArgumentException if precision is greater than {@link #MAX_PRECISION}
+     */
+    public static CoordinateWriter of(int precision) {
+        if (precision < 0) {
+            return FULL;
+        }
+        if (precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                "Coordinate precision must be between 0 and " + MAX_PRECISION + ", got: " + precision);
+        }
+        return new CoordinateWriter(precision);
+    }
+
+    /**
+     * Get a writer that writes full double precision.
+     *
+     * @return the full-precision coordinate writer
+     */
+    public static CoordinateWriter fullPrecision() {
+        return FULL;
+    }
+
+    /**
+     * Get the configured number of decimal places.
+     *
+     * @return decimal places, or {@link #FULL_PRECISION}
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Write a single position {@code [x, y]}.
+     *
+     * @param gen the JSON generator
+     * @param x the x (longitude) value
+     * @param y the y (latitude) value
+     * @throws IOException on generator failure
+     */
+    public void writePosition(JsonGenerator gen, double x, double y) throws IOException {
+        writePosition(gen, x, y, scratchBuffer());
+    }
+
+    /**
+     * Write a coordinate sequence as an array of positions {@code [[x, y], ...]}.
+     *
+     * @param gen the JSON generator
+     * @param sequence the coordinate sequence
+     * @throws IOException on generator failure
+     */
+    public void writeSequence(JsonGenerator gen, CoordinateSequence sequence) throws IOException {
+        char[] buffer = scratchBuffer();
+        gen.writeStartArray();
+        for (int i = 0, n = sequence.size(); i < n; i++) {
+            writePosition(gen, sequence.getX(i), sequence.getY(i), buffer);
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Write a single number using this writer's precision.
+     *
+     * @param gen the JSON generator
+     * @param value the value
+     * @param buffer scratch buffer of at least 24 chars, or null for full precision
+     * @throws IOException on generator failure
+     */
+    void writeNumber(JsonGenerator gen, double value, char[] buffer) throws IOException {
+        if (buffer != null) {
+            int start = format(value, buffer);
+            if (start >= 0) {
+                gen.writeNumber(buffer, start, buffer.length - start);
+                return;
+            }
+        }
+        gen.writeNumber(value);
+    }
+
+    /**
+     * Get the calling thread's scratch buffer for {@link #writeNumber(JsonGenerator, double, char[])}.
+     *
+     * @return the buffer, or null when writing full precision
+     */
+    char[] scratchBuffer() {
+        return scale == 0 ? null : BUFFER.get();
+    }
+
+    private void writePosition(JsonGenerator gen, double x, double y, char[] buffer) throws IOException {
+        gen.writeStartArray();
+        writeNumber(gen, x, buffer);  // longitude
+        writeNumber(gen, y, buffer);  // latitude
+        gen.writeEndArray();
+    }
+
+    /**
+     * Format {@code value} right-aligned into {@code buffer}.
+     *
+     * @return start offset of the formatted text, or -1 if the value cannot be formatted exactly
+     */
+    private int format(double value, char[] buffer) {
+        double scaled = value * scale;
+        if (!(Math.abs(scaled) < MAX_SCALED)) {
+            // NaN, infinite or beyond exact long range
+            return -1;
+        }
+        long units = Math.round(scaled);
+        int pos = buffer.length;
+        if (units == 0) {
+            buffer[--pos] = '0';
+            return pos;
+        }
+        boolean negative = units < 0;
+        if (negative) {
+            units = -units;
+        }
+
+        long integerPart = units / scale;
+        long fraction = units % scale;
+
+        int fractionDigits = precision;
+        while (fractionDigits > 0 && fraction % 10 == 0) {
+            fraction /= 10;
+            fractionDigits--;
+        }
+        if (fractionDigits > 0) {
+            for (int i = 0; i < fractionDigits; i++) {
+                buffer[--pos] = (char) ('0' + (fraction % 10));
+                fraction /= 10;
+            }
+            buffer[--pos] = '.';
+        }
+        do {
+            buffer[--pos] = (char) ('0' + (integerPart % 10));
+            integerPart /= 10;
+        } while (integerPart > 0);
+        if (negative) {
+            buffer[--pos] = '-';
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a {@code LineString} property to be written and read as a Google encoded polyline string
+ * instead of a GeoJSON object.
+ *
+ * <p>Picked up by {@link LineStringSerializer} and {@link LineStringDeserializer} (and so by
+ * {@link GeometryJacksonModule}); no {@code @JsonSerialize} is required.</p>
+ *
+ * <p>Usage in DTO:</p>
+ * <pre>{@code
+ * @EncodedPolyline(precision = 6)
+ * private LineString track;   // serialized as "_izlhA~rlgdF..."
+ * }</pre>
+ *
+ * @see EncodedPolylineSerializer
+ * @see EncodedPolylineDeserializer
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+public @interface EncodedPolyline {
+
+    /**
+     * Number of decimal places kept (5 for the Google format, 6 for OSRM/Valhalla "polyline6").
+     *
+     * @return the precision
+     */
+    int precision() default PolylineCodec.DEFAULT_PRECISION;
+}
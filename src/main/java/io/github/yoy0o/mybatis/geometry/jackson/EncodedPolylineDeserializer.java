@@ -0,0 +1,62 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.locationtech.jts.geom.LineString;
+
+import java.io.IOException;
+
+/**
+ * Jackson deserializer for a Google encoded polyline string to JTS LineString.
+ * GeoJSON LineString objects are accepted as well, so clients can migrate gradually.
+ *
+ * <p>Decoded positions go through the same coordinate validation and minimum-point
+ * check as {@link LineStringDeserializer}.</p>
+ *
+ * @see EncodedPolylineSerializer
+ */
+public class EncodedPolylineDeserializer extends LineStringDeserializer {
+
+    private final int polylinePrecision;
+
+    /**
+     * Default constructor with coordinate validation enabled and the Google precision (5 decimals).
+     */
+    public EncodedPolylineDeserializer() {
+        this(true, PolylineCodec.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation and polyline precision.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     * @param polylinePrecision number of decimal places (0-10)
+     */
+    public EncodedPolylineDeserializer(boolean coordinateValidationEnabled, int polylinePrecision) {
+        super(coordinateValidationEnabled);
+        this.polylinePrecision = PolylineCodec.checkPrecision(polylinePrecision);
+    }
+
+    /**
+     * Get the polyline precision.
+     *
+     * @return number of decimal places
+     */
+    public int getPolylinePrecision() {
+        return polylinePrecision;
+    }
+
+    @Override
+    public LineString deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return super.deserialize(parser, ctx);
+        }
+        CoordinateBuffer coordinates = PolylineCodec.decode(parser.getText(), polylinePrecision);
+        for (int i = 0; i < coordinates.size(); i++) {
+            validateCoordinate(coordinates.getX(i), coordinates.getY(i));
+        }
+        return build(coordinates);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.locationtech.jts.geom.LineString;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer for JTS LineString to a Google encoded polyline string.
+ * Typically 5-10x smaller than GeoJSON coordinate arrays for GPS tracks.
+ *
+ * <p>Output format (precision 5):</p>
+ * <pre>{@code
+ * "_p~iF~ps|U_ulLnnqC_mqNvxq`@"
+ * }</pre>
+ *
+ * <p>Enabled per field with {@link EncodedPolyline} or globally via
+ * {@code mybatis.geometry.encoded-polyline-precision}. Binary formats (Smile/CBOR/Ion)
+ * still receive WKB.</p>
+ *
+ * @see EncodedPolylineDeserializer
+ */
+public class EncodedPolylineSerializer extends LineStringSerializer {
+
+    private final int polylinePrecision;
+
+    /**
+     * Default constructor using the Google precision (5 decimals).
+     */
+    public EncodedPolylineSerializer() {
+        this(PolylineCodec.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructor with configurable polyline precision.
+     *
+     * @param polylinePrecision number of decimal places (0-10)
+     */
+    public EncodedPolylineSerializer(int polylinePrecision) {
+        this.polylinePrecision = PolylineCodec.checkPrecision(polylinePrecision);
+    }
+
+    /**
+     * Get the polyline precision.
+     *
+     * @return number of decimal places
+     */
+    public int getPolylinePrecision() {
+        return polylinePrecision;
+    }
+
+    @Override
+    public void serialize(LineString lineString, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (lineString == null) {
+            gen.writeNull();
+            return;
+        }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get compact SRID-prefixed WKB
+            BinaryGeometryFormat.write(gen, lineString);
+            return;
+        }
+        gen.writeString(PolylineCodec.encode(lineString.getCoordinateSequence(), polylinePrecision));
+    }
+}
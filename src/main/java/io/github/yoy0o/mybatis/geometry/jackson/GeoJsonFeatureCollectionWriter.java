@@ -0,0 +1,229 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.github.yoy0o.mybatis.geometry.annotation.LineStringTableField;
+import io.github.yoy0o.mybatis.geometry.annotation.PointTableField;
+import io.github.yoy0o.mybatis.geometry.annotation.PolygonTableField;
+import io.github.yoy0o.mybatis.geometry.annotation.WkbTableField;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import org.apache.ibatis.cursor.Cursor;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams entities to an {@link OutputStream} as a GeoJSON FeatureCollection.
+ *
+ * <p>Each entity becomes one Feature, written as soon as it is read from the source, so memory
+ * use does not grow with the number of features. This makes it suitable for MyBatis
+ * {@link Cursor} exports.</p>
+ *
+ * <p>Feature layout per entity class (resolved once through Jackson bean introspection, so
+ * {@code @JsonProperty}, {@code @JsonIgnore} and naming strategies are honored):</p>
+ * <ul>
+ *   <li><strong>geometry</strong> - the first property annotated with {@code @PointTableField},
+ *       {@code @PolygonTableField}, {@code @LineStringTableField} or {@code @WkbTableField};
+ *       falls back to the first property of a JTS {@link Geometry} or {@link WkbGeometry} type</li>
+ *   <li><strong>id</strong> - the property annotated with {@code @TableId}, if any</li>
+ *   <li><strong>properties</strong> - all remaining properties</li>
+ * </ul>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * GeoJsonFeatureCollectionWriter writer = new GeoJsonFeatureCollectionWriter(objectMapper);
+ * try (Cursor<Zone> cursor = zoneMapper.selectCursor(query)) {
+ *     writer.write(cursor, response.getOutputStream());
+ * }
+ * }</pre>
+ *
+ * <p>The ObjectMapper should have {@link GeometryJacksonModule} registered; geometries and
+ * property values are written with its serializers. Values go through a serializer provider rather
+ * than {@code ObjectMapper.writeValue}, so the stream is not flushed after every value
+ * ({@code SerializationFeature.FLUSH_AFTER_WRITE_VALUE}). Instances are thread-safe.</p>
+ */
+public class GeoJsonFeatureCollectionWriter {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, FeatureLayout> layoutCache = new ConcurrentHashMap<>();
+
+    /**
+     * Create a writer using the given ObjectMapper.
+     *
+     * @param objectMapper mapper used to create generators and serialize values
+     */
+    public GeoJsonFeatureCollectionWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write all rows of a MyBatis cursor as a FeatureCollection.
+     * The cursor is not closed; the caller owns its lifecycle.
+     *
+     * @param cursor the cursor to drain
+     * @param out the target stream (not closed)
+     * @param <T> the entity type
+     * @return the number of features written
+     * @throws IOException on write failure
+     */
+    public <T> long write(Cursor<T> cursor, OutputStream out) throws IOException {
+        return write(cursor.iterator(), out);
+    }
+
+    /**
+     * Write all entities of an iterable as a FeatureCollection.
+     *
+     * @param entities the entities
+     * @param out the target stream (not closed)
+     * @param <T> the entity type
+     * @return the number of features written
+     * @throws IOException on write failure
+     */
+    public <T> long write(Iterable<T> entities, OutputStream out) throws IOException {
+        return write(entities.iterator(), out);
+    }
+
+    /**
+     * Write all remaining entities of an iterator as a FeatureCollection.
+     *
+     * @param entities the entities
+     * @param out the target stream (not closed)
+     * @param <T> the entity type
+     * @return the number of features written
+     * @throws IOException on write failure
+     */
+    public <T> long write(Iterator<T> entities, OutputStream out) throws IOException {
+        long count = 0;
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            gen.writeStartObject();
+            gen.writeStringField("type", "FeatureCollection");
+            gen.writeArrayFieldStart("features");
+            while (entities.hasNext()) {
+                T entity = entities.next();
+                if (entity == null) {
+                    continue;
+                }
+                writeFeature(gen, entity, provider);
+                count++;
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return count;
+    }
+
+    /**
+     * Write a single entity as a GeoJSON Feature object.
+     *
+     * @param gen the generator, positioned where a value is expected
+     * @param entity the entity
+     * @throws IOException on write failure
+     */
+    public void writeFeature(JsonGenerator gen, Object entity) throws IOException {
+        writeFeature(gen, entity, objectMapper.getSerializerProviderInstance());
+    }
+
+    private void writeFeature(JsonGenerator gen, Object entity, SerializerProvider provider) throws IOException {
+        FeatureLayout layout = layoutCache.computeIfAbsent(entity.getClass(), this::resolveLayout);
+
+        gen.writeStartObject();
+        gen.writeStringField("type", "Feature");
+
+        if (layout.id() != null) {
+            Object id = layout.id().getValue(entity);
+            if (id != null) {
+                provider.defaultSerializeField("id", id, gen);
+            }
+        }
+
+        gen.writeFieldName("geometry");
+        if (layout.geometry() != null) {
+            provider.defaultSerializeValue(layout.geometry().getValue(entity), gen);
+        } else {
+            gen.writeNull();
+        }
+
+        gen.writeObjectFieldStart("properties");
+        for (int i = 0; i < layout.propertyNames().length; i++) {
+            provider.defaultSerializeField(layout.propertyNames()[i], layout.properties()[i].getValue(entity), gen);
+        }
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+
+    private FeatureLayout resolveLayout(Class<?> entityClass) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+            .introspect(objectMapper.constructType(entityClass));
+
+        AnnotatedMember id = null;
+        AnnotatedMember geometry = null;
+        AnnotatedMember geometryFallback = null;
+        List<BeanPropertyDefinition> candidates = new ArrayList<>();
+
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null) {
+                continue;
+            }
+            accessor.fixAccess(true);
+            AnnotatedField field = property.getField();
+
+            if (geometry == null && field != null && isGeometryField(field)) {
+                geometry = accessor;
+            } else if (id == null && field != null && field.hasAnnotation(TableId.class)) {
+                id = accessor;
+            } else {
+                if (geometryFallback == null && isGeometryType(accessor.getRawType())) {
+                    geometryFallback = accessor;
+                }
+                candidates.add(property);
+            }
+        }
+        if (geometry == null) {
+            geometry = geometryFallback;
+        }
+
+        List<String> names = new ArrayList<>();
+        List<AnnotatedMember> members = new ArrayList<>();
+        for (BeanPropertyDefinition property : candidates) {
+            if (property.getAccessor() != geometry) {
+                names.add(property.getName());
+                members.add(property.getAccessor());
+            }
+        }
+        return new FeatureLayout(id, geometry, names.toArray(new String[0]),
+            members.toArray(new AnnotatedMember[0]));
+    }
+
+    private boolean isGeometryField(AnnotatedField field) {
+        return field.hasAnnotation(PointTableField.class)
+            || field.hasAnnotation(PolygonTableField.class)
+            || field.hasAnnotation(LineStringTableField.class)
+            || field.hasAnnotation(WkbTableField.class);
+    }
+
+    private boolean isGeometryType(Class<?> type) {
+        return Geometry.class.isAssignableFrom(type) || WkbGeometry.class.equals(type);
+    }
+
+    private record FeatureLayout(AnnotatedMember id, AnnotatedMember geometry,
+                                 String[] propertyNames, AnnotatedMember[] properties) {
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson deserializer for GeoJSON GeometryCollection to JTS GeometryCollection.
+ * Member geometries are read by a {@link GeometryDeserializer}, so any geometry type may be nested.
+ *
+ * <p>Expected input format:</p>
+ * <pre>{@code
+ * {
+ *   "type": "GeometryCollection",
+ *   "geometries": [
+ *     {"type": "Point", "coordinates": [lon, lat]},
+ *     {"type": "LineString", "coordinates": [[lon1, lat1], ...]}
+ *   ]
+ * }
+ * }</pre>
+ */
+public class GeometryCollectionDeserializer
+        extends AbstractGeoJsonDeserializer<GeometryCollection, List<Geometry>> {
+
+    private final GeometryDeserializer geometryReader;
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public GeometryCollectionDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public GeometryCollectionDeserializer(boolean coordinateValidationEnabled) {
+        this(coordinateValidationEnabled, null);
+    }
+
+    /**
+     * Constructor used by {@link GeometryDeserializer} to share its dispatch table.
+     */
+    GeometryCollectionDeserializer(boolean coordinateValidationEnabled, GeometryDeserializer geometryReader) {
+        super(coordinateValidationEnabled);
+        this.geometryReader = geometryReader != null
+            ? geometryReader : new GeometryDeserializer(coordinateValidationEnabled, this);
+    }
+
+    @Override
+    protected String getGeoJsonType() {
+        return "GeometryCollection";
+    }
+
+    @Override
+    protected String getMemberName() {
+        return "geometries";
+    }
+
+    @Override
+    protected List<Geometry> readCoordinates(JsonParser parser) throws IOException {
+        List<Geometry> geometries = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                throw new GeoJsonParseException("Invalid geometry at index " + geometries.size(), "geometries");
+            }
+            geometries.add(geometryReader.read(parser));
+        }
+        return geometries;
+    }
+
+    @Override
+    protected GeometryCollection build(List<Geometry> geometries) {
+        return GeometryFactoryProvider.getFactory()
+            .createGeometryCollection(geometries.toArray(new Geometry[0]));
+    }
+}
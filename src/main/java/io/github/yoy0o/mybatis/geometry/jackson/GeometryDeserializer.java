@@ -0,0 +1,133 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Jackson deserializer for any GeoJSON geometry to the matching JTS type.
+ * Used for properties declared as {@link Geometry}.
+ *
+ * <p>Dispatches on the {@code type} member to the concrete streaming deserializers:
+ * Point, LineString, Polygon, MultiPoint, MultiLineString, MultiPolygon and GeometryCollection.
+ * When {@code type} is the first member (the usual case) nothing is buffered; members that
+ * appear before it are buffered in a {@link TokenBuffer} and replayed once the type is known.</p>
+ *
+ * <p>Usage in DTO:</p>
+ * <pre>{@code
+ * @JsonDeserialize(using = GeometryDeserializer.class)
+ * private Geometry area;
+ * }</pre>
+ */
+public class GeometryDeserializer extends JsonDeserializer<Geometry> {
+
+    private final Map<String, AbstractGeoJsonDeserializer<? extends Geometry, ?>> readers;
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public GeometryDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public GeometryDeserializer(boolean coordinateValidationEnabled) {
+        this(coordinateValidationEnabled, null);
+    }
+
+    /**
+     * Constructor used by {@link GeometryCollectionDeserializer} to share its instance.
+     */
+    GeometryDeserializer(boolean coordinateValidationEnabled, GeometryCollectionDeserializer collectionReader) {
+        this.readers = Map.of(
+            "Point", new PointDeserializer(coordinateValidationEnabled),
+            "LineString", new LineStringDeserializer(coordinateValidationEnabled),
+            "Polygon", new PolygonDeserializer(coordinateValidationEnabled),
+            "MultiPoint", new MultiPointDeserializer(coordinateValidationEnabled),
+            "MultiLineString", new MultiLineStringDeserializer(coordinateValidationEnabled),
+            "MultiPolygon", new MultiPolygonDeserializer(coordinateValidationEnabled),
+            "GeometryCollection", collectionReader != null
+                ? collectionReader : new GeometryCollectionDeserializer(coordinateValidationEnabled, this));
+    }
+
+    @Override
+    public Geometry deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
+        return read(parser);
+    }
+
+    /**
+     * Read a geometry at the current token ({@code START_OBJECT}, {@code FIELD_NAME},
+     * an embedded binary value or null).
+     *
+     * @param parser the parser
+     * @return the geometry, or null
+     * @throws IOException if the GeoJSON is malformed
+     */
+    Geometry read(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            WkbGeometry wkb = BinaryGeometryFormat.readWkb(parser);
+            return BinaryGeometryFormat.withSrid(read(BinaryGeometryFormat.toGeoJson(parser, wkb)), wkb);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            throw new GeoJsonParseException("Expected a GeoJSON object, got " + token, "type");
+        }
+
+        TokenBuffer buffered = null;
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("type".equals(field)) {
+                AbstractGeoJsonDeserializer<? extends Geometry, ?> reader = readerFor(parser, value);
+                if (buffered == null) {
+                    return reader.readMembers(parser, parser.nextToken(), true);
+                }
+                // Replay the members read before 'type', then continue with the live parser
+                JsonParser replay = JsonParserSequence.createFlattened(false, buffered.asParser(parser), parser);
+                return reader.readMembers(replay, replay.nextToken(), true);
+            }
+
+            if (buffered == null) {
+                buffered = new TokenBuffer(parser);
+            }
+            buffered.writeFieldName(field);
+            buffered.copyCurrentStructure(parser);
+        }
+        throw new GeoJsonParseException("Missing 'type' field", "type");
+    }
+
+    private AbstractGeoJsonDeserializer<? extends Geometry, ?> readerFor(JsonParser parser, JsonToken value)
+            throws IOException {
+        String type = null;
+        if (value.isScalarValue()) {
+            type = parser.getValueAsString();
+        } else if (value.isStructStart()) {
+            parser.skipChildren();
+        }
+        AbstractGeoJsonDeserializer<? extends Geometry, ?> reader = type != null ? readers.get(type) : null;
+        if (reader == null) {
+            throw new GeoJsonParseException("Unsupported GeoJSON geometry type: " + type, "type");
+        }
+        return reader;
+    }
+}
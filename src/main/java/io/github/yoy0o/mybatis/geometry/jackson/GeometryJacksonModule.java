@@ -1,7 +1,13 @@
 package io.github.yoy0o.mybatis.geometry.jackson;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 
@@ -13,9 +19,14 @@
  *   <li>Point</li>
  *   <li>LineString</li>
  *   <li>Polygon</li>
+ *   <li>MultiPoint, MultiLineString, MultiPolygon, GeometryCollection</li>
+ *   <li>Geometry (any of the above, dispatched on the GeoJSON {@code type})</li>
+ *   <li>WkbGeometry (transcoded directly between WKB and GeoJSON, without JTS objects)</li>
  * </ul>
  *
- * <p>Output format conforms to RFC 7946 GeoJSON with coordinate order [longitude, latitude].</p>
+ * <p>Output format conforms to RFC 7946 GeoJSON with coordinate order [longitude, latitude].
+ * On binary formats (Smile, CBOR, Ion) geometries are written as a single embedded WKB value
+ * with SRID instead, and the deserializers accept both forms.</p>
  *
  * <p>Usage:</p>
  * <pre>{@code
@@ -39,14 +50,56 @@ public GeometryJacksonModule() {
      *                                    when false, only validate Double.isFinite()
      */
     public GeometryJacksonModule(boolean coordinateValidationEnabled) {
+        this(coordinateValidationEnabled, CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Create a GeometryJacksonModule with configurable coordinate validation and output precision.
+     *
+     * @param coordinateValidationEnabled when true, deserializers validate WGS84 range;
+     *                                    when false, only validate Double.isFinite()
+     * @param coordinatePrecision number of decimal places written by the serializers (0-12),
+     *                            or a negative value for full double precision
+     */
+    public GeometryJacksonModule(boolean coordinateValidationEnabled, int coordinatePrecision) {
+        this(coordinateValidationEnabled, coordinatePrecision, -1);
+    }
+
+    /**
+     * Create a GeometryJacksonModule with configurable coordinate validation, output precision
+     * and LineString encoding.
+     *
+     * @param coordinateValidationEnabled when true, deserializers validate WGS84 range;
+     *                                    when false, only validate Double.isFinite()
+     * @param coordinatePrecision number of decimal places written by the serializers (0-12),
+     *                            or a negative value for full double precision
+     * @param polylinePrecision when 0-10, all LineStrings are written as encoded polylines with this
+     *                          precision (GeoJSON input is still accepted); a negative value keeps GeoJSON.
+     *                          Individual properties can opt in with {@link EncodedPolyline}
+     */
+    public GeometryJacksonModule(boolean coordinateValidationEnabled, int coordinatePrecision,
+                                 int polylinePrecision) {
         super("GeometryJacksonModule");
         // Serializers
-        addSerializer(Point.class, new PointSerializer());
-        addSerializer(LineString.class, new LineStringSerializer());
-        addSerializer(Polygon.class, new PolygonSerializer());
+        addSerializer(Point.class, new PointSerializer(coordinatePrecision));
+        addSerializer(LineString.class, polylinePrecision < 0
+            ? new LineStringSerializer(coordinatePrecision)
+            : new EncodedPolylineSerializer(polylinePrecision));
+        addSerializer(Polygon.class, new PolygonSerializer(coordinatePrecision));
+        addSerializer(WkbGeometry.class, new WkbGeometrySerializer(coordinatePrecision));
+        // Multi* and GeometryCollection resolve to the Geometry serializer through their superclass
+        addSerializer(Geometry.class, new GeometrySerializer(coordinatePrecision));
         // Deserializers
         addDeserializer(Point.class, new PointDeserializer(coordinateValidationEnabled));
-        addDeserializer(LineString.class, new LineStringDeserializer(coordinateValidationEnabled));
+        addDeserializer(LineString.class, polylinePrecision < 0
+            ? new LineStringDeserializer(coordinateValidationEnabled)
+            : new EncodedPolylineDeserializer(coordinateValidationEnabled, polylinePrecision));
         addDeserializer(Polygon.class, new PolygonDeserializer(coordinateValidationEnabled));
+        addDeserializer(WkbGeometry.class, new WkbGeometryDeserializer(coordinateValidationEnabled));
+        addDeserializer(MultiPoint.class, new MultiPointDeserializer(coordinateValidationEnabled));
+        addDeserializer(MultiLineString.class, new MultiLineStringDeserializer(coordinateValidationEnabled));
+        addDeserializer(MultiPolygon.class, new MultiPolygonDeserializer(coordinateValidationEnabled));
+        addDeserializer(GeometryCollection.class, new GeometryCollectionDeserializer(coordinateValidationEnabled));
+        addDeserializer(Geometry.class, new GeometryDeserializer(coordinateValidationEnabled));
     }
 }
@@ -0,0 +1,126 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer for any JTS geometry to GeoJSON format.
+ * Covers the types without a dedicated serializer (MultiPoint, MultiLineString, MultiPolygon
+ * and GeometryCollection), including their members.
+ *
+ * <p>Output format (MultiPolygon):</p>
+ * <pre>{@code
+ * {
+ *   "type": "MultiPolygon",
+ *   "coordinates": [[[[lon1, lat1], ...]], [[[lon1, lat1], ...]]]
+ * }
+ * }</pre>
+ *
+ * <p>Usage in DTO:</p>
+ * <pre>{@code
+ * @JsonSerialize(using = GeometrySerializer.class)
+ * @JsonDeserialize(using = GeometryDeserializer.class)
+ * private Geometry area;
+ * }</pre>
+ */
+public class GeometrySerializer extends JsonSerializer<Geometry> {
+
+    private final CoordinateWriter coordinateWriter;
+
+    /**
+     * Default constructor writing full double precision.
+     */
+    public GeometrySerializer() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Constructor with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public GeometrySerializer(int precision) {
+        this.coordinateWriter = CoordinateWriter.of(precision);
+    }
+
+    @Override
+    public void serialize(Geometry geometry, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (geometry == null) {
+            gen.writeNull();
+            return;
+        }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get compact SRID-prefixed WKB
+            BinaryGeometryFormat.write(gen, geometry);
+            return;
+        }
+        writeGeometry(gen, geometry);
+    }
+
+    private void writeGeometry(JsonGenerator gen, Geometry geometry) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("type", typeName(geometry));
+
+        if (geometry instanceof GeometryCollection collection
+                && !(geometry instanceof MultiPoint)
+                && !(geometry instanceof MultiLineString)
+                && !(geometry instanceof MultiPolygon)) {
+            gen.writeArrayFieldStart("geometries");
+            for (int i = 0; i < collection.getNumGeometries(); i++) {
+                writeGeometry(gen, collection.getGeometryN(i));
+            }
+            gen.writeEndArray();
+        } else {
+            gen.writeFieldName("coordinates");
+            writeCoordinates(gen, geometry);
+        }
+
+        gen.writeEndObject();
+    }
+
+    private void writeCoordinates(JsonGenerator gen, Geometry geometry) throws IOException {
+        if (geometry instanceof Point point) {
+            if (point.isEmpty()) {
+                gen.writeStartArray();
+                gen.writeEndArray();
+            } else {
+                coordinateWriter.writePosition(gen, point.getX(), point.getY());
+            }
+        } else if (geometry instanceof LineString lineString) {
+            coordinateWriter.writeSequence(gen, lineString.getCoordinateSequence());
+        } else if (geometry instanceof Polygon polygon) {
+            gen.writeStartArray();
+            if (!polygon.isEmpty()) {
+                coordinateWriter.writeSequence(gen, polygon.getExteriorRing().getCoordinateSequence());
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    coordinateWriter.writeSequence(gen, polygon.getInteriorRingN(i).getCoordinateSequence());
+                }
+            }
+            gen.writeEndArray();
+        } else {
+            // MultiPoint / MultiLineString / MultiPolygon: one coordinates element per member
+            gen.writeStartArray();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeCoordinates(gen, geometry.getGeometryN(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static String typeName(Geometry geometry) {
+        // LinearRing is written as a LineString
+        return geometry instanceof LineString ? "LineString" : geometry.getGeometryType();
+    }
+}
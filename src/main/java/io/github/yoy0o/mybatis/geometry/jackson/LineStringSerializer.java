@@ -1,15 +1,17 @@
 package io.github.yoy0o.mybatis.geometry.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import org.locationtech.jts.geom.Coordinate;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import org.locationtech.jts.geom.LineString;
 
 import java.io.IOException;
 
 /**
  * Jackson serializer for JTS LineString to GeoJSON format.
+ * Reads positions directly from the coordinate sequence without copying.
  * 
  * <p>Output format:</p>
  * <pre>{@code
@@ -25,8 +27,42 @@
  * @JsonDeserialize(using = LineStringDeserializer.class)
  * private LineString route;
  * }</pre>
+ *
+ * <p>Properties annotated with {@link EncodedPolyline} are written by an
+ * {@link EncodedPolylineSerializer} instead.</p>
  */
-public class LineStringSerializer extends JsonSerializer<LineString> {
+public class LineStringSerializer extends JsonSerializer<LineString> implements ContextualSerializer {
+
+    private final CoordinateWriter coordinateWriter;
+
+    /**
+     * Default constructor writing full double precision.
+     */
+    public LineStringSerializer() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Constructor with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public LineStringSerializer(int precision) {
+        this.coordinateWriter = CoordinateWriter.of(precision);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        EncodedPolyline polyline = property != null ? property.getAnnotation(EncodedPolyline.class) : null;
+        if (polyline == null) {
+            return this;
+        }
+        if (this instanceof EncodedPolylineSerializer encoded
+                && encoded.getPolylinePrecision() == polyline.precision()) {
+            return this;
+        }
+        return new EncodedPolylineSerializer(polyline.precision());
+    }
     
     @Override
     public void serialize(LineString lineString, JsonGenerator gen, SerializerProvider provider) 
@@ -35,19 +71,18 @@ public void serialize(LineString lineString, JsonGenerator gen, SerializerProvid
             gen.writeNull();
             return;
         }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get compact SRID-prefixed WKB
+            BinaryGeometryFormat.write(gen, lineString);
+            return;
+        }
         
         gen.writeStartObject();
         gen.writeStringField("type", "LineString");
         
         // Write coordinates array
-        gen.writeArrayFieldStart("coordinates");
-        for (Coordinate coordinate : lineString.getCoordinates()) {
-            gen.writeStartArray();
-            gen.writeNumber(coordinate.x);  // longitude
-            gen.writeNumber(coordinate.y);  // latitude
-            gen.writeEndArray();
-        }
-        gen.writeEndArray();
+        gen.writeFieldName("coordinates");
+        coordinateWriter.writeSequence(gen, lineString.getCoordinateSequence());
         
         gen.writeEndObject();
     }
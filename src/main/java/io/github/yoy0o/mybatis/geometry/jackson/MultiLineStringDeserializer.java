@@ -0,0 +1,81 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson deserializer for GeoJSON MultiLineString to JTS MultiLineString.
+ * Streams each line's coordinates from the parser into a packed coordinate sequence.
+ *
+ * <p>Expected input format:</p>
+ * <pre>{@code
+ * {
+ *   "type": "MultiLineString",
+ *   "coordinates": [
+ *     [[lon1, lat1], [lon2, lat2], ...],
+ *     [[lon1, lat1], ...]
+ *   ]
+ * }
+ * }</pre>
+ */
+public class MultiLineStringDeserializer
+        extends AbstractGeoJsonDeserializer<MultiLineString, List<CoordinateBuffer>> {
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public MultiLineStringDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public MultiLineStringDeserializer(boolean coordinateValidationEnabled) {
+        super(coordinateValidationEnabled);
+    }
+
+    @Override
+    protected String getGeoJsonType() {
+        return "MultiLineString";
+    }
+
+    @Override
+    protected List<CoordinateBuffer> readCoordinates(JsonParser parser) throws IOException {
+        List<CoordinateBuffer> lines = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new GeoJsonParseException("LineString must have at least 2 points", "coordinates");
+            }
+            CoordinateBuffer line = readPositions(parser);
+            if (line.size() < 2) {
+                throw new GeoJsonParseException("LineString must have at least 2 points", "coordinates");
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    @Override
+    protected MultiLineString build(List<CoordinateBuffer> lines) {
+        GeometryFactory factory = GeometryFactoryProvider.getFactory();
+        LineString[] lineStrings = new LineString[lines.size()];
+        for (int i = 0; i < lineStrings.length; i++) {
+            lineStrings[i] = factory.createLineString(lines.get(i).toSequence());
+        }
+        return factory.createMultiLineString(lineStrings);
+    }
+}
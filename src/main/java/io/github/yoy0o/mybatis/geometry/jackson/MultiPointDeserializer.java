@@ -0,0 +1,54 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
+import org.locationtech.jts.geom.MultiPoint;
+
+import java.io.IOException;
+
+/**
+ * Jackson deserializer for GeoJSON MultiPoint to JTS MultiPoint.
+ * Streams coordinates from the parser into a packed coordinate sequence.
+ *
+ * <p>Expected input format:</p>
+ * <pre>{@code
+ * {
+ *   "type": "MultiPoint",
+ *   "coordinates": [[lon1, lat1], [lon2, lat2], ...]
+ * }
+ * }</pre>
+ */
+public class MultiPointDeserializer extends AbstractGeoJsonDeserializer<MultiPoint, CoordinateBuffer> {
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public MultiPointDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public MultiPointDeserializer(boolean coordinateValidationEnabled) {
+        super(coordinateValidationEnabled);
+    }
+
+    @Override
+    protected String getGeoJsonType() {
+        return "MultiPoint";
+    }
+
+    @Override
+    protected CoordinateBuffer readCoordinates(JsonParser parser) throws IOException {
+        return readPositions(parser);
+    }
+
+    @Override
+    protected MultiPoint build(CoordinateBuffer coordinates) {
+        return GeometryFactoryProvider.getFactory().createMultiPoint(coordinates.toSequence());
+    }
+}
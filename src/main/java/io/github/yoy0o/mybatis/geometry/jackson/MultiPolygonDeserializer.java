@@ -0,0 +1,87 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson deserializer for GeoJSON MultiPolygon to JTS MultiPolygon.
+ * Each polygon is read with the same ring closure and orientation rules as {@link PolygonDeserializer}.
+ *
+ * <p>Expected input format:</p>
+ * <pre>{@code
+ * {
+ *   "type": "MultiPolygon",
+ *   "coordinates": [
+ *     [[[lon1, lat1], ...]],             // polygon 1 (exterior ring only)
+ *     [[[lon1, lat1], ...], [[...]]]     // polygon 2 (exterior + holes)
+ *   ]
+ * }
+ * }</pre>
+ */
+public class MultiPolygonDeserializer
+        extends AbstractGeoJsonDeserializer<MultiPolygon, List<List<CoordinateBuffer>>> {
+
+    private final PolygonDeserializer polygonReader;
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public MultiPolygonDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public MultiPolygonDeserializer(boolean coordinateValidationEnabled) {
+        super(coordinateValidationEnabled);
+        this.polygonReader = new PolygonDeserializer(coordinateValidationEnabled);
+    }
+
+    @Override
+    protected String getGeoJsonType() {
+        return "MultiPolygon";
+    }
+
+    @Override
+    protected List<List<CoordinateBuffer>> readCoordinates(JsonParser parser) throws IOException {
+        List<List<CoordinateBuffer>> polygons = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
+            }
+            polygons.add(polygonReader.readRings(parser));
+        }
+        return polygons;
+    }
+
+    @Override
+    protected MultiPolygon build(List<List<CoordinateBuffer>> polygons) throws IOException {
+        GeometryFactory factory = GeometryFactoryProvider.getFactory();
+        Polygon[] parts = new Polygon[polygons.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = PolygonDeserializer.createPolygon(polygons.get(i), factory);
+        }
+        MultiPolygon multiPolygon = factory.createMultiPolygon(parts);
+
+        if (!multiPolygon.isValid()) {
+            throw new GeoJsonParseException("Invalid multipolygon geometry: not valid according to OGC rules",
+                "coordinates");
+        }
+
+        return multiPolygon;
+    }
+}
@@ -1,11 +1,7 @@
 package io.github.yoy0o.mybatis.geometry.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
-import io.github.yoy0o.mybatis.geometry.exception.InvalidCoordinateException;
 import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Point;
@@ -14,6 +10,7 @@
 
 /**
  * Jackson deserializer for GeoJSON Point to JTS Point.
+ * Reads tokens directly from the parser without building a JSON tree.
  *
  * <p>Expected input format:</p>
  * <pre>{@code
@@ -30,9 +27,7 @@
  * private Point location;
  * }</pre>
  */
-public class PointDeserializer extends JsonDeserializer<Point> {
-
-    private final boolean coordinateValidationEnabled;
+public class PointDeserializer extends AbstractGeoJsonDeserializer<Point, double[]> {
 
     /**
      * Default constructor with coordinate validation enabled (WGS84 range).
@@ -48,65 +43,29 @@ public PointDeserializer() {
      *                                    when false, only validates Double.isFinite()
      */
     public PointDeserializer(boolean coordinateValidationEnabled) {
-        this.coordinateValidationEnabled = coordinateValidationEnabled;
+        super(coordinateValidationEnabled);
     }
 
     @Override
-    public Point deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
-        JsonNode node = parser.getCodec().readTree(parser);
-
-        if (node == null || node.isNull()) {
-            return null;
-        }
-
-        // Validate GeoJSON type
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null) {
-            throw new GeoJsonParseException("Missing 'type' field", "type");
-        }
-
-        String type = typeNode.asText();
-        if (!"Point".equals(type)) {
-            throw GeoJsonParseException.forTypeMismatch("Point", type);
-        }
-
-        // Validate coordinates
-        JsonNode coordinatesNode = node.get("coordinates");
-        if (coordinatesNode == null || !coordinatesNode.isArray()) {
-            throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
-        }
+    protected String getGeoJsonType() {
+        return "Point";
+    }
 
-        if (coordinatesNode.size() < 2) {
+    @Override
+    protected double[] readCoordinates(JsonParser parser) throws IOException {
+        // Parse coordinates [longitude, latitude]
+        double[] position = new double[2];
+        if (readPosition(parser, position) < 2) {
             throw new GeoJsonParseException("Coordinates array must have at least 2 elements", "coordinates");
         }
 
-        // Parse coordinates [longitude, latitude]
-        double longitude = coordinatesNode.get(0).asDouble();
-        double latitude = coordinatesNode.get(1).asDouble();
-
         // Validate coordinates
-        validateCoordinate(longitude, latitude);
-
-        return GeometryFactoryProvider.getFactory().createPoint(new Coordinate(longitude, latitude));
+        validateCoordinate(position[0], position[1]);
+        return position;
     }
 
-    private void validateCoordinate(double longitude, double latitude) throws IOException {
-        if (coordinateValidationEnabled) {
-            // WGS84 range validation
-            if (longitude < -180 || longitude > 180) {
-                throw InvalidCoordinateException.forLongitude(longitude);
-            }
-            if (latitude < -90 || latitude > 90) {
-                throw InvalidCoordinateException.forLatitude(latitude);
-            }
-        } else {
-            // Only validate that coordinates are finite (not NaN or Infinity)
-            if (!Double.isFinite(longitude)) {
-                throw new InvalidCoordinateException("longitude", longitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
-            }
-            if (!Double.isFinite(latitude)) {
-                throw new InvalidCoordinateException("latitude", latitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
-            }
-        }
+    @Override
+    protected Point build(double[] position) {
+        return GeometryFactoryProvider.getFactory().createPoint(new Coordinate(position[0], position[1]));
     }
 }
@@ -26,6 +26,24 @@
  * }</pre>
  */
 public class PointSerializer extends JsonSerializer<Point> {
+
+    private final CoordinateWriter coordinateWriter;
+
+    /**
+     * Default constructor writing full double precision.
+     */
+    public PointSerializer() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Constructor with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public PointSerializer(int precision) {
+        this.coordinateWriter = CoordinateWriter.of(precision);
+    }
     
     @Override
     public void serialize(Point point, JsonGenerator gen, SerializerProvider provider) 
@@ -34,15 +52,18 @@ public void serialize(Point point, JsonGenerator gen, SerializerProvider provide
             gen.writeNull();
             return;
         }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get compact SRID-prefixed WKB
+            BinaryGeometryFormat.write(gen, point);
+            return;
+        }
         
         gen.writeStartObject();
         gen.writeStringField("type", "Point");
         
         // Write coordinates array [longitude, latitude]
-        gen.writeArrayFieldStart("coordinates");
-        gen.writeNumber(point.getX());  // longitude
-        gen.writeNumber(point.getY());  // latitude
-        gen.writeEndArray();
+        gen.writeFieldName("coordinates");
+        coordinateWriter.writePosition(gen, point.getX(), point.getY());
         
         gen.writeEndObject();
     }
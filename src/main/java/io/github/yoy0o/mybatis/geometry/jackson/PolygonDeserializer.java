@@ -1,13 +1,9 @@
 package io.github.yoy0o.mybatis.geometry.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
-import io.github.yoy0o.mybatis.geometry.exception.InvalidCoordinateException;
 import io.github.yoy0o.mybatis.geometry.util.GeometryFactoryProvider;
-import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.geom.*;
 
 import java.io.IOException;
@@ -16,7 +12,8 @@
 
 /**
  * Jackson deserializer for GeoJSON Polygon to JTS Polygon.
- * Validates ring closure and corrects ring orientation.
+ * Streams ring coordinates from the parser into packed coordinate sequences,
+ * validates ring closure and corrects ring orientation in place before any ring is built.
  *
  * <p>Expected input format:</p>
  * <pre>{@code
@@ -29,9 +26,7 @@
  * }
  * }</pre>
  */
-public class PolygonDeserializer extends JsonDeserializer<Polygon> {
-
-    private final boolean coordinateValidationEnabled;
+public class PolygonDeserializer extends AbstractGeoJsonDeserializer<Polygon, List<CoordinateBuffer>> {
 
     /**
      * Default constructor with coordinate validation enabled (WGS84 range).
@@ -47,132 +42,99 @@ public PolygonDeserializer() {
      *                                    when false, only validates Double.isFinite()
      */
     public PolygonDeserializer(boolean coordinateValidationEnabled) {
-        this.coordinateValidationEnabled = coordinateValidationEnabled;
+        super(coordinateValidationEnabled);
     }
 
     @Override
-    public Polygon deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
-        JsonNode node = parser.getCodec().readTree(parser);
+    protected String getGeoJsonType() {
+        return "Polygon";
+    }
 
-        if (node == null || node.isNull()) {
-            return null;
-        }
+    @Override
+    protected List<CoordinateBuffer> readCoordinates(JsonParser parser) throws IOException {
+        return readRings(parser);
+    }
 
-        // Validate GeoJSON type
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null) {
-            throw new GeoJsonParseException("Missing 'type' field", "type");
-        }
+    @Override
+    protected Polygon build(List<CoordinateBuffer> rings) throws IOException {
+        Polygon polygon = createPolygon(rings, GeometryFactoryProvider.getFactory());
 
-        String type = typeNode.asText();
-        if (!"Polygon".equals(type)) {
-            throw GeoJsonParseException.forTypeMismatch("Polygon", type);
+        if (!polygon.isValid()) {
+            throw new GeoJsonParseException("Invalid polygon geometry: not valid according to OGC rules",
+                "coordinates");
         }
 
-        // Validate coordinates
-        JsonNode coordinatesNode = node.get("coordinates");
-        if (coordinatesNode == null || !coordinatesNode.isArray() || coordinatesNode.isEmpty()) {
+        return polygon;
+    }
+
+    /**
+     * Read the rings of one polygon, validating ring size and closure.
+     * The parser is positioned on the polygon's {@code START_ARRAY} and is left on its {@code END_ARRAY}.
+     */
+    List<CoordinateBuffer> readRings(JsonParser parser) throws IOException {
+        List<CoordinateBuffer> rings = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new GeoJsonParseException(
+                    "Invalid coordinate array: a polygon ring must have at least 4 points",
+                    "coordinates");
+            }
+            rings.add(readRing(parser));
+        }
+        if (rings.isEmpty()) {
             throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
         }
+        return rings;
+    }
 
-        GeometryFactory factory = GeometryFactoryProvider.getFactory();
-
-        // Parse exterior ring
-        JsonNode exteriorRingNode = coordinatesNode.get(0);
-        LinearRing shell = createLinearRing(exteriorRingNode, true, factory);
+    /**
+     * Build a polygon from rings read by {@link #readRings(JsonParser)}, normalizing ring orientation.
+     * No validity check is done.
+     */
+    static Polygon createPolygon(List<CoordinateBuffer> rings, GeometryFactory factory) {
+        // Exterior ring
+        LinearRing shell = createLinearRing(rings.get(0), true, factory);
 
-        // Parse interior rings (holes)
+        // Interior rings (holes)
         LinearRing[] holes = null;
-        if (coordinatesNode.size() > 1) {
-            List<LinearRing> holesList = new ArrayList<>();
-            for (int i = 1; i < coordinatesNode.size(); i++) {
-                holesList.add(createLinearRing(coordinatesNode.get(i), false, factory));
+        if (rings.size() > 1) {
+            holes = new LinearRing[rings.size() - 1];
+            for (int i = 1; i < rings.size(); i++) {
+                holes[i - 1] = createLinearRing(rings.get(i), false, factory);
             }
-            holes = holesList.toArray(new LinearRing[0]);
-        }
-
-        Polygon polygon = factory.createPolygon(shell, holes);
-
-        if (!polygon.isValid()) {
-            throw new GeoJsonParseException("Invalid polygon geometry: not valid according to OGC rules",
-                "coordinates");
         }
 
-        return polygon;
+        return factory.createPolygon(shell, holes);
     }
 
-
-    private LinearRing createLinearRing(JsonNode coordinatesNode, boolean isExterior,
-            GeometryFactory factory) throws IOException {
-        if (coordinatesNode == null || !coordinatesNode.isArray() || coordinatesNode.size() < 4) {
+    private CoordinateBuffer readRing(JsonParser parser) throws IOException {
+        CoordinateBuffer ring = readPositions(parser);
+        if (ring.size() < 4) {
             throw new GeoJsonParseException(
                 "Invalid coordinate array: a polygon ring must have at least 4 points",
                 "coordinates");
         }
 
-        Coordinate[] coordinates = new Coordinate[coordinatesNode.size()];
-
-        for (int i = 0; i < coordinatesNode.size(); i++) {
-            JsonNode coordNode = coordinatesNode.get(i);
-            if (!coordNode.isArray() || coordNode.size() < 2) {
-                throw new GeoJsonParseException("Invalid coordinate pair at index " + i, "coordinates");
-            }
-
-            double lon = coordNode.get(0).asDouble();
-            double lat = coordNode.get(1).asDouble();
-
-            // Validate coordinates
-            validateCoordinate(lon, lat);
-
-            coordinates[i] = new Coordinate(lon, lat);
-        }
-
         // Validate ring closure
-        if (!coordinates[0].equals2D(coordinates[coordinates.length - 1])) {
+        int last = ring.size() - 1;
+        if (ring.getX(0) != ring.getX(last) || ring.getY(0) != ring.getY(last)) {
             throw new GeoJsonParseException(
                 String.format("Invalid ring: first point (%f,%f) != last point (%f,%f)",
-                    coordinates[0].x, coordinates[0].y,
-                    coordinates[coordinates.length - 1].x, coordinates[coordinates.length - 1].y),
+                    ring.getX(0), ring.getY(0), ring.getX(last), ring.getY(last)),
                 "coordinates");
         }
-
-        LinearRing ring = factory.createLinearRing(coordinates);
-
-        // Correct ring orientation
-        // Exterior ring should be counter-clockwise (CCW)
-        // Interior rings (holes) should be clockwise (CW)
-        boolean isCounterClockwise = Orientation.isCCW(coordinates);
-
-        if (isExterior && !isCounterClockwise) {
-            // Exterior ring should be CCW, reverse if CW
-            coordinates = ring.reverse().getCoordinates();
-            ring = factory.createLinearRing(coordinates);
-        } else if (!isExterior && isCounterClockwise) {
-            // Interior ring should be CW, reverse if CCW
-            coordinates = ring.reverse().getCoordinates();
-            ring = factory.createLinearRing(coordinates);
-        }
-
         return ring;
     }
 
-    private void validateCoordinate(double longitude, double latitude) throws IOException {
-        if (coordinateValidationEnabled) {
-            // WGS84 range validation
-            if (longitude < -180 || longitude > 180) {
-                throw InvalidCoordinateException.forLongitude(longitude);
-            }
-            if (latitude < -90 || latitude > 90) {
-                throw InvalidCoordinateException.forLatitude(latitude);
-            }
-        } else {
-            // Only validate that coordinates are finite (not NaN or Infinity)
-            if (!Double.isFinite(longitude)) {
-                throw new InvalidCoordinateException("longitude", longitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
-            }
-            if (!Double.isFinite(latitude)) {
-                throw new InvalidCoordinateException("latitude", latitude, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
-            }
+    private static LinearRing createLinearRing(CoordinateBuffer coordinates, boolean isExterior,
+            GeometryFactory factory) {
+        // Correct ring orientation in place before the ring is built
+        // Exterior ring should be counter-clockwise (CCW)
+        // Interior rings (holes) should be clockwise (CW)
+        if (coordinates.isCCW() != isExterior) {
+            coordinates.reverse();
         }
+        return factory.createLinearRing(coordinates.toSequence());
     }
 }
@@ -3,13 +3,13 @@
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Polygon;
 
 import java.io.IOException;
 
 /**
  * Jackson serializer for JTS Polygon to GeoJSON format.
+ * Reads ring positions directly from the coordinate sequences without copying.
  * 
  * <p>Output format:</p>
  * <pre>{@code
@@ -30,6 +30,24 @@
  * }</pre>
  */
 public class PolygonSerializer extends JsonSerializer<Polygon> {
+
+    private final CoordinateWriter coordinateWriter;
+
+    /**
+     * Default constructor writing full double precision.
+     */
+    public PolygonSerializer() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Constructor with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public PolygonSerializer(int precision) {
+        this.coordinateWriter = CoordinateWriter.of(precision);
+    }
     
     @Override
     public void serialize(Polygon polygon, JsonGenerator gen, SerializerProvider provider) 
@@ -38,6 +56,11 @@ public void serialize(Polygon polygon, JsonGenerator gen, SerializerProvider pro
             gen.writeNull();
             return;
         }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get compact SRID-prefixed WKB
+            BinaryGeometryFormat.write(gen, polygon);
+            return;
+        }
         
         gen.writeStartObject();
         gen.writeStringField("type", "Polygon");
@@ -46,25 +69,14 @@ public void serialize(Polygon polygon, JsonGenerator gen, SerializerProvider pro
         gen.writeArrayFieldStart("coordinates");
         
         // Write exterior ring
-        writeCoordinateArray(gen, polygon.getExteriorRing().getCoordinates());
+        coordinateWriter.writeSequence(gen, polygon.getExteriorRing().getCoordinateSequence());
         
         // Write interior rings (holes)
         for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
-            writeCoordinateArray(gen, polygon.getInteriorRingN(i).getCoordinates());
+            coordinateWriter.writeSequence(gen, polygon.getInteriorRingN(i).getCoordinateSequence());
         }
         
         gen.writeEndArray();
         gen.writeEndObject();
     }
-    
-    private void writeCoordinateArray(JsonGenerator gen, Coordinate[] coordinates) throws IOException {
-        gen.writeStartArray();
-        for (Coordinate coordinate : coordinates) {
-            gen.writeStartArray();
-            gen.writeNumber(coordinate.x);  // longitude
-            gen.writeNumber(coordinate.y);  // latitude
-            gen.writeEndArray();
-        }
-        gen.writeEndArray();
-    }
 }
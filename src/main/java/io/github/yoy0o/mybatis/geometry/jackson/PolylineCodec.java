@@ -0,0 +1,123 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import org.locationtech.jts.geom.CoordinateSequence;
+
+/**
+ * Google encoded polyline algorithm.
+ *
+ * <p>Each position is rounded to {@code precision} decimals and stored as the zig-zag encoded
+ * delta to the previous one, in 5-bit chunks offset into printable ASCII. Latitude precedes
+ * longitude in each pair, as in the reference format.</p>
+ *
+ * @see <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded Polyline Algorithm Format</a>
+ */
+final class PolylineCodec {
+
+    /** Precision of the Google format */
+    static final int DEFAULT_PRECISION = 5;
+
+    /** Maximum supported precision */
+    static final int MAX_PRECISION = 10;
+
+    private PolylineCodec() {
+    }
+
+    /**
+     * Check a precision value.
+     *
+     * @param precision number of decimal places
+     * @return the precision
+     * @throws IllegalArgumentException if out of range
+     */
+    static int checkPrecision(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                "Polyline precision must be between 0 and " + MAX_PRECISION + ", got: " + precision);
+        }
+        return precision;
+    }
+
+    /**
+     * Encode the XY positions of a coordinate sequence.
+     *
+     * @param sequence the sequence
+     * @param precision number of decimal places
+     * @return the encoded polyline
+     */
+    static String encode(CoordinateSequence sequence, int precision) {
+        double factor = Math.pow(10, precision);
+        int size = sequence.size();
+        // Typical tracks need 3-5 chars per ordinate delta
+        StringBuilder out = new StringBuilder(size * 8);
+        long previousLat = 0;
+        long previousLng = 0;
+        for (int i = 0; i < size; i++) {
+            long lat = Math.round(sequence.getY(i) * factor);
+            long lng = Math.round(sequence.getX(i) * factor);
+            writeValue(out, lat - previousLat);
+            writeValue(out, lng - previousLng);
+            previousLat = lat;
+            previousLng = lng;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Decode an encoded polyline into a coordinate buffer of (lon, lat) positions.
+     *
+     * @param encoded the encoded polyline
+     * @param precision number of decimal places
+     * @return the decoded positions
+     * @throws GeoJsonParseException if the string is not a valid encoded polyline
+     */
+    static CoordinateBuffer decode(String encoded, int precision) throws GeoJsonParseException {
+        double factor = Math.pow(10, precision);
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        int[] index = {0};
+        int length = encoded.length();
+        long lat = 0;
+        long lng = 0;
+        while (index[0] < length) {
+            lat += readValue(encoded, index);
+            if (index[0] >= length) {
+                throw new GeoJsonParseException(
+                    "Invalid encoded polyline: missing longitude at offset " + index[0], "coordinates");
+            }
+            lng += readValue(encoded, index);
+            buffer.add(lng / factor, lat / factor);
+        }
+        return buffer;
+    }
+
+    private static void writeValue(StringBuilder out, long value) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            out.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>>= 5;
+        }
+        out.append((char) (v + 63));
+    }
+
+    private static long readValue(String encoded, int[] index) throws GeoJsonParseException {
+        long result = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            int offset = index[0];
+            if (offset >= encoded.length() || shift > 60) {
+                throw new GeoJsonParseException(
+                    "Invalid encoded polyline: truncated value at offset " + offset, "coordinates");
+            }
+            chunk = encoded.charAt(offset) - 63;
+            if (chunk < 0 || chunk > 63) {
+                throw new GeoJsonParseException(
+                    "Invalid encoded polyline: illegal character at offset " + offset, "coordinates");
+            }
+            result |= (long) (chunk & 0x1f) << shift;
+            shift += 5;
+            index[0] = offset + 1;
+        } while (chunk >= 0x20);
+        return (result & 1) != 0 ? ~(result >>> 1) : result >>> 1;
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.WkbParseException;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.HexFormat;
+
+/**
+ * Transcodes WKB bytes straight into GeoJSON on a {@link JsonGenerator}, without building
+ * JTS geometries.
+ *
+ * <p>Accepts the layout geometry columns are read in for both MySQL and PostGIS
+ * (4-byte little-endian SRID prefix + standard WKB), as well as plain WKB, ISO WKB with
+ * Z/M dimensions and PostGIS EWKB. Only X and Y are written, matching the geometry serializers.</p>
+ *
+ * <p>Supported types: Point, LineString, Polygon, MultiPoint, MultiLineString, MultiPolygon
+ * and GeometryCollection. Coordinates are formatted through {@link CoordinateWriter}, so the
+ * configured precision applies.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class WkbGeoJsonWriter {
+
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final int EWKB_Z_FLAG = 0x80000000;
+    private static final int EWKB_M_FLAG = 0x40000000;
+    private static final int EWKB_SRID_FLAG = 0x20000000;
+
+    private final CoordinateWriter coordinateWriter;
+
+    /**
+     * Create a transcoder writing full double precision.
+     */
+    public WkbGeoJsonWriter() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Create a transcoder with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public WkbGeoJsonWriter(int precision) {
+        this.coordinateWriter = CoordinateWriter.of(precision);
+    }
+
+    /**
+     * Write a {@link WkbGeometry} as a GeoJSON geometry object.
+     *
+     * @param gen the JSON generator
+     * @param geometry the WKB holder
+     * @throws IOException on generator failure
+     * @throws WkbParseException if the WKB is malformed
+     */
+    public void write(JsonGenerator gen, WkbGeometry geometry) throws IOException {
+        write(gen, geometry.unsafeBytes(), WkbGeometry.SRID_PREFIX_LENGTH);
+    }
+
+    /**
+     * Write WKB bytes as a GeoJSON geometry object.
+     *
+     * @param gen the JSON generator
+     * @param wkb buffer containing WKB
+     * @param offset offset of the WKB byte order marker (4 for SRID-prefixed database values)
+     * @throws IOException on generator failure
+     * @throws WkbParseException if the WKB is malformed
+     */
+    public void write(JsonGenerator gen, byte[] wkb, int offset) throws IOException {
+        Reader reader = new Reader(wkb, offset);
+        writeGeometry(gen, reader, coordinateWriter.scratchBuffer());
+    }
+
+    private void writeGeometry(JsonGenerator gen, Reader reader, char[] buffer) throws IOException {
+        Header header = reader.readHeader();
+        gen.writeStartObject();
+        switch (header.type()) {
+            case 1 -> {
+                gen.writeStringField("type", "Point");
+                gen.writeFieldName("coordinates");
+                writePoint(gen, reader, header, buffer);
+            }
+            case 2 -> {
+                gen.writeStringField("type", "LineString");
+                gen.writeFieldName("coordinates");
+                writePoints(gen, reader, header, buffer);
+            }
+            case 3 -> {
+                gen.writeStringField("type", "Polygon");
+                gen.writeFieldName("coordinates");
+                writeRings(gen, reader, header, buffer);
+            }
+            case 4 -> {
+                gen.writeStringField("type", "MultiPoint");
+                gen.writeArrayFieldStart("coordinates");
+                for (int i = 0, n = reader.readCount(header); i < n; i++) {
+                    Header part = reader.readHeader();
+                    expectType(reader, part, 1);
+                    writePoint(gen, reader, part, buffer);
+                }
+                gen.writeEndArray();
+            }
+            case 5 -> {
+                gen.writeStringField("type", "MultiLineString");
+                gen.writeArrayFieldStart("coordinates");
+                for (int i = 0, n = reader.readCount(header); i < n; i++) {
+                    Header part = reader.readHeader();
+                    expectType(reader, part, 2);
+                    writePoints(gen, reader, part, buffer);
+                }
+                gen.writeEndArray();
+            }
+            case 6 -> {
+                gen.writeStringField("type", "MultiPolygon");
+                gen.writeArrayFieldStart("coordinates");
+                for (int i = 0, n = reader.readCount(header); i < n; i++) {
+                    Header part = reader.readHeader();
+                    expectType(reader, part, 3);
+                    writeRings(gen, reader, part, buffer);
+                }
+                gen.writeEndArray();
+            }
+            case 7 -> {
+                gen.writeStringField("type", "GeometryCollection");
+                gen.writeArrayFieldStart("geometries");
+                for (int i = 0, n = reader.readCount(header); i < n; i++) {
+                    writeGeometry(gen, reader, buffer);
+                }
+                gen.writeEndArray();
+            }
+            default -> throw reader.error("Unsupported WKB geometry type: " + header.type());
+        }
+        gen.writeEndObject();
+    }
+
+    private void writePoint(JsonGenerator gen, Reader reader, Header header, char[] buffer) throws IOException {
+        double x = reader.readDouble(header.littleEndian());
+        double y = reader.readDouble(header.littleEndian());
+        reader.skipOrdinates(header.extraOrdinates());
+        gen.writeStartArray();
+        // POINT EMPTY is encoded as NaN, NaN
+        if (!Double.isNaN(x) || !Double.isNaN(y)) {
+            coordinateWriter.writeNumber(gen, x, buffer);  // longitude
+            coordinateWriter.writeNumber(gen, y, buffer);  // latitude
+        }
+        gen.writeEndArray();
+    }
+
+    private void writePoints(JsonGenerator gen, Reader reader, Header header, char[] buffer) throws IOException {
+        int count = reader.readCount(header);
+        reader.require(count * (long) header.pointSize());
+        gen.writeStartArray();
+        for (int i = 0; i < count; i++) {
+            gen.writeStartArray();
+            coordinateWriter.writeNumber(gen, reader.readDouble(header.littleEndian()), buffer);  // longitude
+            coordinateWriter.writeNumber(gen, reader.readDouble(header.littleEndian()), buffer);  // latitude
+            reader.skipOrdinates(header.extraOrdinates());
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeRings(JsonGenerator gen, Reader reader, Header header, char[] buffer) throws IOException {
+        int rings = reader.readCount(header);
+        gen.writeStartArray();
+        for (int i = 0; i < rings; i++) {
+            writePoints(gen, reader, header, buffer);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void expectType(Reader reader, Header part, int expected) {
+        if (part.type() != expected) {
+            throw reader.error("Unexpected WKB element type " + part.type() + ", expected " + expected);
+        }
+    }
+
+    /**
+     * Decoded WKB geometry header.
+     */
+    private record Header(int type, boolean littleEndian, int extraOrdinates) {
+
+        int pointSize() {
+            return (2 + extraOrdinates) * Double.BYTES;
+        }
+    }
+
+    /**
+     * Bounds-checked cursor over a WKB byte array.
+     */
+    private static final class Reader {
+
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        Header readHeader() {
+            require(5);
+            byte order = data[pos++];
+            if (order != 0 && order != 1) {
+                throw error("Invalid WKB byte order marker: " + order);
+            }
+            boolean littleEndian = order == 1;
+            int rawType = readInt(littleEndian);
+
+            int extra = 0;
+            if ((rawType & EWKB_Z_FLAG) != 0) {
+                extra++;
+            }
+            if ((rawType & EWKB_M_FLAG) != 0) {
+                extra++;
+            }
+            if ((rawType & EWKB_SRID_FLAG) != 0) {
+                // Embedded EWKB SRID is not part of GeoJSON output
+                readInt(littleEndian);
+            }
+            int type = rawType & 0x0FFFFFFF;
+            // ISO WKB: 1000 = Z, 2000 = M, 3000 = ZM
+            int dimension = type / 1000;
+            type %= 1000;
+            if (dimension == 1 || dimension == 2) {
+                extra++;
+            } else if (dimension == 3) {
+                extra += 2;
+            }
+            return new Header(type, littleEndian, extra);
+        }
+
+        int readCount(Header header) {
+            int count = readInt(header.littleEndian());
+            if (count < 0) {
+                throw error("Negative element count in WKB: " + count);
+            }
+            return count;
+        }
+
+        int readInt(boolean littleEndian) {
+            require(4);
+            int value = (int) (littleEndian ? INT_LE : INT_BE).get(data, pos);
+            pos += 4;
+            return value;
+        }
+
+        double readDouble(boolean littleEndian) {
+            require(8);
+            double value = (double) (littleEndian ? DOUBLE_LE : DOUBLE_BE).get(data, pos);
+            pos += 8;
+            return value;
+        }
+
+        void skipOrdinates(int ordinates) {
+            int bytes = ordinates * Double.BYTES;
+            require(bytes);
+            pos += bytes;
+        }
+
+        void require(long bytes) {
+            if (pos + bytes > data.length) {
+                throw error("Truncated WKB: need " + bytes + " bytes at offset " + pos);
+            }
+        }
+
+        WkbParseException error(String message) {
+            int length = Math.min(data.length, 20);
+            return new WkbParseException(message, HexFormat.of().formatHex(data, 0, length));
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson deserializer for GeoJSON to {@link WkbGeometry}.
+ * Streams coordinates from the parser into packed buffers and encodes them straight into
+ * little-endian WKB, without creating JTS geometries.
+ *
+ * <p>Intended for write APIs that store geometries without inspecting them. The result binds
+ * through {@code WkbGeometryTypeHandler}; it carries SRID 0, so the handler's default SRID is used.
+ * Embedded WKB from binary formats (see {@link BinaryGeometryFormat}) is re-encoded through the
+ * same checks and keeps its SRID.</p>
+ *
+ * <p>Supported types: Point, LineString, Polygon, MultiPoint, MultiLineString and MultiPolygon.
+ * Checks are done inline while encoding:</p>
+ * <ul>
+ *   <li>Coordinate range / finite check, same rules as the JTS deserializers</li>
+ *   <li>LineString must have at least 2 points</li>
+ *   <li>Polygon rings must have at least 4 points and be closed</li>
+ *   <li>Ring orientation is normalized (exterior CCW, holes CW) by writing mis-oriented rings in reverse</li>
+ * </ul>
+ *
+ * <p>Unlike {@link PolygonDeserializer}, no OGC validity check (e.g. self-intersection) is performed.</p>
+ *
+ * <p>Usage in DTO:</p>
+ * <pre>{@code
+ * @JsonDeserialize(using = WkbGeometryDeserializer.class)
+ * private WkbGeometry boundary;
+ * }</pre>
+ */
+public class WkbGeometryDeserializer extends JsonDeserializer<WkbGeometry> {
+
+    private static final int WKB_POINT = 1;
+    private static final int WKB_LINESTRING = 2;
+    private static final int WKB_POLYGON = 3;
+    private static final int WKB_MULTIPOINT = 4;
+    private static final int WKB_MULTILINESTRING = 5;
+    private static final int WKB_MULTIPOLYGON = 6;
+
+    /** Byte order marker (1) + type (4) */
+    private static final int HEADER_LENGTH = 5;
+
+    /** Encoded size of one XY position */
+    private static final int POSITION_LENGTH = 2 * Double.BYTES;
+
+    private final boolean coordinateValidationEnabled;
+
+    /**
+     * Default constructor with coordinate validation enabled (WGS84 range).
+     */
+    public WkbGeometryDeserializer() {
+        this(true);
+    }
+
+    /**
+     * Constructor with configurable coordinate validation.
+     *
+     * @param coordinateValidationEnabled when true, validates WGS84 range;
+     *                                    when false, only validates Double.isFinite()
+     */
+    public WkbGeometryDeserializer(boolean coordinateValidationEnabled) {
+        this.coordinateValidationEnabled = coordinateValidationEnabled;
+    }
+
+    @Override
+    public WkbGeometry deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            // Binary formats: re-encode through the same checks, keeping the embedded SRID
+            WkbGeometry wkb = BinaryGeometryFormat.readWkb(parser);
+            JsonParser geoJson = BinaryGeometryFormat.toGeoJson(parser, wkb);
+            return readMembers(geoJson, geoJson.currentToken(), wkb.getSrid());
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            throw new GeoJsonParseException("Expected a GeoJSON object, got " + token, "type");
+        }
+        // SRID 0: resolved to the default SRID when bound
+        return readMembers(parser, token, 0);
+    }
+
+    private WkbGeometry readMembers(JsonParser parser, JsonToken token, int srid) throws IOException {
+        int type = 0;
+        Object coordinates = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("type".equals(field)) {
+                String name = value.isScalarValue() ? parser.getValueAsString() : null;
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                }
+                type = typeCode(name);
+            } else if ("coordinates".equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
+                }
+                coordinates = readArray(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (type == 0) {
+            throw new GeoJsonParseException("Missing 'type' field", "type");
+        }
+        if (coordinates == null) {
+            throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
+        }
+        return encode(type, coordinates, srid);
+    }
+
+    private static int typeCode(String name) throws GeoJsonParseException {
+        if (name != null) {
+            switch (name) {
+                case "Point":
+                    return WKB_POINT;
+                case "LineString":
+                    return WKB_LINESTRING;
+                case "Polygon":
+                    return WKB_POLYGON;
+                case "MultiPoint":
+                    return WKB_MULTIPOINT;
+                case "MultiLineString":
+                    return WKB_MULTILINESTRING;
+                case "MultiPolygon":
+                    return WKB_MULTIPOLYGON;
+                default:
+                    break;
+            }
+        }
+        throw new GeoJsonParseException("Unsupported GeoJSON geometry type: " + name, "type");
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Read a nested coordinate array. The parser is positioned on its {@code START_ARRAY}
+     * and is left on the matching {@code END_ARRAY}.
+     *
+     * @return a {@code double[2]} position, a {@link CoordinateBuffer} of positions,
+     *         or a {@code List} of nested arrays (empty for {@code []})
+     */
+    private Object readArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return List.of();
+        }
+        if (token != null && token.isScalarValue()) {
+            return readPosition(parser, token);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new GeoJsonParseException("Invalid coordinate array", "coordinates");
+        }
+
+        Object first = readArray(parser);
+        if (first instanceof double[] position) {
+            return readPositions(parser, position);
+        }
+        List<Object> children = new ArrayList<>();
+        children.add(first);
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new GeoJsonParseException("Invalid coordinate array", "coordinates");
+            }
+            children.add(readArray(parser));
+        }
+        return children;
+    }
+
+    /**
+     * Read a position whose first element is the current token.
+     */
+    private double[] readPosition(JsonParser parser, JsonToken first) throws IOException {
+        double[] position = new double[2];
+        int count = 0;
+        for (JsonToken token = first; token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new GeoJsonParseException("Unexpected end of input in coordinates", "coordinates");
+            }
+            double value = token.isScalarValue() ? parser.getValueAsDouble() : 0.0;
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            }
+            if (count < 2) {
+                position[count] = value;
+            }
+            count++;
+        }
+        if (count < 2) {
+            throw new GeoJsonParseException("Coordinates array must have at least 2 elements", "coordinates");
+        }
+        AbstractGeoJsonDeserializer.validateCoordinate(coordinateValidationEnabled, position[0], position[1]);
+        return position;
+    }
+
+    /**
+     * Read the remaining positions of a position array whose first position has been read.
+     */
+    private CoordinateBuffer readPositions(JsonParser parser, double[] first) throws IOException {
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        buffer.add(first[0], first[1]);
+        double[] position = new double[2];
+        int index = 1;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY
+                    || AbstractGeoJsonDeserializer.readPosition(parser, position) < 2) {
+                throw new GeoJsonParseException("Invalid coordinate pair at index " + index, "coordinates");
+            }
+            AbstractGeoJsonDeserializer.validateCoordinate(coordinateValidationEnabled, position[0], position[1]);
+            buffer.add(position[0], position[1]);
+            index++;
+        }
+        return buffer;
+    }
+
+    // ==================== Encoding ====================
+
+    private WkbGeometry encode(int type, Object coordinates, int srid) throws IOException {
+        int length = WkbGeometry.SRID_PREFIX_LENGTH + HEADER_LENGTH + bodyLength(type, coordinates);
+        ByteBuffer out = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(srid);
+        writeGeometry(out, type, coordinates);
+        return WkbGeometry.wrap(out.array());
+    }
+
+    /**
+     * Compute the encoded length of a geometry body (after its header), validating
+     * the coordinate structure against the geometry type. This is the only validating pass;
+     * {@link #writeGeometry} relies on it and does not repeat the checks.
+     */
+    private static int bodyLength(int type, Object coordinates) throws IOException {
+        switch (type) {
+            case WKB_POINT:
+                asPosition(coordinates);
+                return POSITION_LENGTH;
+            case WKB_LINESTRING:
+                return 4 + asLine(coordinates).size() * POSITION_LENGTH;
+            case WKB_POLYGON: {
+                int length = 4;
+                for (CoordinateBuffer ring : asRings(coordinates)) {
+                    length += 4 + ring.size() * POSITION_LENGTH;
+                }
+                return length;
+            }
+            case WKB_MULTIPOINT:
+                return 4 + asPositions(coordinates).size() * (HEADER_LENGTH + POSITION_LENGTH);
+            default: {
+                int length = 4;
+                for (Object part : asList(coordinates)) {
+                    length += HEADER_LENGTH + bodyLength(type - 3, part);
+                }
+                return length;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeGeometry(ByteBuffer out, int type, Object coordinates) {
+        out.put((byte) 1);
+        out.putInt(type);
+        switch (type) {
+            case WKB_POINT -> {
+                double[] position = (double[]) coordinates;
+                out.putDouble(position[0]).putDouble(position[1]);
+            }
+            case WKB_LINESTRING -> writePositions(out, (CoordinateBuffer) coordinates, false);
+            case WKB_POLYGON -> {
+                List<CoordinateBuffer> rings = (List<CoordinateBuffer>) coordinates;
+                out.putInt(rings.size());
+                for (int i = 0; i < rings.size(); i++) {
+                    CoordinateBuffer ring = rings.get(i);
+                    // Exterior ring should be CCW, holes CW; mis-oriented rings are written backwards
+                    boolean exterior = i == 0;
+                    writePositions(out, ring, ring.isCCW() != exterior);
+                }
+            }
+            case WKB_MULTIPOINT -> {
+                // An empty MultiPoint is read as an empty list
+                if (!(coordinates instanceof CoordinateBuffer points)) {
+                    out.putInt(0);
+                    return;
+                }
+                out.putInt(points.size());
+                for (int i = 0; i < points.size(); i++) {
+                    out.put((byte) 1);
+                    out.putInt(WKB_POINT);
+                    out.putDouble(points.getX(i)).putDouble(points.getY(i));
+                }
+            }
+            default -> {
+                List<Object> parts = (List<Object>) coordinates;
+                out.putInt(parts.size());
+                for (Object part : parts) {
+                    writeGeometry(out, type - 3, part);
+                }
+            }
+        }
+    }
+
+    private static void writePositions(ByteBuffer out, CoordinateBuffer positions, boolean reverse) {
+        int size = positions.size();
+        out.putInt(size);
+        for (int i = 0; i < size; i++) {
+            int index = reverse ? size - 1 - i : i;
+            out.putDouble(positions.getX(index)).putDouble(positions.getY(index));
+        }
+    }
+
+    // ==================== Structure checks ====================
+
+    private static double[] asPosition(Object coordinates) throws GeoJsonParseException {
+        if (coordinates instanceof double[] position) {
+            return position;
+        }
+        throw new GeoJsonParseException("Coordinates array must have at least 2 elements", "coordinates");
+    }
+
+    private static CoordinateBuffer asPositions(Object coordinates) throws GeoJsonParseException {
+        if (coordinates instanceof CoordinateBuffer positions) {
+            return positions;
+        }
+        if (coordinates instanceof List<?> list && list.isEmpty()) {
+            return new CoordinateBuffer();
+        }
+        throw new GeoJsonParseException("Invalid coordinate array: expected an array of positions", "coordinates");
+    }
+
+    private static CoordinateBuffer asLine(Object coordinates) throws GeoJsonParseException {
+        CoordinateBuffer line = asPositions(coordinates);
+        if (line.size() < 2) {
+            throw new GeoJsonParseException("LineString must have at least 2 points", "coordinates");
+        }
+        return line;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CoordinateBuffer> asRings(Object coordinates) throws GeoJsonParseException {
+        List<Object> list = asList(coordinates);
+        if (list.isEmpty()) {
+            throw new GeoJsonParseException("Missing or invalid 'coordinates' field", "coordinates");
+        }
+        for (Object element : list) {
+            if (!(element instanceof CoordinateBuffer ring) || ring.size() < 4) {
+                throw new GeoJsonParseException(
+                    "Invalid coordinate array: a polygon ring must have at least 4 points",
+                    "coordinates");
+            }
+            // Validate ring closure
+            int last = ring.size() - 1;
+            if (ring.getX(0) != ring.getX(last) || ring.getY(0) != ring.getY(last)) {
+                throw new GeoJsonParseException(
+                    String.format("Invalid ring: first point (%f,%f) != last point (%f,%f)",
+                        ring.getX(0), ring.getY(0), ring.getX(last), ring.getY(last)),
+                    "coordinates");
+            }
+        }
+        return (List<CoordinateBuffer>) (List<?>) list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object coordinates) throws GeoJsonParseException {
+        if (coordinates instanceof List<?> list) {
+            return (List<Object>) list;
+        }
+        throw new GeoJsonParseException("Invalid coordinate array: unexpected nesting depth", "coordinates");
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer for {@link WkbGeometry} to GeoJSON format.
+ * Transcodes the WKB bytes directly via {@link WkbGeoJsonWriter}, without building JTS geometries.
+ *
+ * <p>Usage in DTO:</p>
+ * <pre>{@code
+ * @JsonSerialize(using = WkbGeometrySerializer.class)
+ * private WkbGeometry boundary;
+ * }</pre>
+ */
+public class WkbGeometrySerializer extends JsonSerializer<WkbGeometry> {
+
+    private final WkbGeoJsonWriter writer;
+
+    /**
+     * Default constructor writing full double precision.
+     */
+    public WkbGeometrySerializer() {
+        this(CoordinateWriter.FULL_PRECISION);
+    }
+
+    /**
+     * Constructor with fixed coordinate precision.
+     *
+     * @param precision number of decimal places (0-12), or a negative value for full precision
+     */
+    public WkbGeometrySerializer(int precision) {
+        this.writer = new WkbGeoJsonWriter(precision);
+    }
+
+    @Override
+    public void serialize(WkbGeometry geometry, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (geometry == null) {
+            gen.writeNull();
+            return;
+        }
+        if (BinaryGeometryFormat.isBinary(gen)) {
+            // Binary formats (Smile/CBOR/Ion) get the stored bytes as-is
+            gen.writeBinary(geometry.unsafeBytes());
+            return;
+        }
+        writer.write(gen, geometry);
+    }
+}
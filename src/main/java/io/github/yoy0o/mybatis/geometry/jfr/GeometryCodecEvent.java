@@ -0,0 +1,64 @@
+package io.github.yoy0o.mybatis.geometry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * JFR event for a geometry encoded or decoded by a {@code WkbCodec}.
+ *
+ * <p>Disabled by default; enable with {@code mybatis.geometry.Codec#enabled=true}.</p>
+ */
+@Name("mybatis.geometry.Codec")
+@Label("Geometry Codec")
+@Description("Geometry encoded to or decoded from database WKB by a codec")
+@Category({"MyBatis", "Geometry"})
+@Enabled(false)
+@StackTrace(false)
+public final class GeometryCodecEvent extends Event {
+
+    @Label("Codec")
+    String codec;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Geometry Type")
+    String geometryType;
+
+    @Label("SRID")
+    int srid;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Vertices")
+    int vertices;
+
+    /**
+     * Commit the event if the recording wants it.
+     *
+     * @param codec the codec name
+     * @param operation {@code encode} or {@code decode}
+     * @param geometry the geometry encoded or decoded
+     * @param bytes size of the WKB value
+     */
+    public void end(String codec, String operation, Geometry geometry, long bytes) {
+        if (shouldCommit()) {
+            this.codec = codec;
+            this.operation = operation;
+            this.geometryType = geometry.getGeometryType();
+            this.srid = geometry.getSRID();
+            this.vertices = geometry.getNumPoints();
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.yoy0o.mybatis.geometry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * JFR event for a geometry parameter encoded or a column value decoded by a type handler.
+ *
+ * <p>Disabled by default. Enable it in a recording, e.g.
+ * {@code jfr configure mybatis.geometry.TypeHandler#enabled=true mybatis.geometry.TypeHandler#threshold=1ms}
+ * or with the same settings in a custom {@code .jfc} file. When disabled, {@link #begin()} and
+ * {@link #shouldCommit()} are no-ops the JIT removes.</p>
+ */
+@Name("mybatis.geometry.TypeHandler")
+@Label("Geometry Type Handler")
+@Description("Geometry parameter encoded or column value decoded by a MyBatis type handler")
+@Category({"MyBatis", "Geometry"})
+@Enabled(false)
+@StackTrace(false)
+public final class GeometryHandlerEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Geometry Type")
+    String geometryType;
+
+    @Label("SRID")
+    int srid;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Vertices")
+    int vertices;
+
+    @Label("Cached")
+    @Description("Encoded value served from the encoded parameter cache")
+    boolean cached;
+
+    /**
+     * Commit the event if the recording wants it.
+     *
+     * @param operation {@code encode} or {@code decode}
+     * @param geometry the geometry encoded or decoded, may be null
+     * @param bytes size of the WKB value
+     * @param cached whether the encoded value came from the parameter cache
+     */
+    public void end(String operation, Geometry geometry, long bytes, boolean cached) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            if (geometry != null) {
+                this.geometryType = geometry.getGeometryType();
+                this.srid = geometry.getSRID();
+                this.vertices = geometry.getNumPoints();
+            }
+            this.bytes = bytes;
+            this.cached = cached;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.yoy0o.mybatis.geometry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a SELECT statement processed by the geometry SQL rewriter.
+ *
+ * <p>Disabled by default; enable with {@code mybatis.geometry.SqlRewrite#enabled=true}.</p>
+ */
+@Name("mybatis.geometry.SqlRewrite")
+@Label("Geometry SQL Rewrite")
+@Description("SELECT statement whose geometry columns were resolved and wrapped")
+@Category({"MyBatis", "Geometry"})
+@Enabled(false)
+@StackTrace(false)
+public final class GeometrySqlRewriteEvent extends Event {
+
+    @Label("Statement Id")
+    String statementId;
+
+    @Label("Rewritten")
+    @Description("Whether the SQL was changed")
+    boolean rewritten;
+
+    @Label("Metadata Cached")
+    @Description("Entity geometry field metadata was already resolved")
+    boolean metadataCached;
+
+    @Label("SQL Length")
+    int sqlLength;
+
+    /**
+     * Commit the event if the recording wants it.
+     *
+     * @param statementId the mapped statement id
+     * @param rewritten whether the SQL was changed
+     * @param metadataCached whether the entity field metadata was already cached
+     * @param sqlLength length of the original SQL
+     */
+    public void end(String statementId, boolean rewritten, boolean metadataCached, int sqlLength) {
+        if (shouldCommit()) {
+            this.statementId = statementId;
+            this.rewritten = rewritten;
+            this.metadataCached = metadataCached;
+            this.sqlLength = sqlLength;
+            commit();
+        }
+    }
+}
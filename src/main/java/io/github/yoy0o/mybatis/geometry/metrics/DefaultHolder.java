@@ -0,0 +1,12 @@
+package io.github.yoy0o.mybatis.geometry.metrics;
+
+/**
+ * Holds the default {@link GeometryMetrics}; interfaces cannot declare mutable static fields.
+ */
+final class DefaultHolder {
+
+    static volatile GeometryMetrics metrics = GeometryMetrics.NOOP;
+
+    private DefaultHolder() {
+    }
+}
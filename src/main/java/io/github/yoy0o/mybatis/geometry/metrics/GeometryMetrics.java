@@ -0,0 +1,87 @@
+package io.github.yoy0o.mybatis.geometry.metrics;
+
+/**
+ * Recorder for the cost of geometry handling: type handler encode/decode, validation and SQL rewriting.
+ *
+ * <p>Instrumented code reads {@link #getDefault()} and checks {@link #isEnabled()} before taking any
+ * timestamps, so with the default {@link #NOOP} recorder the overhead is one volatile read and a branch.
+ * {@link MicrometerGeometryMetrics} is registered by the auto-configuration when a Micrometer
+ * {@code MeterRegistry} bean is present.</p>
+ *
+ * <p>Type names are the JTS geometry type names ({@code Point}, {@code Polygon}, ...).
+ * Implementations must be thread-safe.</p>
+ */
+public interface GeometryMetrics {
+
+    /** Recorder that records nothing */
+    GeometryMetrics NOOP = new GeometryMetrics() {
+    };
+
+    /**
+     * Get the recorder used by type handlers and interceptors.
+     *
+     * @return the recorder, {@link #NOOP} by default
+     */
+    static GeometryMetrics getDefault() {
+        return DefaultHolder.metrics;
+    }
+
+    /**
+     * Set the recorder used by type handlers and interceptors.
+     *
+     * @param metrics the recorder, or null to disable recording
+     */
+    static void setDefault(GeometryMetrics metrics) {
+        DefaultHolder.metrics = metrics != null ? metrics : NOOP;
+    }
+
+    /**
+     * Whether this recorder records anything; instrumented code skips timing when false.
+     *
+     * @return true if measurements are recorded
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Record a geometry parameter encoded by a type handler.
+     *
+     * @param type the geometry type name
+     * @param nanos time spent in {@code setNonNullParameter}, including validation
+     * @param bytes size of the encoded WKB value
+     * @param vertices number of coordinates
+     * @param cached whether the value came from the encoded parameter cache
+     */
+    default void recordEncode(String type, long nanos, int bytes, int vertices, boolean cached) {
+    }
+
+    /**
+     * Record a geometry column value decoded by a type handler.
+     *
+     * @param type the geometry type name
+     * @param nanos time spent parsing the WKB value, excluding the JDBC column read
+     * @param bytes size of the WKB value
+     * @param vertices number of coordinates
+     */
+    default void recordDecode(String type, long nanos, int bytes, int vertices) {
+    }
+
+    /**
+     * Record a geometry validation before encoding.
+     *
+     * @param type the geometry type name
+     * @param nanos time spent validating
+     */
+    default void recordValidation(String type, long nanos) {
+    }
+
+    /**
+     * Record a SELECT statement processed by the geometry SQL rewriter.
+     *
+     * @param nanos time spent resolving fields and rewriting
+     * @param rewritten whether the SQL was changed
+     */
+    default void recordRewrite(long nanos, boolean rewritten) {
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.yoy0o.mybatis.geometry.metrics;
+
+import io.github.yoy0o.mybatis.geometry.handler.EncodedParameterCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GeometryMetrics} backed by a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Meters (all tagged with {@code type}, the geometry type, unless noted):</p>
+ * <ul>
+ *   <li>{@code geometry.handler.encode} - timer of {@code setNonNullParameter}; tag {@code cached}</li>
+ *   <li>{@code geometry.handler.decode} - timer of WKB parsing in {@code getNullableResult}, excluding
+ *       the JDBC column read</li>
+ *   <li>{@code geometry.handler.bytes} - summary of WKB sizes; tag {@code direction} (encode, decode)</li>
+ *   <li>{@code geometry.handler.vertices} - summary of coordinate counts; tag {@code direction}</li>
+ *   <li>{@code geometry.validation} - timer of geometry validation before encoding</li>
+ *   <li>{@code geometry.sql.rewrite} - timer of SELECT rewriting; tag {@code rewritten} (no type)</li>
+ *   <li>{@code geometry.parameter.cache.*} - hits, misses, evictions, size, bytes and hit ratio of an
+ *       {@link EncodedParameterCache}, see {@link #bindCache}</li>
+ * </ul>
+ *
+ * <p>Meters are created lazily per tag combination and cached, so the steady-state cost of a
+ * recording is a map lookup plus the meter update.</p>
+ */
+public class MicrometerGeometryMetrics implements GeometryMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, TypeMeters> typeMeters = new ConcurrentHashMap<>();
+    private final Timer rewriteChanged;
+    private final Timer rewriteUnchanged;
+
+    /**
+     * Create a recorder registering its meters in a registry.
+     *
+     * @param registry the meter registry
+     */
+    public MicrometerGeometryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.rewriteChanged = rewriteTimer(true);
+        this.rewriteUnchanged = rewriteTimer(false);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordEncode(String type, long nanos, int bytes, int vertices, boolean cached) {
+        TypeMeters meters = meters(type);
+        (cached ? meters.encodeCached : meters.encode).record(nanos, TimeUnit.NANOSECONDS);
+        meters.encodedBytes.record(bytes);
+        meters.encodedVertices.record(vertices);
+    }
+
+    @Override
+    public void recordDecode(String type, long nanos, int bytes, int vertices) {
+        TypeMeters meters = meters(type);
+        meters.decode.record(nanos, TimeUnit.NANOSECONDS);
+        meters.decodedBytes.record(bytes);
+        meters.decodedVertices.record(vertices);
+    }
+
+    @Override
+    public void recordValidation(String type, long nanos) {
+        meters(type).validation.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRewrite(long nanos, boolean rewritten) {
+        (rewritten ? rewriteChanged : rewriteUnchanged).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Register meters reading the statistics of an encoded parameter cache.
+     *
+     * @param cache the cache
+     */
+    public void bindCache(EncodedParameterCache cache) {
+        FunctionCounter.builder("geometry.parameter.cache.hits", cache, c -> c.getStats().hits())
+            .description("Encoded geometry parameters served from the cache")
+            .register(registry);
+        FunctionCounter.builder("geometry.parameter.cache.misses", cache, c -> c.getStats().misses())
+            .description("Encoded geometry parameter cache lookups that missed")
+            .register(registry);
+        FunctionCounter.builder("geometry.parameter.cache.evictions", cache, c -> c.getStats().evictions())
+            .description("Entries evicted from the encoded geometry parameter cache")
+            .register(registry);
+        Gauge.builder("geometry.parameter.cache.size", cache, c -> c.getStats().size())
+            .description("Entries in the encoded geometry parameter cache")
+            .register(registry);
+        Gauge.builder("geometry.parameter.cache.retained", cache, c -> c.getStats().retainedBytes())
+            .description("Estimated retained size of the encoded geometry parameter cache")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("geometry.parameter.cache.hit.ratio", cache, c -> c.getStats().hitRatio())
+            .description("Hit ratio of the encoded geometry parameter cache")
+            .register(registry);
+    }
+
+    private TypeMeters meters(String type) {
+        TypeMeters meters = typeMeters.get(type);
+        return meters != null ? meters : typeMeters.computeIfAbsent(type, t -> new TypeMeters(registry, t));
+    }
+
+    private Timer rewriteTimer(boolean rewritten) {
+        return Timer.builder("geometry.sql.rewrite")
+            .description("Time spent rewriting geometry columns of SELECT statements")
+            .tag("rewritten", Boolean.toString(rewritten))
+            .register(registry);
+    }
+
+    /**
+     * Meters of one geometry type.
+     */
+    private static final class TypeMeters {
+
+        final Timer encode;
+        final Timer encodeCached;
+        final Timer decode;
+        final Timer validation;
+        final DistributionSummary encodedBytes;
+        final DistributionSummary decodedBytes;
+        final DistributionSummary encodedVertices;
+        final DistributionSummary decodedVertices;
+
+        TypeMeters(MeterRegistry registry, String type) {
+            encode = encodeTimer(registry, type, false);
+            encodeCached = encodeTimer(registry, type, true);
+            decode = Timer.builder("geometry.handler.decode")
+                .description("Time spent parsing the WKB of geometry column values")
+                .tag("type", type)
+                .register(registry);
+            validation = Timer.builder("geometry.validation")
+                .description("Time spent validating geometry parameters")
+                .tag("type", type)
+                .register(registry);
+            encodedBytes = summary(registry, "geometry.handler.bytes", "bytes", type, "encode");
+            decodedBytes = summary(registry, "geometry.handler.bytes", "bytes", type, "decode");
+            encodedVertices = summary(registry, "geometry.handler.vertices", null, type, "encode");
+            decodedVertices = summary(registry, "geometry.handler.vertices", null, type, "decode");
+        }
+
+        private static Timer encodeTimer(MeterRegistry registry, String type, boolean cached) {
+            return Timer.builder("geometry.handler.encode")
+                .description("Time spent validating, encoding and binding geometry parameters")
+                .tags("type", type, "cached", Boolean.toString(cached))
+                .register(registry);
+        }
+
+        private static DistributionSummary summary(MeterRegistry registry, String name, String unit,
+                                                   String type, String direction) {
+            return DistributionSummary.builder(name)
+                .baseUnit(unit)
+                .tags("type", type, "direction", direction)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.yoy0o.mybatis.geometry.query;
+
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.handler.LineStringTypeHandler;
+import io.github.yoy0o.mybatis.geometry.handler.PointTypeHandler;
+import io.github.yoy0o.mybatis.geometry.handler.PolygonTypeHandler;
+import io.github.yoy0o.mybatis.geometry.handler.WkbGeometryTypeHandler;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * A geometry query parameter together with the TypeHandler it is bound with.
+ *
+ * <p>Point, LineString and Polygon are bound by their own handlers (validation, SRID default and
+ * the encoded-parameter cache apply); other types are bound as {@link WkbGeometry}.</p>
+ *
+ * @param value the value to bind
+ * @param typeHandler the TypeHandler class
+ */
+record GeometryParameter(Object value, Class<?> typeHandler) {
+
+    static GeometryParameter of(Geometry geometry) {
+        if (geometry instanceof Point) {
+            return new GeometryParameter(geometry, PointTypeHandler.class);
+        }
+        if (geometry instanceof Polygon) {
+            return new GeometryParameter(geometry, PolygonTypeHandler.class);
+        }
+        if (geometry instanceof LineString) {
+            return new GeometryParameter(geometry, LineStringTypeHandler.class);
+        }
+        return new GeometryParameter(WkbGeometry.fromGeometry(geometry), WkbGeometryTypeHandler.class);
+    }
+
+    /**
+     * Render a MyBatis-Plus {@code apply()} placeholder for this parameter.
+     *
+     * @param index the argument index
+     * @return e.g. {@code {0,typeHandler=io.github...PolygonTypeHandler}}
+     */
+    String placeholder(int index) {
+        return "{" + index + ",typeHandler=" + typeHandler.getName() + "}";
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.yoy0o.mybatis.geometry.query;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.util.EnvelopeUtil;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.operation.distance.DistanceOp;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * K-nearest-neighbour search over a geometry column.
+ *
+ * <p>If the strategy orders by distance through the spatial index (PostGIS {@code <->} on a
+ * non-geographic SRID), this is a single {@code ORDER BY col <-> ? LIMIT k} query. Otherwise
+ * (MySQL, or PostGIS on SRID 4326 where rows are ranked by {@code geography} distance in meters)
+ * it searches an expanding bounding box that the spatial index can serve and ranks candidates
+ * with the exact distance:</p>
+ * <ol>
+ *   <li>Query the {@code k} nearest rows whose bounding box intersects the origin expanded by the radius.</li>
+ *   <li>Fewer than {@code k} rows: grow the radius and repeat.</li>
+ *   <li>The k-th row is farther than the radius: rows outside the box might be closer, so repeat once
+ *       with the radius set to the k-th distance.</li>
+ *   <li>Otherwise the result is exact.</li>
+ * </ol>
+ * <p>After {@value #MAX_EXPANSIONS} expansions (or once the box covers the whole world for SRID 4326)
+ * the prefilter is dropped, so sparse tables still return exact results.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * NearestNeighborSearch<Poi> search = new NearestNeighborSearch<>(poiMapper, Poi::getLocation, 500);
+ * List<Poi> nearest = search.find(here, 10, w -> w.eq(Poi::getCategory, "cafe"));
+ * }</pre>
+ *
+ * <p>Radius and distances are in meters for SRID 4326 and in SRID units otherwise. Instances are
+ * thread-safe if the mapper is.</p>
+ *
+ * @param <T> the entity type
+ */
+public class NearestNeighborSearch<T> {
+
+    /** Maximum number of bounded searches before falling back to an unbounded query */
+    public static final int MAX_EXPANSIONS = 8;
+
+    /** Radius growth factor when too few rows were found */
+    private static final double GROWTH_FACTOR = 4;
+
+    /** Slack for the spherical distance estimate against the database's ellipsoidal distance */
+    private static final double GEOGRAPHIC_TOLERANCE = 0.01;
+
+    private static final double EARTH_RADIUS = EnvelopeUtil.METERS_PER_DEGREE * 180 / Math.PI;
+
+    private final BaseMapper<T> mapper;
+    private final SFunction<T, ?> column;
+    private final double initialRadius;
+    private final GeometryHandlerStrategy strategy;
+
+    /**
+     * Create a search using the default strategy.
+     *
+     * @param mapper the entity mapper
+     * @param column the geometry column (JTS geometry or {@link WkbGeometry} property)
+     * @param initialRadius the first search radius for bounding-box searches
+     */
+    public NearestNeighborSearch(BaseMapper<T> mapper, SFunction<T, ?> column, double initialRadius) {
+        this(mapper, column, initialRadius, null);
+    }
+
+    /**
+     * Create a search with a specific strategy.
+     *
+     * @param mapper the entity mapper
+     * @param column the geometry column (JTS geometry or {@link WkbGeometry} property)
+     * @param initialRadius the first search radius for bounding-box searches
+     * @param strategy the database-specific geometry handler strategy, or null for the default
+     */
+    public NearestNeighborSearch(BaseMapper<T> mapper, SFunction<T, ?> column, double initialRadius,
+                                 GeometryHandlerStrategy strategy) {
+        if (!(initialRadius > 0)) {
+            throw new IllegalArgumentException("Initial radius must be positive, got: " + initialRadius);
+        }
+        this.mapper = mapper;
+        this.column = column;
+        this.initialRadius = initialRadius;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Find the {@code k} rows nearest to {@code origin}.
+     *
+     * @param origin the query point
+     * @param k the maximum number of rows
+     * @return up to {@code k} rows, nearest first
+     */
+    public List<T> find(Point origin, int k) {
+        return find(origin, k, null);
+    }
+
+    /**
+     * Find the {@code k} rows nearest to {@code origin} that match additional conditions.
+     *
+     * @param origin the query point
+     * @param k the maximum number of rows
+     * @param filter adds conditions to each query, or null; must not add ORDER BY or {@code last()}
+     * @return up to {@code k} rows, nearest first
+     */
+    public List<T> find(Point origin, int k, Consumer<SpatialLambdaQueryWrapper<T>> filter) {
+        if (origin == null) {
+            throw new IllegalArgumentException("Origin cannot be null");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive, got: " + k);
+        }
+
+        SpatialLambdaQueryWrapper<T> first = newWrapper(filter);
+        boolean geographic = EnvelopeUtil.isGeographic(origin.getSRID());
+        if (!geographic && first.getStrategy().supportsIndexOrderedDistance()) {
+            return mapper.selectList(first.nearest(column, origin, k));
+        }
+
+        double tolerance = geographic ? GEOGRAPHIC_TOLERANCE : 0;
+        double radius = initialRadius;
+        for (int round = 0; ; round++) {
+            Geometry box = EnvelopeUtil.expandToGeometry(origin, radius, geographic);
+            boolean bounded = round < MAX_EXPANSIONS && !(geographic && coversWorld(box.getEnvelopeInternal()));
+
+            SpatialLambdaQueryWrapper<T> wrapper = round == 0 ? first : newWrapper(filter);
+            if (bounded) {
+                wrapper.bboxIntersects(column, box);
+            }
+            List<T> rows = mapper.selectList(wrapper.nearest(column, origin, k));
+            if (!bounded) {
+                return rows;
+            }
+            if (rows.size() < k) {
+                radius *= GROWTH_FACTOR;
+                continue;
+            }
+            double kth = distance(origin, geometryOf(rows.get(k - 1)), geographic) * (1 + tolerance);
+            if (kth <= radius) {
+                return rows;
+            }
+            // Every row closer than the current k-th lies within kth; one more round is exact
+            radius = kth;
+        }
+    }
+
+    private SpatialLambdaQueryWrapper<T> newWrapper(Consumer<SpatialLambdaQueryWrapper<T>> filter) {
+        SpatialLambdaQueryWrapper<T> wrapper = new SpatialLambdaQueryWrapper<>(strategy);
+        // NULL distances would sort first on MySQL
+        wrapper.isNotNull(column);
+        if (filter != null) {
+            filter.accept(wrapper);
+        }
+        return wrapper;
+    }
+
+    private Geometry geometryOf(T row) {
+        Object value = column.apply(row);
+        if (value instanceof Geometry geometry) {
+            return geometry;
+        }
+        if (value instanceof WkbGeometry wkb) {
+            return wkb.toGeometry();
+        }
+        throw new IllegalStateException("Column value is not a geometry: "
+            + (value == null ? "null" : value.getClass().getName()));
+    }
+
+    private static boolean coversWorld(Envelope envelope) {
+        return envelope.getMinX() <= -180 && envelope.getMaxX() >= 180
+            && envelope.getMinY() <= -90 && envelope.getMaxY() >= 90;
+    }
+
+    /**
+     * Distance between origin and geometry; great-circle meters between the nearest lon/lat
+     * points if geographic (never less than the true geodesic distance on the sphere).
+     */
+    private static double distance(Point origin, Geometry geometry, boolean geographic) {
+        if (!geographic) {
+            return origin.distance(geometry);
+        }
+        Coordinate[] nearest = DistanceOp.nearestPoints(origin, geometry);
+        double lat1 = Math.toRadians(nearest[0].y);
+        double lat2 = Math.toRadians(nearest[1].y);
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(nearest[1].x - nearest[0].x) / 2);
+        double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
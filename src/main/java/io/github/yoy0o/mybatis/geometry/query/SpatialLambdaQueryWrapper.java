@@ -0,0 +1,355 @@
+package io.github.yoy0o.mybatis.geometry.query;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlKeyword;
+import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.LambdaMeta;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.yoy0o.mybatis.geometry.interceptor.CellKeyBinding;
+import io.github.yoy0o.mybatis.geometry.interceptor.GeometryFieldResolver;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
+import io.github.yoy0o.mybatis.geometry.strategy.SpatialOperator;
+import io.github.yoy0o.mybatis.geometry.strategy.SpatialPredicate;
+import io.github.yoy0o.mybatis.geometry.util.CellKeys;
+import io.github.yoy0o.mybatis.geometry.util.EnvelopeUtil;
+import org.apache.ibatis.reflection.property.PropertyNamer;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+
+import java.util.List;
+
+/**
+ * {@link LambdaQueryWrapper} with spatial predicates.
+ *
+ * <p>Each predicate is rendered by the {@link GeometryHandlerStrategy} in an index-friendly form:
+ * a bounding-box prefilter the spatial index can answer ({@code MBR*} on MySQL, {@code &&} on PostGIS)
+ * combined with the exact {@code ST_*} check. The query geometry is bound through the geometry
+ * TypeHandlers, never inlined as text.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * List<Zone> zones = zoneMapper.selectList(new SpatialLambdaQueryWrapper<Zone>()
+ *     .stContains(Zone::getBoundary, point)
+ *     .eq(Zone::getEnabled, true));
+ * }</pre>
+ *
+ * <p>Distances for {@link #stDWithin} are in meters when the query geometry's SRID is 4326
+ * (or 0 with default SRID 4326), otherwise in SRID units.</p>
+ *
+ * <p>{@link #cellKeyIntersects} and {@link #cellKeyWithin} add a prefilter on the auto-maintained
+ * cell key column of a geometry property (see {@code cellKey} on {@code @PointTableField}), usable
+ * with a plain B-tree index where no spatial index exists.</p>
+ *
+ * <p>Standard wrapper methods return {@link LambdaQueryWrapper}; call spatial predicates first
+ * when chaining, or keep a reference to the wrapper.</p>
+ *
+ * @param <T> the entity type
+ */
+public class SpatialLambdaQueryWrapper<T> extends LambdaQueryWrapper<T> {
+
+    /** Maximum number of cell key prefix ranges per prefilter */
+    public static final int MAX_CELL_PREFIXES = 16;
+
+    private static final GeometryFieldResolver FIELD_RESOLVER = new GeometryFieldResolver();
+
+    private final GeometryHandlerStrategy strategy;
+
+    /**
+     * Create a wrapper using the default strategy.
+     */
+    public SpatialLambdaQueryWrapper() {
+        this.strategy = null;
+    }
+
+    /**
+     * Create a wrapper with a specific strategy.
+     *
+     * @param strategy the database-specific geometry handler strategy
+     */
+    public SpatialLambdaQueryWrapper(GeometryHandlerStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Create a wrapper for an entity class using the default strategy.
+     *
+     * @param entityClass the entity class
+     */
+    public SpatialLambdaQueryWrapper(Class<T> entityClass) {
+        super(entityClass);
+        this.strategy = null;
+    }
+
+    /**
+     * Create a wrapper for an entity class with a specific strategy.
+     *
+     * @param entityClass the entity class
+     * @param strategy the database-specific geometry handler strategy
+     */
+    public SpatialLambdaQueryWrapper(Class<T> entityClass, GeometryHandlerStrategy strategy) {
+        super(entityClass);
+        this.strategy = strategy;
+    }
+
+    /**
+     * Column geometry contains the given geometry ({@code ST_Contains(column, geometry)}).
+     *
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stContains(SFunction<T, ?> column, Geometry geometry) {
+        return stContains(true, column, geometry);
+    }
+
+    /**
+     * Column geometry contains the given geometry, if {@code condition} is true.
+     *
+     * @param condition whether to add the predicate
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stContains(boolean condition, SFunction<T, ?> column, Geometry geometry) {
+        return spatial(condition, SpatialOperator.CONTAINS, column, geometry, 0);
+    }
+
+    /**
+     * Column geometry intersects the given geometry ({@code ST_Intersects(column, geometry)}).
+     *
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stIntersects(SFunction<T, ?> column, Geometry geometry) {
+        return stIntersects(true, column, geometry);
+    }
+
+    /**
+     * Column geometry intersects the given geometry, if {@code condition} is true.
+     *
+     * @param condition whether to add the predicate
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stIntersects(boolean condition, SFunction<T, ?> column, Geometry geometry) {
+        return spatial(condition, SpatialOperator.INTERSECTS, column, geometry, 0);
+    }
+
+    /**
+     * Column geometry is within {@code distance} of the given geometry.
+     *
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @param distance the distance (meters for SRID 4326, SRID units otherwise)
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stDWithin(SFunction<T, ?> column, Geometry geometry, double distance) {
+        return stDWithin(true, column, geometry, distance);
+    }
+
+    /**
+     * Column geometry is within {@code distance} of the given geometry, if {@code condition} is true.
+     *
+     * @param condition whether to add the predicate
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @param distance the distance (meters for SRID 4326, SRID units otherwise)
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> stDWithin(boolean condition, SFunction<T, ?> column, Geometry geometry,
+                                                  double distance) {
+        if (condition && !(distance >= 0)) {
+            throw new IllegalArgumentException("Distance must be non-negative, got: " + distance);
+        }
+        return spatial(condition, SpatialOperator.DWITHIN, column, geometry, distance);
+    }
+
+    /**
+     * Bounding boxes of the column geometry and the given geometry intersect.
+     * Index-only; no exact geometry check.
+     *
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> bboxIntersects(SFunction<T, ?> column, Geometry geometry) {
+        return bboxIntersects(true, column, geometry);
+    }
+
+    /**
+     * Bounding boxes of the column geometry and the given geometry intersect, if {@code condition} is true.
+     *
+     * @param condition whether to add the predicate
+     * @param column the geometry column
+     * @param geometry the query geometry
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> bboxIntersects(boolean condition, SFunction<T, ?> column, Geometry geometry) {
+        return spatial(condition, SpatialOperator.BBOX_INTERSECTS, column, geometry, 0);
+    }
+
+    /**
+     * Cell key of the column geometry lies in a cell covering {@code envelope}.
+     *
+     * <p>Renders up to {@link #MAX_CELL_PREFIXES} {@code key LIKE 'prefix%'} ranges on the cell key
+     * column declared by the geometry property, at the finest level that keeps within that limit.
+     * It is a prefilter: rows near the envelope may match too, so combine it with an exact predicate.
+     * For polygon columns the key is the centroid's, so expand the envelope by the largest polygon
+     * radius to find every intersecting polygon. Envelopes too large to prefilter add no condition.</p>
+     *
+     * @param column the geometry column, which must declare a {@code cellKey}
+     * @param envelope the search envelope in lon/lat
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> cellKeyIntersects(SFunction<T, ?> column, Envelope envelope) {
+        return cellKeyIntersects(true, column, envelope);
+    }
+
+    /**
+     * Cell key of the column geometry lies in a cell covering {@code envelope}, if {@code condition} is true.
+     *
+     * @param condition whether to add the predicate
+     * @param column the geometry column, which must declare a {@code cellKey}
+     * @param envelope the search envelope in lon/lat
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> cellKeyIntersects(boolean condition, SFunction<T, ?> column,
+                                                          Envelope envelope) {
+        if (!condition) {
+            return this;
+        }
+        if (envelope == null) {
+            throw new IllegalArgumentException("Envelope cannot be null");
+        }
+        CellKeyBinding binding = resolveCellKey(column);
+        List<String> prefixes = CellKeys.coveringPrefixes(binding.type(), envelope, binding.precision(),
+            MAX_CELL_PREFIXES);
+        if (prefixes.isEmpty()) {
+            return this;
+        }
+        StringBuilder sql = new StringBuilder("(");
+        Object[] values = new Object[prefixes.size()];
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append(binding.keyColumn()).append(" LIKE {").append(i).append('}');
+            values[i] = prefixes.get(i) + "%";
+        }
+        apply(sql.append(')').toString(), values);
+        return this;
+    }
+
+    /**
+     * Cell key prefilter for rows within {@code distance} of {@code geometry}: {@link #cellKeyIntersects}
+     * with the geometry's envelope expanded by the distance.
+     *
+     * @param column the geometry column, which must declare a {@code cellKey}
+     * @param geometry the query geometry
+     * @param distance the distance (meters for SRID 4326, SRID units otherwise)
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> cellKeyWithin(SFunction<T, ?> column, Geometry geometry, double distance) {
+        if (geometry == null) {
+            throw new IllegalArgumentException("Query geometry cannot be null");
+        }
+        if (!(distance >= 0)) {
+            throw new IllegalArgumentException("Distance must be non-negative, got: " + distance);
+        }
+        return cellKeyIntersects(true, column, EnvelopeUtil.expand(geometry.getEnvelopeInternal(), distance,
+            EnvelopeUtil.isGeographic(geometry.getSRID())));
+    }
+
+    /**
+     * Order rows by distance from the column geometry to {@code origin}, nearest first.
+     *
+     * <p>On PostGIS this renders the {@code <->} KNN operator, which the GiST index serves in
+     * distance order. For SRID 4326 the operands are cast to {@code geography}, so rows are ranked
+     * in meters rather than degrees; the geometry index cannot serve that ordering. On MySQL it
+     * renders {@code ST_Distance}, which is evaluated for every candidate row. In both cases
+     * combine it with a bounding-box predicate or use {@link NearestNeighborSearch}.</p>
+     *
+     * @param column the geometry column
+     * @param origin the query point
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> orderByDistance(SFunction<T, ?> column, Point origin) {
+        if (origin == null) {
+            throw new IllegalArgumentException("Origin cannot be null");
+        }
+        GeometryParameter parameter = GeometryParameter.of(origin);
+        String sql = formatSqlMaybeWithParam(
+            getStrategy().renderDistanceOrder(columnToString(column), parameter.placeholder(0),
+                EnvelopeUtil.isGeographic(origin.getSRID())), parameter.value());
+        appendSqlSegments(SqlKeyword.ORDER_BY, () -> sql, SqlKeyword.ASC);
+        return this;
+    }
+
+    /**
+     * Select the {@code k} rows nearest to {@code origin}: {@link #orderByDistance} plus {@code LIMIT k}.
+     * Replaces any previous {@code last()} SQL.
+     *
+     * @param column the geometry column
+     * @param origin the query point
+     * @param k the maximum number of rows
+     * @return this wrapper
+     */
+    public SpatialLambdaQueryWrapper<T> nearest(SFunction<T, ?> column, Point origin, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive, got: " + k);
+        }
+        orderByDistance(column, origin);
+        last("LIMIT " + k);
+        return this;
+    }
+
+    /**
+     * Get the strategy this wrapper renders with.
+     *
+     * @return the explicit strategy, or the current default strategy
+     */
+    GeometryHandlerStrategy getStrategy() {
+        return strategy != null ? strategy : GeometryStrategyFactory.getDefaultStrategy();
+    }
+
+    private CellKeyBinding resolveCellKey(SFunction<T, ?> column) {
+        LambdaMeta meta = LambdaUtils.extract(column);
+        String property = PropertyNamer.methodToProperty(meta.getImplMethodName());
+        CellKeyBinding binding = FIELD_RESOLVER.getCellKeyBinding(meta.getInstantiatedClass(), property);
+        if (binding == null) {
+            throw new IllegalArgumentException("Property '" + property + "' of "
+                + meta.getInstantiatedClass().getSimpleName() + " declares no cellKey");
+        }
+        return binding;
+    }
+
+    private SpatialLambdaQueryWrapper<T> spatial(boolean condition, SpatialOperator operator,
+                                                 SFunction<T, ?> column, Geometry geometry, double distance) {
+        if (!condition) {
+            return this;
+        }
+        if (geometry == null) {
+            throw new IllegalArgumentException("Query geometry cannot be null");
+        }
+        GeometryParameter parameter = GeometryParameter.of(geometry);
+        boolean geographic = EnvelopeUtil.isGeographic(geometry.getSRID());
+
+        String sql;
+        if (operator == SpatialOperator.DWITHIN) {
+            GeometryParameter envelope = GeometryParameter.of(
+                EnvelopeUtil.expandToGeometry(geometry, distance, geographic));
+            sql = getStrategy().renderSpatialPredicate(new SpatialPredicate(operator, columnToString(column),
+                parameter.placeholder(0), envelope.placeholder(1), "{2}", geographic));
+            apply(sql, parameter.value(), envelope.value(), distance);
+        } else {
+            sql = getStrategy().renderSpatialPredicate(new SpatialPredicate(operator, columnToString(column),
+                parameter.placeholder(0), null, null, geographic));
+            apply(sql, parameter.value());
+        }
+        return this;
+    }
+}
@@ -45,6 +45,67 @@ public interface GeometryHandlerStrategy {
      */
     String getGeometryInputFunction();
     
+    /**
+     * Render an index-assisted spatial predicate for a WHERE clause.
+     *
+     * <p>The result combines a bounding-box prefilter the spatial index can serve with the exact
+     * predicate. Examples for {@link SpatialOperator#INTERSECTS}:</p>
+     * <ul>
+     *   <li>MySQL: {@code (MBRIntersects(col, ?) AND ST_Intersects(col, ?))}</li>
+     *   <li>PostGIS: {@code (col && ?::geometry AND ST_Intersects(col, ?::geometry))}</li>
+     * </ul>
+     *
+     * <p>The default implementation renders portable OGC SQL without an index prefilter:
+     * {@code ST_Contains(col, ?)}, {@code ST_Intersects(col, ?)}, {@code ST_Distance(col, ?) <= ?}
+     * and {@code ST_Intersects(ST_Envelope(col), ST_Envelope(?))}. Override it to add a prefilter
+     * the database's spatial index can serve.</p>
+     *
+     * @param predicate the predicate with column and placeholders
+     * @return the SQL condition
+     */
+    default String renderSpatialPredicate(SpatialPredicate predicate) {
+        String col = predicate.column();
+        String g = predicate.geometry();
+        return switch (predicate.operator()) {
+            case CONTAINS -> "ST_Contains(" + col + ", " + g + ")";
+            case INTERSECTS -> "ST_Intersects(" + col + ", " + g + ")";
+            case DWITHIN -> "ST_Distance(" + col + ", " + g + ") <= " + predicate.distance();
+            case BBOX_INTERSECTS -> "ST_Intersects(ST_Envelope(" + col + "), ST_Envelope(" + g + "))";
+        };
+    }
+
+    /**
+     * Render a distance expression for ORDER BY, ranking rows by distance to a query geometry.
+     *
+     * <p>Examples:</p>
+     * <ul>
+     *   <li>MySQL: {@code ST_Distance(col, ?)} (exact, evaluated per candidate row)</li>
+     *   <li>PostGIS: {@code col <-> ?::geometry} (KNN operator, served by the GiST index), or
+     *       {@code col::geography <-> ?::geography} in meters when {@code geographic}</li>
+     * </ul>
+     *
+     * <p>The default implementation renders the portable OGC {@code ST_Distance(col, ?)}.</p>
+     *
+     * @param column the geometry column expression
+     * @param geometry placeholder of the query geometry
+     * @param geographic true when the SRID is geographic (4326) and rows must be ranked in meters
+     * @return the ORDER BY expression
+     */
+    default String renderDistanceOrder(String column, String geometry, boolean geographic) {
+        return "ST_Distance(" + column + ", " + geometry + ")";
+    }
+
+    /**
+     * Test whether {@link #renderDistanceOrder(String, String, boolean)} is answered by the spatial
+     * index for non-geographic SRIDs. If not, nearest-neighbour queries need a bounding-box prefilter
+     * to avoid full scans.
+     *
+     * @return true if ORDER BY distance with LIMIT is an index probe; false by default
+     */
+    default boolean supportsIndexOrderedDistance() {
+        return false;
+    }
+
     /**
      * Convert a JTS geometry to database-specific format.
      *
@@ -39,6 +39,33 @@ public String getGeometryInputFunction() {
         return "?";
     }
 
+    @Override
+    public String renderSpatialPredicate(SpatialPredicate predicate) {
+        // MBR* functions are answered from the R-tree index; the ST_* check is exact
+        String col = predicate.column();
+        String g = predicate.geometry();
+        return switch (predicate.operator()) {
+            case CONTAINS -> "(MBRContains(" + col + ", " + g + ") AND ST_Contains(" + col + ", " + g + "))";
+            case INTERSECTS -> "(MBRIntersects(" + col + ", " + g + ") AND ST_Intersects(" + col + ", " + g + "))";
+            // ST_Distance returns meters on geographic SRS, SRID units otherwise
+            case DWITHIN -> "(MBRIntersects(" + col + ", " + predicate.envelope() + ") AND ST_Distance("
+                + col + ", " + g + ") <= " + predicate.distance() + ")";
+            case BBOX_INTERSECTS -> "MBRIntersects(" + col + ", " + g + ")";
+        };
+    }
+
+    @Override
+    public String renderDistanceOrder(String column, String geometry, boolean geographic) {
+        // ST_Distance already returns meters on geographic SRS
+        return "ST_Distance(" + column + ", " + geometry + ")";
+    }
+
+    @Override
+    public boolean supportsIndexOrderedDistance() {
+        // The R-tree index cannot drive ORDER BY ST_Distance; callers prefilter with MBRIntersects
+        return false;
+    }
+
     @Override
     public Object convertForDatabase(Geometry geometry) {
         if (geometry == null) {
@@ -76,6 +76,41 @@ public String getGeometryInputFunction() {
         return "?";
     }
 
+    @Override
+    public String renderSpatialPredicate(SpatialPredicate predicate) {
+        // && is answered from the GiST index; the ST_* check is exact.
+        // Bound hex EWKB is an untyped literal, so it is cast explicitly.
+        String col = predicate.column();
+        String g = predicate.geometry() + "::geometry";
+        return switch (predicate.operator()) {
+            case CONTAINS -> "(" + col + " && " + g + " AND ST_Contains(" + col + ", " + g + "))";
+            case INTERSECTS -> "(" + col + " && " + g + " AND ST_Intersects(" + col + ", " + g + "))";
+            case DWITHIN -> predicate.geographic()
+                // Meters: exact check on geography, prefilter on the geometry index
+                ? "(" + col + " && " + predicate.envelope() + "::geometry AND ST_DWithin(" + col
+                    + "::geography, " + predicate.geometry() + "::geography, " + predicate.distance() + "))"
+                : "(" + col + " && " + predicate.envelope() + "::geometry AND ST_DWithin(" + col
+                    + ", " + g + ", " + predicate.distance() + "))";
+            case BBOX_INTERSECTS -> col + " && " + g;
+        };
+    }
+
+    @Override
+    public String renderDistanceOrder(String column, String geometry, boolean geographic) {
+        if (geographic) {
+            // Planar <-> on lon/lat ranks by degrees; geography <-> ranks by sphere meters
+            return column + "::geography <-> " + geometry + "::geography";
+        }
+        // <-> walks the GiST index in distance order; ranks by planar distance in SRID units
+        return column + " <-> " + geometry + "::geometry";
+    }
+
+    @Override
+    public boolean supportsIndexOrderedDistance() {
+        // Planar only: the geometry GiST index cannot order the geography cast
+        return true;
+    }
+
     @Override
     public Object convertForDatabase(Geometry geometry) {
         if (geometry == null) {
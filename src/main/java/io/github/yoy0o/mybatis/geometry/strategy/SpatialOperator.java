@@ -0,0 +1,19 @@
+package io.github.yoy0o.mybatis.geometry.strategy;
+
+/**
+ * Spatial predicates that can be rendered by a {@link GeometryHandlerStrategy}.
+ */
+public enum SpatialOperator {
+
+    /** Column geometry contains the query geometry */
+    CONTAINS,
+
+    /** Column geometry intersects the query geometry */
+    INTERSECTS,
+
+    /** Column geometry is within a distance of the query geometry */
+    DWITHIN,
+
+    /** Bounding boxes of column and query geometry intersect (index-only, no exact check) */
+    BBOX_INTERSECTS
+}
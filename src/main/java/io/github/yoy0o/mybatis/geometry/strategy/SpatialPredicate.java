@@ -0,0 +1,18 @@
+package io.github.yoy0o.mybatis.geometry.strategy;
+
+/**
+ * Input for {@link GeometryHandlerStrategy#renderSpatialPredicate(SpatialPredicate)}.
+ * Geometry and distance values are passed as SQL placeholders, already bound by the caller.
+ *
+ * @param operator the spatial operator
+ * @param column the geometry column expression
+ * @param geometry placeholder of the query geometry
+ * @param envelope placeholder of the prefilter envelope: the query geometry's bounding box expanded
+ *                 by the distance ({@link SpatialOperator#DWITHIN} only, otherwise null)
+ * @param distance placeholder of the distance ({@link SpatialOperator#DWITHIN} only, otherwise null)
+ * @param geographic true when the SRID is geographic (4326) and distances are in meters;
+ *                   false for distances in SRID units
+ */
+public record SpatialPredicate(SpatialOperator operator, String column, String geometry,
+                               String envelope, String distance, boolean geographic) {
+}
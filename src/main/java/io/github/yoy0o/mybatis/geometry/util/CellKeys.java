@@ -0,0 +1,160 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import io.github.yoy0o.mybatis.geometry.annotation.CellKeyType;
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoder for geohash and quadkey spatial cell keys of WGS84 lon/lat coordinates.
+ *
+ * <p>Besides encoding single positions, {@link #coveringPrefixes} computes the key prefixes of the
+ * cells covering an envelope, which turn a bounding-box search into a few B-tree prefix ranges.</p>
+ */
+public final class CellKeys {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    /** Latitude limit of the Web Mercator projection */
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private CellKeys() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Encode a position.
+     *
+     * @param type the key encoding
+     * @param lon the longitude (clamped to -180..180)
+     * @param lat the latitude (clamped to the valid range of the encoding)
+     * @param precision geohash characters or quadkey zoom level
+     * @return the cell key
+     */
+    public static String encode(CellKeyType type, double lon, double lat, int precision) {
+        checkPrecision(type, precision);
+        return type == CellKeyType.GEOHASH
+            ? geohash(lonCell(lon, geohashLonBits(precision)), latCell(lat, geohashLatBits(precision)), precision)
+            : quadkey(lonCell(lon, precision), mercatorCell(lat, precision), precision);
+    }
+
+    /**
+     * Compute the key prefixes of the cells covering an envelope.
+     *
+     * <p>Uses the finest level up to {@code precision} at which at most {@code maxPrefixes} cells
+     * cover the envelope. Every key inside the envelope starts with one of the returned prefixes;
+     * keys of nearby positions outside it may match too. Returns an empty list when no useful
+     * prefilter exists: even the coarsest level needs more than {@code maxPrefixes} cells, or the
+     * cells cover the whole world.</p>
+     *
+     * @param type the key encoding
+     * @param envelope the search envelope in lon/lat
+     * @param precision the precision of the stored keys
+     * @param maxPrefixes the maximum number of prefixes
+     * @return the distinct prefixes, possibly empty
+     */
+    public static List<String> coveringPrefixes(CellKeyType type, Envelope envelope, int precision, int maxPrefixes) {
+        checkPrecision(type, precision);
+        if (envelope.isNull()) {
+            return List.of();
+        }
+        for (int level = precision; level >= 1; level--) {
+            int lonBits = type == CellKeyType.GEOHASH ? geohashLonBits(level) : level;
+            int latBits = type == CellKeyType.GEOHASH ? geohashLatBits(level) : level;
+            long x0 = lonCell(envelope.getMinX(), lonBits);
+            long x1 = lonCell(envelope.getMaxX(), lonBits);
+            long y0;
+            long y1;
+            if (type == CellKeyType.GEOHASH) {
+                y0 = latCell(envelope.getMinY(), latBits);
+                y1 = latCell(envelope.getMaxY(), latBits);
+            } else {
+                // Tile rows grow southwards
+                y0 = mercatorCell(envelope.getMaxY(), latBits);
+                y1 = mercatorCell(envelope.getMinY(), latBits);
+            }
+            long cells = (x1 - x0 + 1) * (y1 - y0 + 1);
+            if (cells > maxPrefixes) {
+                continue;
+            }
+            if (cells == (1L << lonBits) * (1L << latBits)) {
+                // Covers the whole world: matches every key
+                return List.of();
+            }
+            List<String> prefixes = new ArrayList<>();
+            for (long x = x0; x <= x1; x++) {
+                for (long y = y0; y <= y1; y++) {
+                    prefixes.add(type == CellKeyType.GEOHASH ? geohash(x, y, level) : quadkey(x, y, level));
+                }
+            }
+            return prefixes;
+        }
+        return List.of();
+    }
+
+    private static void checkPrecision(CellKeyType type, int precision) {
+        if (precision < 1 || precision > type.getMaxPrecision()) {
+            throw new IllegalArgumentException(type + " precision must be between 1 and "
+                + type.getMaxPrecision() + ", got: " + precision);
+        }
+    }
+
+    private static int geohashLonBits(int length) {
+        return (length * 5 + 1) / 2;
+    }
+
+    private static int geohashLatBits(int length) {
+        return length * 5 / 2;
+    }
+
+    private static long lonCell(double lon, int bits) {
+        return cell((lon + 180) / 360, bits);
+    }
+
+    private static long latCell(double lat, int bits) {
+        return cell((lat + 90) / 180, bits);
+    }
+
+    private static long mercatorCell(double lat, int bits) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat))));
+        return cell(0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI), bits);
+    }
+
+    /**
+     * Map a fraction in [0, 1] to a cell index in [0, 2^bits - 1].
+     */
+    private static long cell(double fraction, int bits) {
+        long cells = 1L << bits;
+        long index = (long) Math.floor(fraction * cells);
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    /**
+     * Interleave longitude and latitude bits (longitude first), five bits per character.
+     */
+    private static String geohash(long x, long y, int length) {
+        int lonBits = geohashLonBits(length);
+        int latBits = geohashLatBits(length);
+        char[] chars = new char[length];
+        int value = 0;
+        for (int bit = 0; bit < length * 5; bit++) {
+            long b = bit % 2 == 0 ? (x >> (--lonBits)) & 1 : (y >> (--latBits)) & 1;
+            value = (value << 1) | (int) b;
+            if (bit % 5 == 4) {
+                chars[bit / 5] = BASE32[value];
+                value = 0;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static String quadkey(long x, long y, int level) {
+        char[] chars = new char[level];
+        for (int i = 0; i < level; i++) {
+            int shift = level - 1 - i;
+            chars[i] = (char) ('0' + ((x >> shift) & 1) + 2 * ((y >> shift) & 1));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Utility for building bounding boxes used as spatial index prefilters.
+ */
+public final class EnvelopeUtil {
+
+    /** Meters per degree of latitude (and of longitude at the equator) on the WGS84 sphere */
+    public static final double METERS_PER_DEGREE = 111_320.0;
+
+    private EnvelopeUtil() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Test whether an SRID is geographic, i.e. distances are given in meters.
+     *
+     * @param srid the SRID (0 means the configured default)
+     * @return true for WGS84
+     */
+    public static boolean isGeographic(int srid) {
+        int effective = srid == 0 ? GeometryFactoryProvider.getConfiguredSrid() : srid;
+        return effective == WkbUtil.DEFAULT_SRID;
+    }
+
+    /**
+     * Expand an envelope by a distance on every side.
+     *
+     * <p>For geographic coordinates the distance is in meters and converted to degrees, using the
+     * latitude farthest from the equator so the box never under-covers. The result is clamped to
+     * the valid lat range; near the poles or across the antimeridian it spans all longitudes.</p>
+     *
+     * @param envelope the envelope to expand (not modified)
+     * @param distance the distance (meters if geographic, SRID units otherwise)
+     * @param geographic whether the coordinates are WGS84 lon/lat
+     * @return a new expanded envelope
+     */
+    public static Envelope expand(Envelope envelope, double distance, boolean geographic) {
+        Envelope result = new Envelope(envelope);
+        if (!geographic) {
+            result.expandBy(distance);
+            return result;
+        }
+        double dLat = distance / METERS_PER_DEGREE;
+        double minY = Math.max(-90, envelope.getMinY() - dLat);
+        double maxY = Math.min(90, envelope.getMaxY() + dLat);
+        double maxAbsLat = Math.max(Math.abs(minY), Math.abs(maxY));
+        double cos = Math.cos(Math.toRadians(maxAbsLat));
+        double dLon = cos < 1e-6 ? 360 : dLat / cos;
+        double minX = envelope.getMinX() - dLon;
+        double maxX = envelope.getMaxX() + dLon;
+        if (minX < -180 || maxX > 180) {
+            // Wraps across the antimeridian: a single box has to span all longitudes
+            minX = -180;
+            maxX = 180;
+        }
+        return new Envelope(minX, maxX, minY, maxY);
+    }
+
+    /**
+     * Expand a geometry's bounding box by a distance and return it as a geometry with the same SRID.
+     *
+     * @param geometry the geometry
+     * @param distance the distance (meters if geographic, SRID units otherwise)
+     * @param geographic whether the coordinates are WGS84 lon/lat
+     * @return the expanded box (a Polygon unless degenerate)
+     */
+    public static Geometry expandToGeometry(Geometry geometry, double distance, boolean geographic) {
+        GeometryFactory factory = geometry.getFactory();
+        Geometry box = factory.toGeometry(expand(geometry.getEnvelopeInternal(), distance, geographic));
+        box.setSRID(geometry.getSRID());
+        return box;
+    }
+}
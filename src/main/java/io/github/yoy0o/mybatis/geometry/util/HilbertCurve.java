@@ -0,0 +1,68 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Hilbert space-filling curve over a 2D extent, used to order geometries so that items close in
+ * space are close in sequence (packed index leaves, batch insert order).
+ *
+ * <p>The extent is divided into a 65536 x 65536 grid; the curve index of a cell fits in 32 bits
+ * and is returned as a non-negative {@code long}.</p>
+ */
+public final class HilbertCurve {
+
+    /** Grid cells per axis */
+    public static final int GRID_SIZE = 1 << 16;
+
+    private HilbertCurve() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Compute the Hilbert index of a point within an extent.
+     * Points outside the extent are clamped to its border.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param extent the extent covered by the curve
+     * @return the curve index, 0 to 2^32 - 1
+     */
+    public static long index(double x, double y, Envelope extent) {
+        return index(toCell(x, extent.getMinX(), extent.getWidth()), toCell(y, extent.getMinY(), extent.getHeight()));
+    }
+
+    /**
+     * Compute the Hilbert index of a grid cell.
+     *
+     * @param x the cell column, 0 to {@link #GRID_SIZE} - 1
+     * @param y the cell row, 0 to {@link #GRID_SIZE} - 1
+     * @return the curve index, 0 to 2^32 - 1
+     */
+    public static long index(int x, int y) {
+        long d = 0;
+        for (int s = GRID_SIZE >>> 1; s > 0; s >>>= 1) {
+            int rx = (x & s) != 0 ? 1 : 0;
+            int ry = (y & s) != 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            // Rotate the quadrant so the sub-curve connects end to end
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = GRID_SIZE - 1 - x;
+                    y = GRID_SIZE - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+
+    static int toCell(double value, double min, double size) {
+        if (!(size > 0)) {
+            return 0;
+        }
+        double cell = (value - min) / size * (GRID_SIZE - 1);
+        return (int) Math.max(0, Math.min(GRID_SIZE - 1, cell));
+    }
+}
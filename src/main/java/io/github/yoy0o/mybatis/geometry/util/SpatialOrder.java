@@ -0,0 +1,115 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Space-filling curve orders for sorting geometries by location.
+ *
+ * <p>Inserting rows in curve order keeps spatially close rows close in the clustered index and
+ * lets R-tree pages fill with neighbouring entries, which speeds up both the bulk insert and later
+ * bounding-box queries. Hilbert order has the better locality; Z-order is cheaper to compute.</p>
+ *
+ * <pre>{@code
+ * SpatialOrder.HILBERT.sort(stations, Station::getLocation);
+ * stationService.saveBatch(stations);
+ * }</pre>
+ */
+public enum SpatialOrder {
+
+    /** Hilbert curve order */
+    HILBERT {
+        @Override
+        public long index(int x, int y) {
+            return HilbertCurve.index(x, y);
+        }
+    },
+
+    /** Z-order (Morton) curve order: interleaved cell bits */
+    Z_ORDER {
+        @Override
+        public long index(int x, int y) {
+            return spread(x) | (spread(y) << 1);
+        }
+    };
+
+    /**
+     * Compute the curve index of a grid cell.
+     *
+     * @param x the cell column, 0 to {@link HilbertCurve#GRID_SIZE} - 1
+     * @param y the cell row, 0 to {@link HilbertCurve#GRID_SIZE} - 1
+     * @return the curve index, 0 to 2^32 - 1
+     */
+    public abstract long index(int x, int y);
+
+    /**
+     * Compute the curve index of an envelope's center within an extent.
+     *
+     * @param envelope the envelope
+     * @param extent the extent covered by the curve
+     * @return the curve index, 0 to 2^32 - 1
+     */
+    public long index(Envelope envelope, Envelope extent) {
+        double x = (envelope.getMinX() + envelope.getMaxX()) / 2;
+        double y = (envelope.getMinY() + envelope.getMaxY()) / 2;
+        return index(HilbertCurve.toCell(x, extent.getMinX(), extent.getWidth()),
+            HilbertCurve.toCell(y, extent.getMinY(), extent.getHeight()));
+    }
+
+    /**
+     * Sort items in place by the curve index of their geometry's envelope center, over the extent
+     * of all geometries in the list. The sort is stable; items with a null or empty geometry go last.
+     *
+     * @param items the items, a mutable list
+     * @param geometryOf the geometry getter, e.g. {@code Station::getLocation}
+     * @param <T> the item type
+     */
+    public <T> void sort(List<T> items, Function<? super T, ? extends Geometry> geometryOf) {
+        int size = items.size();
+        if (size < 2) {
+            return;
+        }
+        Envelope[] envelopes = new Envelope[size];
+        Envelope extent = new Envelope();
+        for (int i = 0; i < size; i++) {
+            Geometry geometry = geometryOf.apply(items.get(i));
+            if (geometry != null && !geometry.isEmpty()) {
+                envelopes[i] = geometry.getEnvelopeInternal();
+                extent.expandToInclude(envelopes[i]);
+            }
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = envelopes[i] == null ? Long.MAX_VALUE : index(envelopes[i], extent);
+        }
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> keys[i]));
+
+        List<T> sorted = new ArrayList<>(size);
+        for (int i : order) {
+            sorted.add(items.get(i));
+        }
+        for (int i = 0; i < size; i++) {
+            items.set(i, sorted.get(i));
+        }
+    }
+
+    /**
+     * Spread the low 16 bits of a value to the even bit positions.
+     */
+    private static long spread(int value) {
+        long v = value & 0xFFFFL;
+        v = (v | (v << 8)) & 0x00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0FL;
+        v = (v | (v << 2)) & 0x33333333L;
+        v = (v | (v << 1)) & 0x55555555L;
+        return v;
+    }
+}
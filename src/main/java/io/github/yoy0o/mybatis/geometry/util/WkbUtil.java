@@ -1,13 +1,13 @@
 package io.github.yoy0o.mybatis.geometry.util;
 
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.io.ByteArrayInStream;
 import org.locationtech.jts.io.WKBReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.Arrays;
 import java.util.HexFormat;
 
 /**
@@ -33,6 +33,12 @@ public final class WkbUtil {
     /** ThreadLocal WKBReader for thread-safe parsing */
     private static final ThreadLocal<WKBReader> WKB_READER = ThreadLocal.withInitial(WKBReader::new);
 
+    /** Hex encoding used for WKB strings */
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    /** SRID prefix length in bytes */
+    private static final int SRID_SIZE = 4;
+
     private WkbUtil() {
         // Utility class, prevent instantiation
     }
@@ -72,7 +78,7 @@ public static String toWkb(Point point) {
         if (point == null) {
             return null;
         }
-        return pointToWkb(point.getX(), point.getY(), getSrid(point));
+        return HEX.formatHex(toWkbBytes(point));
     }
 
     /**
@@ -85,13 +91,11 @@ public static byte[] toWkbBytes(Point point) {
         if (point == null) {
             return null;
         }
-        try {
-            String hexString = toWkb(point);
-            return HexFormat.of().parseHex(hexString);
-        } catch (Exception e) {
-            log.error("Failed to convert Point to WKB bytes: {}", e.getMessage());
-            throw new RuntimeException("Failed to convert Point to WKB bytes", e);
-        }
+        // SRID(4) + byte_order(1) + type(4) + x(8) + y(8)
+        ByteBuffer buffer = newBuffer(SRID_SIZE + 1 + 4 + 16, point, GeometryType.POINT);
+        buffer.putDouble(point.getX());
+        buffer.putDouble(point.getY());
+        return buffer.array();
     }
 
     /**
@@ -125,13 +129,7 @@ public static String toWkb(LineString lineString) {
         if (lineString == null) {
             return null;
         }
-        Coordinate[] coordinates = lineString.getCoordinates();
-        double[][] coords = new double[coordinates.length][2];
-        for (int i = 0; i < coordinates.length; i++) {
-            coords[i][0] = coordinates[i].x;
-            coords[i][1] = coordinates[i].y;
-        }
-        return lineStringToWkb(coords, getSrid(lineString));
+        return HEX.formatHex(toWkbBytes(lineString));
     }
 
     /**
@@ -144,13 +142,11 @@ public static byte[] toWkbBytes(LineString lineString) {
         if (lineString == null) {
             return null;
         }
-        try {
-            String hexString = toWkb(lineString);
-            return HexFormat.of().parseHex(hexString);
-        } catch (Exception e) {
-            log.error("Failed to convert LineString to WKB bytes: {}", e.getMessage());
-            throw new RuntimeException("Failed to convert LineString to WKB bytes", e);
-        }
+        // SRID(4) + byte_order(1) + type(4) + numPoints(4) + points(16*n)
+        int size = SRID_SIZE + 1 + 4 + 4 + lineString.getNumPoints() * 16;
+        ByteBuffer buffer = newBuffer(size, lineString, GeometryType.LINESTRING);
+        writeRingToBuffer(buffer, lineString);
+        return buffer.array();
     }
 
     /**
@@ -185,7 +181,19 @@ public static String toWkb(Polygon polygon) {
         if (polygon == null) {
             return null;
         }
-        int srid = getSrid(polygon);
+        return HEX.formatHex(toWkbBytes(polygon));
+    }
+
+    /**
+     * Convert JTS Polygon to WKB byte array.
+     *
+     * @param polygon the Polygon to convert
+     * @return WKB byte array with SRID prefix, or null if polygon is null
+     */
+    public static byte[] toWkbBytes(Polygon polygon) {
+        if (polygon == null) {
+            return null;
+        }
         int numRings = 1 + polygon.getNumInteriorRing();
 
         // Calculate total points across all rings
@@ -195,13 +203,8 @@ public static String toWkb(Polygon polygon) {
         }
 
         // SRID(4) + byte_order(1) + type(4) + numRings(4) + per-ring: numPoints(4) + points(16*n)
-        int size = 4 + 1 + 4 + 4 + numRings * 4 + totalPoints * 16;
-        ByteBuffer buffer = ByteBuffer.allocate(size);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        buffer.putInt(srid);
-        buffer.put((byte) 1); // little-endian
-        buffer.putInt(GeometryType.POLYGON.getCode());
+        int size = SRID_SIZE + 1 + 4 + 4 + numRings * 4 + totalPoints * 16;
+        ByteBuffer buffer = newBuffer(size, polygon, GeometryType.POLYGON);
         buffer.putInt(numRings);
 
         // Write exterior ring
@@ -212,26 +215,7 @@ public static String toWkb(Polygon polygon) {
             writeRingToBuffer(buffer, polygon.getInteriorRingN(i));
         }
 
-        return HexFormat.of().formatHex(buffer.array()).toUpperCase();
-    }
-
-    /**
-     * Convert JTS Polygon to WKB byte array.
-     *
-     * @param polygon the Polygon to convert
-     * @return WKB byte array with SRID prefix, or null if polygon is null
-     */
-    public static byte[] toWkbBytes(Polygon polygon) {
-        if (polygon == null) {
-            return null;
-        }
-        try {
-            String hexString = toWkb(polygon);
-            return HexFormat.of().parseHex(hexString);
-        } catch (Exception e) {
-            log.error("Failed to convert Polygon to WKB bytes: {}", e.getMessage());
-            throw new RuntimeException("Failed to convert Polygon to WKB bytes", e);
-        }
+        return buffer.array();
     }
 
     /**
@@ -313,19 +297,17 @@ public static Geometry fromWkb(String wkbHex) {
         }
 
         try {
-            byte[] wkbBytes = HexFormat.of().parseHex(wkbHex);
+            byte[] wkbBytes = HEX.parseHex(wkbHex);
 
-            // Skip SRID prefix (4 bytes)
-            byte[] wkbWithoutSrid = Arrays.copyOfRange(wkbBytes, 4, wkbBytes.length);
+            // Read the SRID prefix, then let the reader continue from the same stream
+            // instead of copying the remaining bytes into a new array
+            ByteArrayInStream in = new ByteArrayInStream(wkbBytes);
+            byte[] sridBytes = new byte[SRID_SIZE];
+            in.read(sridBytes);
 
             // Parse using thread-safe WKBReader
-            Geometry geometry = WKB_READER.get().read(wkbWithoutSrid);
-
-            // Read SRID from original bytes
-            ByteBuffer buffer = ByteBuffer.wrap(wkbBytes);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            int srid = buffer.getInt();
-            geometry.setSRID(srid);
+            Geometry geometry = WKB_READER.get().read(in);
+            geometry.setSRID(ByteBuffer.wrap(sridBytes).order(ByteOrder.LITTLE_ENDIAN).getInt());
 
             return geometry;
         } catch (Exception e) {
@@ -361,108 +343,22 @@ private static int getSrid(Geometry geometry) {
         return geometry.getSRID() == 0 ? DEFAULT_SRID : geometry.getSRID();
     }
 
-    private static String pointToWkb(double longitude, double latitude, int srid) {
-        try {
-            ByteBuffer buffer = ByteBuffer.allocate(25);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-            // SRID (4 bytes)
-            buffer.putInt(srid);
-
-            // Byte order (1 byte): 1 = little-endian
-            buffer.put((byte) 1);
-
-            // Geometry type (4 bytes)
-            buffer.putInt(GeometryType.POINT.getCode());
-
-            // Coordinates (8 bytes + 8 bytes)
-            buffer.putDouble(longitude);
-            buffer.putDouble(latitude);
-
-            return HexFormat.of().formatHex(buffer.array()).toUpperCase();
-        } catch (Exception e) {
-            log.error("Failed to create Point WKB", e);
-            throw new RuntimeException("Failed to create Point WKB", e);
-        }
-    }
-
-    private static String lineStringToWkb(double[][] coordinates, int srid) {
-        try {
-            int size = 9 + (coordinates.length * 16); // Base 9 bytes + 16 bytes per point
-            ByteBuffer buffer = ByteBuffer.allocate(size + 4); // Add 4 bytes for SRID
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-            // SRID
-            buffer.putInt(srid);
-
-            // Byte order
-            buffer.put((byte) 1);
-
-            // Geometry type
-            buffer.putInt(GeometryType.LINESTRING.getCode());
-
-            // Number of points
-            buffer.putInt(coordinates.length);
-
-            // Write all coordinates
-            for (double[] coord : coordinates) {
-                buffer.putDouble(coord[0]);
-                buffer.putDouble(coord[1]);
-            }
-
-            return HexFormat.of().formatHex(buffer.array()).toUpperCase();
-        } catch (Exception e) {
-            log.error("Failed to create LineString WKB", e);
-            throw new RuntimeException("Failed to create LineString WKB", e);
-        }
+    private static ByteBuffer newBuffer(int size, Geometry geometry, GeometryType type) {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(getSrid(geometry));
+        buffer.put((byte) 1); // little-endian
+        buffer.putInt(type.getCode());
+        return buffer;
     }
 
     private static void writeRingToBuffer(ByteBuffer buffer, LineString ring) {
-        Coordinate[] coords = ring.getCoordinates();
-        buffer.putInt(coords.length);
-        for (Coordinate c : coords) {
-            buffer.putDouble(c.x);
-            buffer.putDouble(c.y);
-        }
-    }
-
-    private static String polygonToWkb(double[][] coordinates, int srid) {
-        try {
-            // Ensure polygon is closed
-            if (!Arrays.equals(coordinates[0], coordinates[coordinates.length - 1])) {
-                coordinates = Arrays.copyOf(coordinates, coordinates.length + 1);
-                coordinates[coordinates.length - 1] = coordinates[0];
-            }
-
-            int size = 13 + (coordinates.length * 16); // Base 13 bytes + 16 bytes per point
-            ByteBuffer buffer = ByteBuffer.allocate(size + 4); // Add 4 bytes for SRID
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-            // SRID
-            buffer.putInt(srid);
-
-            // Byte order
-            buffer.put((byte) 1);
-
-            // Geometry type
-            buffer.putInt(GeometryType.POLYGON.getCode());
-
-            // Number of rings (1 for exterior ring only)
-            buffer.putInt(1);
-
-            // Number of points
-            buffer.putInt(coordinates.length);
-
-            // Write all coordinates
-            for (double[] coord : coordinates) {
-                buffer.putDouble(coord[0]);
-                buffer.putDouble(coord[1]);
-            }
-
-            return HexFormat.of().formatHex(buffer.array()).toUpperCase();
-        } catch (Exception e) {
-            log.error("Failed to create Polygon WKB", e);
-            throw new RuntimeException("Failed to create Polygon WKB", e);
+        CoordinateSequence sequence = ring.getCoordinateSequence();
+        int size = sequence.size();
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putDouble(sequence.getX(i));
+            buffer.putDouble(sequence.getY(i));
         }
     }
 }
@@ -0,0 +1,168 @@
+package io.github.yoy0o.mybatis.geometry;
+
+import io.github.yoy0o.mybatis.geometry.interceptor.GeometrySqlRewriter;
+import io.github.yoy0o.mybatis.geometry.strategy.DatabaseType;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryHandlerStrategy;
+import io.github.yoy0o.mybatis.geometry.strategy.GeometryStrategyFactory;
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the encode, decode and rewrite hot paths.
+ *
+ * <p>Each operation is warmed up, then run repeatedly on the test thread while
+ * {@code ThreadMXBean.getThreadAllocatedBytes} measures the bytes allocated per call. A budget is the
+ * measured value plus headroom for JDK differences; exceeding it means an operation started copying
+ * (e.g. a hex round trip in {@code WkbUtil.toWkbBytes}) and fails the build.</p>
+ *
+ * <p>The budgets hold for HotSpot, whose escape analysis removes some temporary objects. Other JVMs
+ * and instrumenting agents (coverage, profilers) change what is allocated, so the tests are skipped
+ * on non-HotSpot VMs and when a {@code -javaagent} or {@code -agentpath} is attached. They are tagged
+ * {@code allocation}; {@code ./gradlew test -PexcludeTags=allocation} leaves them out.</p>
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    // Budgets in bytes per operation, roughly 1.5x the allocation measured on JDK 17
+    private static final long POINT_TO_WKB_BYTES_BUDGET = 160;
+    private static final long POINT_MYSQL_ENCODE_BUDGET = 512;
+    private static final long POINT_POSTGIS_ENCODE_BUDGET = 448;
+    private static final long POINT_DECODE_BUDGET = 320;
+    private static final long POLYGON_TO_WKB_BYTES_BUDGET = 2_048;
+    private static final long POLYGON_MYSQL_ENCODE_BUDGET = 10_240;
+    private static final long POLYGON_POSTGIS_ENCODE_BUDGET = 12_288;
+    private static final long POLYGON_DECODE_BUDGET = 8_192;
+    private static final long REWRITE_EXPLICIT_BUDGET = 16_384;
+    private static final long REWRITE_STAR_BUDGET = 7_168;
+
+    private static final GeometryFactory FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private static volatile Object sink;
+
+    private static Point point;
+    private static Polygon polygon;
+    private static String pointHex;
+    private static String polygonHex;
+
+    @BeforeAll
+    static void setUp() {
+        String vmName = System.getProperty("java.vm.name", "");
+        assumeTrue(vmName.contains("HotSpot") || vmName.startsWith("OpenJDK"),
+            "Budgets are calibrated for HotSpot, running on " + vmName);
+        assumeTrue(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .noneMatch(arg -> arg.startsWith("-javaagent") || arg.startsWith("-agentpath")),
+            "An instrumenting agent is attached");
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported(), "Thread allocation accounting not supported");
+        threads = (com.sun.management.ThreadMXBean) threadBean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        point = FACTORY.createPoint(new Coordinate(116.397, 39.909));
+        polygon = FACTORY.createPolygon(ring(0, 0, 1, 64), new LinearRing[]{ring(0.2, 0.2, 0.1, 16)});
+        pointHex = WkbUtil.toWkb(point);
+        polygonHex = WkbUtil.toWkb(polygon);
+    }
+
+    @Test
+    void pointEncode() {
+        GeometryHandlerStrategy mysql = GeometryStrategyFactory.getStrategy(DatabaseType.MYSQL);
+        GeometryHandlerStrategy postgis = GeometryStrategyFactory.getStrategy(DatabaseType.POSTGRESQL);
+
+        assertWithinBudget("WkbUtil.toWkbBytes(Point)", POINT_TO_WKB_BYTES_BUDGET, () -> WkbUtil.toWkbBytes(point));
+        assertWithinBudget("MySQL convertForDatabase(Point)", POINT_MYSQL_ENCODE_BUDGET,
+            () -> mysql.convertForDatabase(point));
+        assertWithinBudget("PostGIS convertForDatabase(Point)", POINT_POSTGIS_ENCODE_BUDGET,
+            () -> postgis.convertForDatabase(point));
+    }
+
+    @Test
+    void pointDecode() {
+        assertWithinBudget("WkbUtil.fromWkbAsPoint", POINT_DECODE_BUDGET, () -> WkbUtil.fromWkbAsPoint(pointHex));
+    }
+
+    @Test
+    void polygonEncode() {
+        GeometryHandlerStrategy mysql = GeometryStrategyFactory.getStrategy(DatabaseType.MYSQL);
+        GeometryHandlerStrategy postgis = GeometryStrategyFactory.getStrategy(DatabaseType.POSTGRESQL);
+
+        assertWithinBudget("WkbUtil.toWkbBytes(Polygon)", POLYGON_TO_WKB_BYTES_BUDGET,
+            () -> WkbUtil.toWkbBytes(polygon));
+        assertWithinBudget("MySQL convertForDatabase(Polygon)", POLYGON_MYSQL_ENCODE_BUDGET,
+            () -> mysql.convertForDatabase(polygon));
+        assertWithinBudget("PostGIS convertForDatabase(Polygon)", POLYGON_POSTGIS_ENCODE_BUDGET,
+            () -> postgis.convertForDatabase(polygon));
+    }
+
+    @Test
+    void polygonDecode() {
+        assertWithinBudget("WkbUtil.fromWkbAsPolygon", POLYGON_DECODE_BUDGET,
+            () -> WkbUtil.fromWkbAsPolygon(polygonHex));
+    }
+
+    @Test
+    void interceptorRewrite() {
+        GeometrySqlRewriter rewriter = new GeometrySqlRewriter(GeometryStrategyFactory.getStrategy(DatabaseType.MYSQL));
+        Set<String> geometryColumns = Set.of("location", "boundary");
+        List<String> allColumns = List.of("id", "name", "location", "boundary", "enabled", "updated_at");
+        String explicit = "SELECT id,name,location,boundary,enabled,updated_at FROM doc_zone "
+            + "WHERE (enabled = ? AND name LIKE ?) ORDER BY updated_at DESC";
+        String star = "SELECT * FROM doc_zone WHERE id = ?";
+
+        assertWithinBudget("rewrite explicit columns", REWRITE_EXPLICIT_BUDGET,
+            () -> rewriter.rewrite(explicit, geometryColumns, allColumns));
+        assertWithinBudget("rewrite SELECT *", REWRITE_STAR_BUDGET,
+            () -> rewriter.rewrite(star, geometryColumns, allColumns));
+    }
+
+    private static void assertWithinBudget(String operation, long budgetBytes, Supplier<Object> op) {
+        long perOperation = allocatedBytesPerOperation(op);
+        assertTrue(perOperation <= budgetBytes,
+            () -> operation + " allocated " + perOperation + " bytes/op, budget is " + budgetBytes);
+    }
+
+    private static long allocatedBytesPerOperation(Supplier<Object> op) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = op.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = op.get();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURED_ITERATIONS;
+    }
+
+    private static LinearRing ring(double cx, double cy, double radius, int vertices) {
+        Coordinate[] coordinates = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            coordinates[i] = new Coordinate(cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+        }
+        coordinates[vertices] = coordinates[0].copy();
+        return FACTORY.createLinearRing(coordinates);
+    }
+}
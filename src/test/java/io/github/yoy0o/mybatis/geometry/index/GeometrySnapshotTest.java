@@ -0,0 +1,200 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeometrySnapshotTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    /** Geometry builders by type, each placing geometry {@code i} in its own grid cell */
+    private static final Map<String, BiFunction<Double, Double, Geometry>> TYPES = Map.of(
+        "Point", (x, y) -> FACTORY.createPoint(new Coordinate(x, y)),
+        "LineString", GeometrySnapshotTest::line,
+        "Polygon", GeometrySnapshotTest::polygonWithHole,
+        "MultiPoint", (x, y) -> FACTORY.createMultiPointFromCoords(
+            new Coordinate[]{new Coordinate(x, y), new Coordinate(x + 0.5, y + 0.25)}),
+        "MultiLineString", (x, y) -> FACTORY.createMultiLineString(
+            new LineString[]{line(x, y), line(x + 0.1, y + 0.5)}),
+        "MultiPolygon", (x, y) -> FACTORY.createMultiPolygon(
+            new Polygon[]{polygonWithHole(x, y), square(x + 0.6, y + 0.6, 0.2)}));
+
+    @TempDir
+    Path dir;
+
+    static Stream<Arguments> typesAndCounts() {
+        return TYPES.keySet().stream().sorted()
+            .flatMap(type -> IntStream.of(0, 1, 16, 17, 300).mapToObj(count -> Arguments.of(type, count)));
+    }
+
+    @ParameterizedTest(name = "{0} x {1}")
+    @MethodSource("typesAndCounts")
+    void roundTrip(String type, int count) throws IOException {
+        List<Geometry> geometries = new ArrayList<>();
+        long[] ids = new long[count];
+        Map<Long, Geometry> byId = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            // 20 columns, 2 degrees apart, so every geometry has its own cell
+            Geometry geometry = TYPES.get(type).apply(-170.0 + (i % 20) * 2, -80.0 + (i / 20) * 2);
+            geometries.add(geometry);
+            ids[i] = i * 10L + 7;
+            byId.put(ids[i], geometry);
+        }
+        Path file = dir.resolve("zones.snapshot");
+        GeometrySnapshot.write(file, 42L, geometries, ids);
+
+        GeometrySnapshot snapshot = GeometrySnapshot.open(file);
+        assertEquals(42L, snapshot.getStamp());
+        assertEquals(count, snapshot.size());
+        if (count > 0) {
+            assertEquals(4326, snapshot.getSrid());
+        }
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            Geometry expected = byId.remove(snapshot.getId(i));
+            assertNotNull(expected, "unexpected id " + snapshot.getId(i));
+            Geometry actual = snapshot.getGeometry(i);
+            assertTrue(expected.equalsExact(actual), "geometry " + i + ": " + actual);
+            assertEquals(expected.getEnvelopeInternal(), snapshot.getEnvelope(i));
+            assertTrue(IntStream.of(snapshot.query(expected.getEnvelopeInternal())).anyMatch(hit -> hit == index));
+        }
+        assertTrue(byId.isEmpty(), "ids not found: " + byId.keySet());
+
+        assertEquals(count, snapshot.query(new Envelope(-180, 180, -90, 90)).length);
+        assertEquals(0, snapshot.query(new Envelope(170, 175, 85, 89)).length);
+
+        // Random windows against a brute-force scan
+        Random random = new Random(count);
+        for (int round = 0; round < 50; round++) {
+            double x = -175 + random.nextDouble() * 50;
+            double y = -85 + random.nextDouble() * 40;
+            Envelope window = new Envelope(x, x + random.nextDouble() * 10, y, y + random.nextDouble() * 10);
+            int[] expected = IntStream.range(0, count)
+                .filter(i -> snapshot.getEnvelope(i).intersects(window)).toArray();
+            assertArrayEquals(expected, snapshot.query(window), window.toString());
+        }
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path file = writeSample(7L);
+        long length = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 8);
+        }
+
+        assertThrows(IOException.class, () -> GeometrySnapshot.open(file));
+        assertNull(GeometrySnapshot.openIfCurrent(file, 7L));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(10);
+        }
+        assertThrows(IOException.class, () -> GeometrySnapshot.open(file));
+    }
+
+    @Test
+    void corruptHeaderIsRejectedAtOpen() throws IOException {
+        // Directory offset past the end of the file
+        Path file = writeSample(7L);
+        patchLong(file, 40, Files.size(file) + 1024);
+        assertThrows(IOException.class, () -> GeometrySnapshot.open(file));
+
+        // Geometry count larger than the directory can hold
+        Path counted = writeSample(7L);
+        patchInt(counted, 16, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> GeometrySnapshot.open(counted));
+
+        // Tree overlapping the directory
+        Path overlapping = writeSample(7L);
+        patchLong(overlapping, 32, 128);
+        assertThrows(IOException.class, () -> GeometrySnapshot.open(overlapping));
+        assertNull(GeometrySnapshot.openIfCurrent(overlapping, 7L));
+    }
+
+    @Test
+    void staleOrMissingFileIsIgnored() throws IOException {
+        Path file = writeSample(7L);
+
+        assertNull(GeometrySnapshot.openIfCurrent(file, 8L));
+        assertNotNull(GeometrySnapshot.openIfCurrent(file, 7L));
+        assertNull(GeometrySnapshot.openIfCurrent(dir.resolve("missing.snapshot"), 7L));
+    }
+
+    private Path writeSample(long stamp) throws IOException {
+        List<Geometry> geometries = new ArrayList<>();
+        long[] ids = new long[20];
+        for (int i = 0; i < ids.length; i++) {
+            geometries.add(square(i, i, 0.5));
+            ids[i] = i;
+        }
+        Path file = Files.createTempFile(dir, "sample", ".snapshot");
+        GeometrySnapshot.write(file, stamp, geometries, ids);
+        return file;
+    }
+
+    private static void patchLong(Path file, int offset, long value) throws IOException {
+        patch(file, offset, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value));
+    }
+
+    private static void patchInt(Path file, int offset, int value) throws IOException {
+        patch(file, offset, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value));
+    }
+
+    private static void patch(Path file, int offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+
+    private static LineString line(double x, double y) {
+        return FACTORY.createLineString(new Coordinate[]{
+            new Coordinate(x, y), new Coordinate(x + 0.3, y + 0.1), new Coordinate(x + 0.4, y + 0.4)});
+    }
+
+    private static Polygon square(double x, double y, double size) {
+        return FACTORY.createPolygon(new Coordinate[]{new Coordinate(x, y), new Coordinate(x + size, y),
+            new Coordinate(x + size, y + size), new Coordinate(x, y + size), new Coordinate(x, y)});
+    }
+
+    private static Polygon polygonWithHole(double x, double y) {
+        LinearRing hole = FACTORY.createLinearRing(new Coordinate[]{new Coordinate(x + 0.1, y + 0.1),
+            new Coordinate(x + 0.1, y + 0.3), new Coordinate(x + 0.3, y + 0.3), new Coordinate(x + 0.3, y + 0.1),
+            new Coordinate(x + 0.1, y + 0.1)});
+        return FACTORY.createPolygon(square(x, y, 0.5).getExteriorRing(), new LinearRing[]{hole});
+    }
+}
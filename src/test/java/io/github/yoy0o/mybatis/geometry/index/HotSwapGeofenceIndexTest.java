@@ -0,0 +1,78 @@
+package io.github.yoy0o.mybatis.geometry.index;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotSwapGeofenceIndexTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    record Zone(long id, Geometry boundary) {
+    }
+
+    @Test
+    void nonPolygonalRowsAreSkipped() {
+        List<Zone> rows = new ArrayList<>();
+        rows.add(new Zone(1, FACTORY.toGeometry(new Envelope(0, 10, 0, 10))));
+        rows.add(new Zone(2, FACTORY.createLineString(new Coordinate[]{new Coordinate(0, 0), new Coordinate(5, 5)})));
+
+        try (HotSwapGeofenceIndex<Zone> index = new HotSwapGeofenceIndex<>(mapperOf(rows), Zone::boundary,
+                Zone::id, null)) {
+            HotSwapGeofenceIndex.Stats stats = index.reload();
+            assertEquals(1, stats.version());
+            assertEquals(1, stats.fences());
+            assertEquals(1, stats.skippedRows());
+            assertEquals(List.of(rows.get(0)), index.locate(5, 5));
+
+            // Fixing the row brings it back on the next swap
+            rows.set(1, new Zone(2, FACTORY.toGeometry(new Envelope(20, 30, 20, 30))));
+            stats = index.refreshAsync().join();
+            assertEquals(2, stats.version());
+            assertEquals(2, stats.fences());
+            assertEquals(0, stats.skippedRows());
+        }
+    }
+
+    @Test
+    void refreshAfterCloseFails() {
+        HotSwapGeofenceIndex<Zone> index = new HotSwapGeofenceIndex<>(mapperOf(List.of()), Zone::boundary,
+            Zone::id, null);
+        index.close();
+
+        CompletableFuture<HotSwapGeofenceIndex.Stats> first = index.refreshAsync();
+        CompletionException e = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        CompletableFuture<HotSwapGeofenceIndex.Stats> second = index.refreshAsync();
+        assertNotSame(first, second);
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BaseMapper<Zone> mapperOf(List<Zone> rows) {
+        return (BaseMapper<Zone>) Proxy.newProxyInstance(BaseMapper.class.getClassLoader(),
+            new Class<?>[]{BaseMapper.class}, (proxy, method, args) -> {
+                if (method.getName().equals("selectList") && method.getParameterCount() == 1) {
+                    return new ArrayList<>(rows);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
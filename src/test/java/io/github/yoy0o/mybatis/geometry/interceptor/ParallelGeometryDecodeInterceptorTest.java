@@ -0,0 +1,139 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import io.github.yoy0o.mybatis.geometry.handler.PointTypeHandler;
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs {@link ParallelGeometryDecodeInterceptor} against an H2 table whose geometry column
+ * holds WKB hex strings, as returned by {@code ST_AsBinary} on MySQL.
+ */
+class ParallelGeometryDecodeInterceptorTest {
+
+    private static final String URL = "jdbc:h2:mem:parallel_decode;DB_CLOSE_DELAY=-1";
+
+    private static final GeometryFactory FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private static final Point FIRST = FACTORY.createPoint(new Coordinate(116.397, 39.909));
+    private static final Point SECOND = FACTORY.createPoint(new Coordinate(121.473, 31.230));
+
+    private static Connection keepAlive;
+    private static SqlSessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        keepAlive = DriverManager.getConnection(URL);
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE place (id INT PRIMARY KEY, name VARCHAR(64), location VARCHAR(256))");
+            // Row 1: the geometry is the only non-null mapped column
+            statement.execute("INSERT INTO place VALUES (1, NULL, '" + WkbUtil.toWkb(FIRST) + "')");
+            statement.execute("INSERT INTO place VALUES (2, 'second', '" + WkbUtil.toWkb(SECOND) + "')");
+            // Row 3: every mapped column is null
+            statement.execute("INSERT INTO place VALUES (3, NULL, NULL)");
+        }
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(),
+            new UnpooledDataSource("org.h2.Driver", URL, null, null)));
+        configuration.addMapper(PlaceMapper.class);
+        configuration.addInterceptor(new ParallelGeometryDecodeInterceptor(1, 1));
+        sessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        keepAlive.close();
+    }
+
+    @Test
+    void rowWithOnlyGeometryIsMapped() {
+        try (SqlSession session = sessionFactory.openSession()) {
+            List<Place> places = session.getMapper(PlaceMapper.class).selectAll();
+
+            assertEquals(3, places.size());
+            assertNotNull(places.get(0), "row whose only value is the geometry must not map to null");
+            assertNull(places.get(0).getName());
+            assertEquals(FIRST, places.get(0).getLocation());
+            assertEquals(SECOND, places.get(1).getLocation());
+            assertNull(places.get(2), "row with only null columns maps to null as without the interceptor");
+        }
+    }
+
+    @Test
+    void resultHandlerStatementsAreNotDeferred() {
+        List<Place> handled = new ArrayList<>();
+        try (SqlSession session = sessionFactory.openSession()) {
+            session.getMapper(PlaceMapper.class).streamAll(context -> handled.add(context.getResultObject()));
+        }
+
+        assertEquals(3, handled.size());
+        assertEquals(FIRST, handled.get(0).getLocation());
+        assertEquals(SECOND, handled.get(1).getLocation());
+        assertFalse(handled.get(1).getLocation().isEmpty());
+        assertNull(handled.get(2));
+    }
+
+    interface PlaceMapper {
+
+        @Select("SELECT name, location FROM place ORDER BY id")
+        @Results(id = "placeMap", value = {
+            @Result(column = "name", property = "name"),
+            @Result(column = "location", property = "location", typeHandler = PointTypeHandler.class)
+        })
+        List<Place> selectAll();
+
+        @Select("SELECT name, location FROM place ORDER BY id")
+        @ResultMap("placeMap")
+        void streamAll(ResultHandler<Place> handler);
+    }
+
+    public static class Place {
+
+        private String name;
+        private Point location;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Point getLocation() {
+            return location;
+        }
+
+        public void setLocation(Point location) {
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.yoy0o.mybatis.geometry.interceptor;
+
+import io.github.yoy0o.mybatis.geometry.annotation.PointTableField;
+import io.github.yoy0o.mybatis.geometry.util.SpatialOrder;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SpatialInsertOrderInterceptorTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    public static class Station {
+
+        @PointTableField
+        private Point location;
+
+        Station(double x, double y) {
+            this.location = FACTORY.createPoint(new Coordinate(x, y));
+        }
+
+        Point getLocation() {
+            return location;
+        }
+    }
+
+    @Test
+    void sortsACopyAndLeavesCallerListUntouched() throws Throwable {
+        List<Station> stations = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            // Alternate between two far-apart clusters so curve order differs from input order
+            stations.add(new Station(i % 2 == 0 ? i : 1000 + i, i % 2 == 0 ? i : 1000 + i));
+        }
+        List<Station> original = new ArrayList<>(stations);
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("list", stations);
+        parameter.put("param1", stations);
+
+        Object[] executed = new Object[1];
+        Executor executor = (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(),
+            new Class<?>[]{Executor.class}, (proxy, method, args) -> {
+                executed[0] = args[1];
+                return 1;
+            });
+        MappedStatement statement = new MappedStatement.Builder(new Configuration(), "insertBatch",
+            (SqlSource) object -> null, SqlCommandType.INSERT).build();
+
+        new SpatialInsertOrderInterceptor(SpatialOrder.HILBERT).intercept(new Invocation(executor,
+            Executor.class.getMethod("update", MappedStatement.class, Object.class),
+            new Object[]{statement, parameter}));
+
+        assertEquals(original, stations);
+        assertSame(parameter, executed[0]);
+        Object sorted = parameter.get("list");
+        assertNotSame(stations, sorted);
+        assertSame(sorted, parameter.get("param1"));
+
+        List<Station> expected = new ArrayList<>(stations);
+        SpatialOrder.HILBERT.sort(expected, Station::getLocation);
+        assertEquals(expected, sorted);
+        assertNotEquals(original, sorted);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.yoy0o.mybatis.geometry.codec.WkbGeometry;
+import io.github.yoy0o.mybatis.geometry.exception.GeoJsonParseException;
+import io.github.yoy0o.mybatis.geometry.exception.InvalidCoordinateException;
+import io.github.yoy0o.mybatis.geometry.util.WkbUtil;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryGeometryFormatTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final double[] SQUARE_CCW = {0, 0, 1, 0, 1, 1, 0, 1, 0, 0};
+
+    @Test
+    void keepsEmbeddedSridAndDefaultsSridZero() throws IOException {
+        Polygon withSrid = read(new PolygonDeserializer(), polygonWkb(3857, SQUARE_CCW));
+        assertEquals(3857, withSrid.getSRID());
+
+        Polygon withoutSrid = read(new PolygonDeserializer(), polygonWkb(0, SQUARE_CCW));
+        assertEquals(WkbUtil.DEFAULT_SRID, withoutSrid.getSRID());
+        assertEquals(1.0, withoutSrid.getArea());
+    }
+
+    @Test
+    void rejectsOutOfRangeCoordinates() {
+        byte[] wkb = polygonWkb(0, new double[]{0, 0, 200, 0, 200, 1, 0, 1, 0, 0});
+        assertThrows(InvalidCoordinateException.class, () -> read(new PolygonDeserializer(), wkb));
+        assertThrows(InvalidCoordinateException.class, () -> read(new GeometryDeserializer(), wkb));
+        assertThrows(InvalidCoordinateException.class, () -> read(new WkbGeometryDeserializer(), wkb));
+    }
+
+    @Test
+    void rejectsNonFiniteCoordinatesWithoutRangeCheck() {
+        byte[] wkb = polygonWkb(0, new double[]{0, 0, Double.NaN, 0, 1, 1, 0, 1, 0, 0});
+        assertThrows(InvalidCoordinateException.class, () -> read(new PolygonDeserializer(false), wkb));
+    }
+
+    @Test
+    void rejectsUnclosedAndShortRings() {
+        byte[] unclosed = polygonWkb(0, new double[]{0, 0, 1, 0, 1, 1, 0, 1});
+        assertThrows(GeoJsonParseException.class, () -> read(new PolygonDeserializer(), unclosed));
+        assertThrows(GeoJsonParseException.class, () -> read(new WkbGeometryDeserializer(), unclosed));
+
+        byte[] shortRing = polygonWkb(0, new double[]{0, 0, 1, 1, 0, 0});
+        assertThrows(GeoJsonParseException.class, () -> read(new PolygonDeserializer(), shortRing));
+    }
+
+    @Test
+    void rejectsInvalidPolygon() {
+        // Bow tie: self-intersecting exterior ring
+        byte[] wkb = polygonWkb(0, new double[]{0, 0, 1, 1, 1, 0, 0, 1, 0, 0});
+        assertThrows(GeoJsonParseException.class, () -> read(new PolygonDeserializer(), wkb));
+        assertThrows(GeoJsonParseException.class, () -> read(new GeometryDeserializer(), wkb));
+    }
+
+    @Test
+    void normalizesRingOrientation() throws IOException {
+        double[] clockwise = {0, 0, 0, 1, 1, 1, 1, 0, 0, 0};
+        Polygon polygon = read(new PolygonDeserializer(), polygonWkb(0, clockwise));
+        assertTrue(Orientation.isCCW(polygon.getExteriorRing().getCoordinateSequence()));
+
+        WkbGeometry wkb = read(new WkbGeometryDeserializer(), polygonWkb(4490, clockwise));
+        assertEquals(4490, wkb.getSrid());
+        assertTrue(Orientation.isCCW(((Polygon) wkb.toGeometry()).getExteriorRing().getCoordinateSequence()));
+    }
+
+    @Test
+    void rejectsTypeMismatch() {
+        ByteBuffer point = ByteBuffer.allocate(4 + 21).order(ByteOrder.LITTLE_ENDIAN);
+        point.putInt(0).put((byte) 1).putInt(1).putDouble(1).putDouble(2);
+        assertThrows(GeoJsonParseException.class, () -> read(new PolygonDeserializer(), point.array()));
+    }
+
+    private static <T> T read(JsonDeserializer<T> deserializer, byte[] embedded) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(MAPPER, false);
+        buffer.writeBinary(embedded);
+        try (JsonParser parser = buffer.asParser(MAPPER)) {
+            parser.nextToken();
+            return deserializer.deserialize(parser, MAPPER.getDeserializationContext());
+        }
+    }
+
+    /** SRID-prefixed little-endian WKB polygon with one ring, written as given (no closing or padding). */
+    private static byte[] polygonWkb(int srid, double[] xy) {
+        ByteBuffer out = ByteBuffer.allocate(4 + 1 + 4 + 4 + 4 + xy.length * Double.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(srid).put((byte) 1).putInt(3).putInt(1).putInt(xy.length / 2);
+        for (double value : xy) {
+            out.putDouble(value);
+        }
+        return out.array();
+    }
+}
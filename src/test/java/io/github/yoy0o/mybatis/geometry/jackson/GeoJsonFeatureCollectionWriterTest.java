@@ -0,0 +1,86 @@
+package io.github.yoy0o.mybatis.geometry.jackson;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.yoy0o.mybatis.geometry.annotation.PointTableField;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoJsonFeatureCollectionWriterTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    @Test
+    void streamsFeaturesWithoutFlushingPerValue() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new GeometryJacksonModule());
+        List<Zone> zones = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            zones.add(new Zone((long) i, "zone-" + i, FACTORY.createPoint(new Coordinate(i, -i))));
+        }
+        zones.add(new Zone(100L, null, null));
+
+        CountingFlushStream out = new CountingFlushStream();
+        long written = new GeoJsonFeatureCollectionWriter(objectMapper).write(zones, out);
+
+        assertEquals(101, written);
+        // Only the generator's own flush on close reaches the stream
+        assertTrue(out.flushes <= 1, "expected at most 1 flush, got " + out.flushes);
+
+        JsonNode features = objectMapper.readTree(out.toByteArray()).get("features");
+        assertEquals(101, features.size());
+        JsonNode first = features.get(1);
+        assertEquals(1, first.get("id").asLong());
+        assertEquals("Point", first.get("geometry").get("type").asText());
+        assertEquals("zone-1", first.get("properties").get("name").asText());
+        JsonNode last = features.get(100);
+        assertTrue(last.get("geometry").isNull());
+        assertTrue(last.get("properties").get("name").isNull());
+    }
+
+    public static class Zone {
+
+        @TableId
+        private Long id;
+        private String name;
+        @PointTableField
+        private Point location;
+
+        Zone(Long id, String name, Point location) {
+            this.id = id;
+            this.name = name;
+            this.location = location;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Point getLocation() {
+            return location;
+        }
+    }
+
+    private static final class CountingFlushStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.yoy0o.mybatis.geometry.query;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.yoy0o.mybatis.geometry.strategy.PostGISGeometryStrategy;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearestNeighborSearchTest {
+
+    private static final GeometryFactory WGS84 = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Poi.class);
+    }
+
+    @Test
+    void ranksByGeodesicDistanceAtHighLatitude() {
+        Point origin = WGS84.createPoint(new Coordinate(10, 80));
+        // 1 degree of longitude at 80N is ~19 km; 0.5 degrees of latitude is ~56 km
+        Poi east = new Poi(1L, WGS84.createPoint(new Coordinate(11, 80)));
+        Poi north = new Poi(2L, WGS84.createPoint(new Coordinate(10, 80.5)));
+        List<String> orderBy = new ArrayList<>();
+
+        NearestNeighborSearch<Poi> search = new NearestNeighborSearch<>(postgis(List.of(north, east), orderBy),
+            Poi::getLocation, 100_000, new PostGISGeometryStrategy());
+        List<Poi> nearest = search.find(origin, 1);
+
+        assertEquals(List.of(east), nearest);
+        assertTrue(orderBy.get(0).contains("location::geography <-> "), orderBy.get(0));
+    }
+
+    @Test
+    void planarSridKeepsIndexOrderedKnn() {
+        GeometryFactory mercator = new GeometryFactory(new PrecisionModel(), 3857);
+        Poi near = new Poi(1L, mercator.createPoint(new Coordinate(1, 0)));
+        Poi far = new Poi(2L, mercator.createPoint(new Coordinate(5, 0)));
+        List<String> orderBy = new ArrayList<>();
+
+        NearestNeighborSearch<Poi> search = new NearestNeighborSearch<>(postgis(List.of(far, near), orderBy),
+            Poi::getLocation, 10, new PostGISGeometryStrategy());
+
+        assertEquals(List.of(near), search.find(mercator.createPoint(new Coordinate(0, 0)), 1));
+        assertEquals(1, orderBy.size());
+        assertTrue(orderBy.get(0).contains("location <-> "), orderBy.get(0));
+    }
+
+    /**
+     * Mapper standing in for PostGIS: ranks all rows the way the rendered ORDER BY would
+     * (sphere meters for a geography cast, planar SRID units otherwise) and applies the LIMIT.
+     */
+    @SuppressWarnings("unchecked")
+    private static BaseMapper<Poi> postgis(List<Poi> rows, List<String> orderBy) {
+        return (BaseMapper<Poi>) Proxy.newProxyInstance(BaseMapper.class.getClassLoader(),
+            new Class<?>[]{BaseMapper.class}, (proxy, method, args) -> {
+                if (!method.getName().equals("selectList") || method.getParameterCount() != 1) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                SpatialLambdaQueryWrapper<Poi> wrapper = (SpatialLambdaQueryWrapper<Poi>) args[0];
+                String sql = wrapper.getSqlSegment();
+                orderBy.add(sql.substring(sql.indexOf("ORDER BY")));
+                Point origin = (Point) wrapper.getParamNameValuePairs().values().stream()
+                    .filter(Point.class::isInstance).findFirst().orElseThrow();
+                boolean geography = sql.contains("::geography <->");
+                int limit = Integer.parseInt(sql.substring(sql.lastIndexOf("LIMIT ") + 6).trim());
+                return rows.stream()
+                    .sorted(Comparator.comparingDouble(row -> geography
+                        ? sphereMeters(origin, row.getLocation()) : origin.distance(row.getLocation())))
+                    .limit(limit)
+                    .toList();
+            });
+    }
+
+    private static double sphereMeters(Point a, Point b) {
+        double lat1 = Math.toRadians(a.getY());
+        double lat2 = Math.toRadians(b.getY());
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(b.getX() - a.getX()) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * 6_371_008.8 * Math.asin(Math.sqrt(h));
+    }
+
+    public static class Poi {
+
+        private Long id;
+        private Point location;
+
+        public Poi() {
+        }
+
+        Poi(Long id, Point location) {
+            this.id = id;
+            this.location = location;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Point getLocation() {
+            return location;
+        }
+    }
+}
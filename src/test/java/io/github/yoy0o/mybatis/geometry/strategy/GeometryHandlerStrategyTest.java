@@ -0,0 +1,55 @@
+package io.github.yoy0o.mybatis.geometry.strategy;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GeometryHandlerStrategyTest {
+
+    /** A user strategy written against the original SPI, before the spatial query methods existed */
+    private static final class LegacyStrategy implements GeometryHandlerStrategy {
+
+        @Override
+        public DatabaseType getSupportedDatabaseType() {
+            return DatabaseType.MYSQL;
+        }
+
+        @Override
+        public String wrapColumnForSelect(String columnName) {
+            return "HEX(" + columnName + ") AS " + columnName;
+        }
+
+        @Override
+        public String getGeometryInputFunction() {
+            return "?";
+        }
+
+        @Override
+        public Object convertForDatabase(Geometry geometry) {
+            return null;
+        }
+
+        @Override
+        public Geometry parseFromDatabase(Object dbValue) {
+            return null;
+        }
+    }
+
+    @Test
+    void spatialQueryMethodsDefaultToPortableSql() {
+        GeometryHandlerStrategy strategy = new LegacyStrategy();
+
+        assertFalse(strategy.supportsIndexOrderedDistance());
+        assertEquals("ST_Contains(location, ?)", strategy.renderSpatialPredicate(
+            new SpatialPredicate(SpatialOperator.CONTAINS, "location", "?", null, null, true)));
+        assertEquals("ST_Intersects(location, ?)", strategy.renderSpatialPredicate(
+            new SpatialPredicate(SpatialOperator.INTERSECTS, "location", "?", null, null, true)));
+        assertEquals("ST_Distance(location, ?) <= ?", strategy.renderSpatialPredicate(
+            new SpatialPredicate(SpatialOperator.DWITHIN, "location", "?", "?", "?", false)));
+        assertEquals("ST_Intersects(ST_Envelope(location), ST_Envelope(?))", strategy.renderSpatialPredicate(
+            new SpatialPredicate(SpatialOperator.BBOX_INTERSECTS, "location", "?", null, null, true)));
+        assertEquals("ST_Distance(location, ?)", strategy.renderDistanceOrder("location", "?", true));
+    }
+}
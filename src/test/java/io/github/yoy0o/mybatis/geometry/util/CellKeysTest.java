@@ -0,0 +1,97 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import io.github.yoy0o.mybatis.geometry.annotation.CellKeyType;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.DoubleRange;
+import net.jqwik.api.constraints.IntRange;
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CellKeysTest {
+
+    @Example
+    void geohashMatchesReferenceValues() {
+        // Published reference values (Wikipedia / geohash.org)
+        assertEquals("u4pruydqqvj", CellKeys.encode(CellKeyType.GEOHASH, 10.40744, 57.64911, 11));
+        assertEquals("ezs42", CellKeys.encode(CellKeyType.GEOHASH, -5.6, 42.6, 5));
+        assertEquals("gcpvj0", CellKeys.encode(CellKeyType.GEOHASH, -0.1275, 51.5072, 6));
+        assertEquals("s", CellKeys.encode(CellKeyType.GEOHASH, 0, 0, 1));
+        assertEquals("0000", CellKeys.encode(CellKeyType.GEOHASH, -180, -90, 4));
+        assertEquals("zzzz", CellKeys.encode(CellKeyType.GEOHASH, 180, 90, 4));
+    }
+
+    @Example
+    void quadkeyMatchesReferenceValues() {
+        // Bing Maps tile system example: tile (3, 5) at level 3
+        assertEquals("213", CellKeys.encode(CellKeyType.QUADKEY, -22.5, -55.8, 3));
+        assertEquals("02123", CellKeys.encode(CellKeyType.QUADKEY, -122.33, 47.61, 5));
+        // Level 1 quadrants: 0 NW, 1 NE, 2 SW, 3 SE
+        assertEquals("0", CellKeys.encode(CellKeyType.QUADKEY, -90, 45, 1));
+        assertEquals("1", CellKeys.encode(CellKeyType.QUADKEY, 90, 45, 1));
+        assertEquals("2", CellKeys.encode(CellKeyType.QUADKEY, -90, -45, 1));
+        assertEquals("3", CellKeys.encode(CellKeyType.QUADKEY, 90, -45, 1));
+    }
+
+    @Example
+    void worldEnvelopeHasNoPrefilter() {
+        Envelope world = new Envelope(-180, 180, -90, 90);
+        assertTrue(CellKeys.coveringPrefixes(CellKeyType.GEOHASH, world, 8, 64).isEmpty());
+        assertTrue(CellKeys.coveringPrefixes(CellKeyType.QUADKEY, world, 18, 64).isEmpty());
+    }
+
+    @Property(tries = 500)
+    void geohashPrefixesCoverEveryPointInEnvelope(@ForAll @DoubleRange(min = -180, max = 160) double lon,
+                                                  @ForAll @DoubleRange(min = -90, max = 70) double lat,
+                                                  @ForAll @DoubleRange(min = 0, max = 20) double width,
+                                                  @ForAll @DoubleRange(min = 0, max = 20) double height,
+                                                  @ForAll @IntRange(min = 1, max = 12) int precision,
+                                                  @ForAll @IntRange(min = 1, max = 64) int maxPrefixes,
+                                                  @ForAll long seed) {
+        assertCovered(CellKeyType.GEOHASH, new Envelope(lon, lon + width, lat, lat + height),
+            precision, maxPrefixes, seed);
+    }
+
+    @Property(tries = 500)
+    void quadkeyPrefixesCoverEveryPointInEnvelope(@ForAll @DoubleRange(min = -180, max = 160) double lon,
+                                                  @ForAll @DoubleRange(min = -85, max = 65) double lat,
+                                                  @ForAll @DoubleRange(min = 0, max = 20) double width,
+                                                  @ForAll @DoubleRange(min = 0, max = 20) double height,
+                                                  @ForAll @IntRange(min = 1, max = 23) int precision,
+                                                  @ForAll @IntRange(min = 1, max = 64) int maxPrefixes,
+                                                  @ForAll long seed) {
+        assertCovered(CellKeyType.QUADKEY, new Envelope(lon, lon + width, lat, lat + height),
+            precision, maxPrefixes, seed);
+    }
+
+    private static void assertCovered(CellKeyType type, Envelope envelope, int precision, int maxPrefixes,
+                                      long seed) {
+        List<String> prefixes = CellKeys.coveringPrefixes(type, envelope, precision, maxPrefixes);
+        // No prefilter: every key matches
+        Assume.that(!prefixes.isEmpty());
+        assertTrue(prefixes.size() <= maxPrefixes, prefixes.size() + " prefixes");
+
+        Random random = new Random(seed);
+        double[][] points = new double[24][];
+        points[0] = new double[]{envelope.getMinX(), envelope.getMinY()};
+        points[1] = new double[]{envelope.getMinX(), envelope.getMaxY()};
+        points[2] = new double[]{envelope.getMaxX(), envelope.getMinY()};
+        points[3] = new double[]{envelope.getMaxX(), envelope.getMaxY()};
+        for (int i = 4; i < points.length; i++) {
+            points[i] = new double[]{envelope.getMinX() + random.nextDouble() * envelope.getWidth(),
+                envelope.getMinY() + random.nextDouble() * envelope.getHeight()};
+        }
+        for (double[] point : points) {
+            String key = CellKeys.encode(type, point[0], point[1], precision);
+            assertTrue(prefixes.stream().anyMatch(key::startsWith),
+                key + " at " + point[0] + "," + point[1] + " not covered by " + prefixes);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.yoy0o.mybatis.geometry.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the hand-written WKB encoder against JTS {@link WKBWriter}: {@code toWkbBytes} must equal a
+ * 4-byte little-endian SRID followed by little-endian 2D WKB, byte for byte.
+ */
+class WkbUtilTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory(new PrecisionModel(), 3857);
+
+    /** Coordinates stored as packed doubles with a Z ordinate, which is not written */
+    private static final GeometryFactory PACKED_XYZ_FACTORY = new GeometryFactory(new PrecisionModel(), 4490,
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    @Test
+    void encodesLikeWkbWriter() {
+        for (Geometry geometry : samples()) {
+            assertArrayEquals(referenceWkb(geometry), WkbUtil.toWkbBytes(geometry), geometry::toText);
+        }
+    }
+
+    @Test
+    void hexMatchesBytes() {
+        for (Geometry geometry : samples()) {
+            String hex = WkbUtil.toWkb(geometry);
+            assertEquals(HexFormat.of().withUpperCase().formatHex(referenceWkb(geometry)), hex, geometry::toText);
+        }
+    }
+
+    @Test
+    void roundTripsThroughHex() {
+        for (Geometry geometry : samples()) {
+            Geometry decoded = WkbUtil.fromWkb(WkbUtil.toWkb(geometry));
+            assertTrue(decoded.equalsExact(geometry), geometry::toText);
+            assertEquals(geometry.getSRID(), decoded.getSRID(), geometry::toText);
+        }
+    }
+
+    @Test
+    void defaultsMissingSrid() {
+        Geometry point = new GeometryFactory().createPoint(new Coordinate(1, 2));
+        byte[] wkb = WkbUtil.toWkbBytes(point);
+
+        assertEquals(WkbUtil.DEFAULT_SRID, ByteBuffer.wrap(wkb).order(ByteOrder.LITTLE_ENDIAN).getInt());
+        assertEquals(WkbUtil.DEFAULT_SRID, WkbUtil.fromWkb(WkbUtil.toWkb(point)).getSRID());
+    }
+
+    @Test
+    void decodesBigEndianWkb() {
+        Geometry polygon = FACTORY.toGeometry(new Envelope(0, 10, 0, 10));
+        byte[] wkb = new WKBWriter(2, ByteOrderValues.BIG_ENDIAN).write(polygon);
+        byte[] withSrid = ByteBuffer.allocate(4 + wkb.length).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(3857).put(wkb).array();
+
+        Geometry decoded = WkbUtil.fromWkb(HexFormat.of().formatHex(withSrid));
+        assertTrue(decoded.equalsExact(polygon));
+        assertEquals(3857, decoded.getSRID());
+    }
+
+    private static byte[] referenceWkb(Geometry geometry) {
+        int srid = geometry.getSRID() == 0 ? WkbUtil.DEFAULT_SRID : geometry.getSRID();
+        byte[] wkb = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN).write(geometry);
+        return ByteBuffer.allocate(4 + wkb.length).order(ByteOrder.LITTLE_ENDIAN).putInt(srid).put(wkb).array();
+    }
+
+    private static List<Geometry> samples() {
+        List<Geometry> samples = new ArrayList<>();
+        samples.add(FACTORY.createPoint(new Coordinate(121.473701, 31.230416)));
+        samples.add(FACTORY.createPoint(new Coordinate(-180, -90)));
+        samples.add(FACTORY.createLineString(new Coordinate[]{new Coordinate(0, 0), new Coordinate(1, 1)}));
+        samples.add(FACTORY.createPolygon(
+            ring(FACTORY, 0, 0, 10, 32), new LinearRing[]{ring(FACTORY, 2, 2, 1, 8), ring(FACTORY, -3, -3, 2, 5)}));
+        samples.add(PACKED_XYZ_FACTORY.createLineString(new Coordinate[]{
+            new Coordinate(116.1, 39.2, 50), new Coordinate(116.2, 39.3, 60), new Coordinate(116.3, 39.1, 70)}));
+        samples.add(PACKED_XYZ_FACTORY.createPolygon(ring(PACKED_XYZ_FACTORY, 116, 39, 0.5, 64)));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            double cx = random.nextDouble() * 360 - 180;
+            double cy = random.nextDouble() * 180 - 90;
+            samples.add(FACTORY.createPolygon(ring(FACTORY, cx, cy, random.nextDouble() * 5 + 0.1,
+                3 + random.nextInt(200))));
+            samples.add(FACTORY.createPoint(new Coordinate(cx, cy)));
+        }
+        return samples;
+    }
+
+    private static LinearRing ring(GeometryFactory factory, double cx, double cy, double radius, int vertices) {
+        Coordinate[] coordinates = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            coordinates[i] = new Coordinate(cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+        }
+        coordinates[vertices] = coordinates[0].copy();
+        return factory.createLinearRing(coordinates);
+    }
+}